@@ -0,0 +1,33 @@
+plugins {
+    alias(libs.plugins.geogebra.java)
+    alias(libs.plugins.jmh)
+}
+
+description = "JMH benchmarks of kernel, plotting and I/O hot paths"
+
+// Run all benchmarks with ./gradlew :benchmarks:jmh, results are written to
+// build/results/jmh/results.json. Select benchmarks and construction sizes with
+// e.g. -Pjmh.includes=UpdateCascade -Pjmh.size=100,10000
+// The self-contained jar from :benchmarks:jmhJar runs without Gradle or network:
+// java -jar benchmarks-jmh.jar -rf json -rff results.json
+
+dependencies {
+    jmh(project(":desktop"))
+    jmh("org.geogebra:common")
+    jmh("org.geogebra:common-jre")
+    jmh(testFixtures("org.geogebra:common-jre"))
+    jmh("org.geogebra:ggbjdk")
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    jvmArgs.add("--enable-native-access=ALL-UNNAMED")
+    providers.gradleProperty("jmh.includes").orNull?.let {
+        includes.add(it)
+    }
+    providers.gradleProperty("jmh.size").orNull?.let {
+        benchmarkParameters.put("size", objects.listProperty<String>().value(it.split(",")))
+    }
+}
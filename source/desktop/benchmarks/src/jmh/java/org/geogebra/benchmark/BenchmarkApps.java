@@ -0,0 +1,85 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import org.geogebra.common.AppCommonFactory;
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.jre.headless.AppCommon;
+import org.geogebra.common.kernel.commands.AlgebraProcessor;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.desktop.factories.CASFactoryD;
+import org.geogebra.desktop.factories.UtilFactoryD;
+
+/**
+ * Headless apps and generated constructions for benchmarks.
+ */
+public final class BenchmarkApps {
+
+	private BenchmarkApps() {
+		// utility class
+	}
+
+	/**
+	 * @return headless app without CAS
+	 */
+	public static AppCommon create() {
+		return AppCommonFactory.create3D();
+	}
+
+	/**
+	 * @return headless app using Giac through JNI
+	 */
+	public static AppCommon createWithCAS() {
+		UtilFactory.setPrototypeIfNull(new UtilFactoryD());
+		AppCommon app = create();
+		app.setCASFactory(new CASFactoryD());
+		return app;
+	}
+
+	/**
+	 * Creates a chain of numbers n1, ..., n{size}, each depending on the
+	 * previous one, and a point depending on each of them, so that updating n1
+	 * updates all 2 * size elements.
+	 *
+	 * @param app
+	 *            app
+	 * @param size
+	 *            length of the chain
+	 * @return first number of the chain
+	 */
+	public static GeoElement createChain(AppCommon app, int size) {
+		add(app, "n1 = 1");
+		add(app, "P1 = (n1, sin(n1))");
+		for (int i = 2; i <= size; i++) {
+			add(app, "n" + i + " = 0.999 n" + (i - 1) + " + 1");
+			add(app, "P" + i + " = (n" + i + ", sin(n" + i + "))");
+		}
+		return app.getKernel().lookupLabel("n1");
+	}
+
+	/**
+	 * @param app
+	 *            app
+	 * @param command
+	 *            algebra input
+	 * @return first created element
+	 */
+	public static GeoElement add(AppCommon app, String command) {
+		AlgebraProcessor processor = app.getKernel().getAlgebraProcessor();
+		return processor.processAlgebraCommand(command, false)[0].toGeoElement();
+	}
+}
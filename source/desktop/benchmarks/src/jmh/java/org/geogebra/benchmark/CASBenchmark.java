@@ -0,0 +1,86 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.kernel.GeoGebraCasInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Raw Giac evaluation of polynomials of given degree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CASBenchmark {
+
+	/** polynomial degree */
+	@Param({"10", "50"})
+	public int size;
+
+	private GeoGebraCasInterface cas;
+	private String expand;
+	private String factor;
+
+	/**
+	 * Loads Giac.
+	 *
+	 * @throws Throwable
+	 *             if Giac is not available
+	 */
+	@Setup
+	public void setup() throws Throwable {
+		cas = BenchmarkApps.createWithCAS().getKernel().getGeoGebraCAS();
+		cas.evaluateRaw("1+1");
+		expand = "expand((x+y+1)^" + size + ")";
+		factor = "factor(x^" + size + "-1)";
+	}
+
+	/**
+	 * @return expanded polynomial
+	 * @throws Throwable
+	 *             on CAS error
+	 */
+	@Benchmark
+	public String expand() throws Throwable {
+		return cas.evaluateRaw(expand);
+	}
+
+	/**
+	 * @return factored polynomial
+	 * @throws Throwable
+	 *             on CAS error
+	 */
+	@Benchmark
+	public String factor() throws Throwable {
+		return cas.evaluateRaw(factor);
+	}
+}
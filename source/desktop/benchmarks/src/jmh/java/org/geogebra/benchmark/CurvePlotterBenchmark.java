@@ -0,0 +1,80 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.euclidian.EuclidianView;
+import org.geogebra.common.euclidian.plot.CurvePlotter;
+import org.geogebra.common.euclidian.plot.Gap;
+import org.geogebra.common.euclidian.plot.GeneralPathClippedForCurvePlotter;
+import org.geogebra.common.jre.headless.AppCommon;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Plotting a function that oscillates given number of times in the view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurvePlotterBenchmark {
+
+	/** frequency of the function */
+	@Param({"1", "10", "100"})
+	public int size;
+
+	private GeoFunction function;
+	private EuclidianView view;
+	private GeneralPathClippedForCurvePlotter path;
+
+	/**
+	 * Creates the function.
+	 */
+	@Setup
+	public void setup() {
+		AppCommon app = BenchmarkApps.create();
+		function = (GeoFunction) BenchmarkApps.add(app,
+				"f(x) = sin(" + size + " x) + x / 2");
+		view = app.getActiveEuclidianView();
+		path = new GeneralPathClippedForCurvePlotter(view);
+	}
+
+	/**
+	 * @return plotted path
+	 */
+	@Benchmark
+	public GeneralPathClippedForCurvePlotter plot() {
+		path.reset();
+		CurvePlotter.plotCurve(function, view.getXmin(), view.getXmax(), view,
+				path, false, Gap.MOVE_TO);
+		return path;
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.jre.factory.FormatFactoryJre;
+import org.geogebra.common.jre.util.ScientificFormat;
+import org.geogebra.common.util.DoubleFormatter;
+import org.geogebra.common.util.NumberFormatAdapter;
+import org.geogebra.common.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formatting numbers with {@link DoubleFormatter} compared to the JRE
+ * formatters it replaces in Kernel.format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleFormatBenchmark {
+
+	/** number of formatted values */
+	@Param({"1000"})
+	public int size;
+
+	/** fractional digits, significant digits are two more */
+	@Param({"2", "10"})
+	public int digits;
+
+	private double[] values;
+	private NumberFormatAdapter numberFormat;
+	private ScientificFormat scientificFormat;
+	private final StringBuilder sb = new StringBuilder();
+
+	/**
+	 * Creates random values with different magnitudes.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = (random.nextDouble() - 0.5)
+					* Math.pow(10, random.nextInt(8) - 3);
+		}
+		numberFormat = new FormatFactoryJre().getNumberFormat(digits);
+		scientificFormat = new ScientificFormat(digits + 2, 16, false);
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder numberFormat() {
+		sb.setLength(0);
+		for (double x : values) {
+			sb.append(numberFormat.format(x));
+		}
+		return sb;
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder appendFixed() {
+		sb.setLength(0);
+		for (double x : values) {
+			DoubleFormatter.appendFixed(sb, x, digits);
+		}
+		return sb;
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder scientificFormat() {
+		sb.setLength(0);
+		for (double x : values) {
+			StringUtil.appendFormat(sb, x, scientificFormat);
+		}
+		return sb;
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder appendSignificant() {
+		sb.setLength(0);
+		for (double x : values) {
+			DoubleFormatter.appendSignificant(sb, x, digits + 2, 16);
+		}
+		return sb;
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder doubleToString() {
+		sb.setLength(0);
+		for (double x : values) {
+			sb.append(x);
+		}
+		return sb;
+	}
+
+	/**
+	 * @return formatted values
+	 */
+	@Benchmark
+	public StringBuilder appendShortest() {
+		sb.setLength(0);
+		for (double x : values) {
+			DoubleFormatter.appendShortest(sb, x);
+		}
+		return sb;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.kernel.arithmetic.Function;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a function with given number of terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionValueBenchmark {
+
+	/** number of terms */
+	@Param({"10", "100"})
+	public int size;
+
+	private Function function;
+	private double x;
+
+	/**
+	 * Creates f(x) = sin(x) / 1 + sin(2x) / 2 + ...
+	 */
+	@Setup
+	public void setup() {
+		StringBuilder definition = new StringBuilder("f(x) = 0");
+		for (int i = 1; i <= size; i++) {
+			definition.append(" + sin(").append(i).append(" x) / ").append(i);
+		}
+		GeoFunction f = (GeoFunction) BenchmarkApps.add(BenchmarkApps.create(),
+				definition.toString());
+		function = f.getFunction();
+	}
+
+	/**
+	 * @return function value
+	 */
+	@Benchmark
+	public double value() {
+		x = x > 10 ? -10 : x + 0.01;
+		return function.value(x);
+	}
+}
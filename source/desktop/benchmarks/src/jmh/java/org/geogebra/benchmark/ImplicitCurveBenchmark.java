@@ -0,0 +1,70 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.kernel.geos.GeoLocus;
+import org.geogebra.common.kernel.implicit.GeoImplicitCurve;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Path of an implicit curve (adaptive quad tree) with a number of components
+ * growing with the size parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImplicitCurveBenchmark {
+
+	/** frequency of the curve */
+	@Param({"1", "5", "20"})
+	public int size;
+
+	private GeoImplicitCurve curve;
+
+	/**
+	 * Creates the curve.
+	 */
+	@Setup
+	public void setup() {
+		curve = (GeoImplicitCurve) BenchmarkApps.add(BenchmarkApps.create(),
+				"sin(" + size + " x) + sin(" + size + " y) = 0.5");
+	}
+
+	/**
+	 * @return recomputed path
+	 */
+	@Benchmark
+	public GeoLocus updatePath() {
+		curve.updatePath();
+		return curve.getLocus();
+	}
+}
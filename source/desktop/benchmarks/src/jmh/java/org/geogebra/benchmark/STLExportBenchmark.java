@@ -0,0 +1,78 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTL;
+import org.geogebra.desktop.export.STLBinaryOutputD;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Export of given number of triangles as binary STL file compared to text STL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class STLExportBenchmark {
+
+	/** number of triangles */
+	@Param({"10000", "100000"})
+	public int size;
+
+	/**
+	 * @return number of written triangles
+	 */
+	@Benchmark
+	public int binaryFile() {
+		STLBinaryOutputD output = new STLBinaryOutputD();
+		output.start();
+		for (int i = 0; i < size; i++) {
+			output.addTriangle(0, 0, 1, i, 0, 0, i + 1, 0, 0, i, 1, 0.5);
+		}
+		output.end();
+		output.discard();
+		return output.getTriangleCount();
+	}
+
+	/**
+	 * @return length of the text
+	 */
+	@Benchmark
+	public int text() {
+		FormatSTL format = new FormatSTL();
+		StringBuilder sb = new StringBuilder();
+		format.getScriptStart(sb);
+		for (int i = 0; i < size; i++) {
+			format.getTriangle(sb, 0, 0, 1, i, 0, 0, i + 1, 0, 0, i, 1, 0.5);
+		}
+		format.getScriptEnd(sb);
+		return sb.length();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.geogebra.common.jre.headless.AppCommon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Saving and loading XML of a construction with 2 * size elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XMLioBenchmark {
+
+	/** length of the chain, see BenchmarkApps.createChain */
+	@Param({"100", "1000"})
+	public int size;
+
+	private AppCommon app;
+	private String xml;
+
+	/**
+	 * Creates the construction.
+	 */
+	@Setup
+	public void setup() {
+		app = BenchmarkApps.create();
+		BenchmarkApps.createChain(app, size);
+		xml = app.getXML();
+	}
+
+	/**
+	 * @return construction XML
+	 */
+	@Benchmark
+	public String save() {
+		return app.getXML();
+	}
+
+	/**
+	 * @return number of loaded construction steps
+	 */
+	@Benchmark
+	public int load() {
+		app.setXML(xml, true);
+		return app.getKernel().getConstruction().steps();
+	}
+}
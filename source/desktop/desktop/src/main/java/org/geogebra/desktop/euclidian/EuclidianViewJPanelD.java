@@ -26,6 +26,7 @@ import javax.swing.JPanel;
 
 import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.EuclidianViewJPanel;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.desktop.awt.GGraphics2DD;
 import org.geogebra.desktop.awt.GRectangleD;
 
@@ -95,6 +96,9 @@ public class EuclidianViewJPanelD extends JPanel
 	@Override
 	final public void paint(Graphics g) {
 		g2.setImpl((Graphics2D) g);
+		MetricsRegistry metrics = view.getApplication().getMetrics();
+		double start = metrics.now();
 		view.paint(g2);
+		metrics.recordSince(MetricsRegistry.REPAINT + view.getViewID(), start);
 	}
 }
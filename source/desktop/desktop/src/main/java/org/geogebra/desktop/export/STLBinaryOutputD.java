@@ -0,0 +1,136 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.desktop.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.STLBinaryOutput;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Streams binary STL to a temporary file; the file is moved to its final
+ * location once the user picked it.
+ */
+public class STLBinaryOutputD extends STLBinaryOutput {
+
+	private Path file;
+	private FileChannel channel;
+	private boolean failed;
+
+	@Override
+	public void start() {
+		close();
+		failed = false;
+		try {
+			file = Files.createTempFile("geogebra", ".stl");
+			channel = FileChannel.open(file, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+		} catch (IOException e) {
+			fail(e);
+		}
+		super.start();
+	}
+
+	@Override
+	protected void write(byte[] data, int length) {
+		if (failed) {
+			return;
+		}
+		try {
+			ByteBuffer bytes = ByteBuffer.wrap(data, 0, length);
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+		} catch (IOException e) {
+			fail(e);
+		}
+	}
+
+	@Override
+	protected void finish(int count) {
+		if (failed) {
+			return;
+		}
+		try {
+			channel.write(ByteBuffer.wrap(encodeCount(count)), COUNT_OFFSET);
+		} catch (IOException e) {
+			fail(e);
+		}
+		close();
+	}
+
+	/**
+	 * Moves the exported file.
+	 *
+	 * @param target
+	 *            destination
+	 * @return whether the file was saved
+	 */
+	public boolean moveTo(File target) {
+		if (failed || file == null) {
+			return false;
+		}
+		try {
+			Files.move(file, target.toPath(),
+					StandardCopyOption.REPLACE_EXISTING);
+			file = null;
+			return true;
+		} catch (IOException e) {
+			Log.debug(e);
+			return false;
+		}
+	}
+
+	/**
+	 * Removes the temporary file if it was not moved.
+	 */
+	public void discard() {
+		close();
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				Log.debug(e);
+			}
+			file = null;
+		}
+	}
+
+	private void fail(IOException e) {
+		Log.debug(e);
+		failed = true;
+		close();
+	}
+
+	private void close() {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				Log.debug(e);
+			}
+			channel = null;
+		}
+	}
+}
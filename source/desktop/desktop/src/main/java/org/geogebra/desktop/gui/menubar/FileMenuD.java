@@ -30,9 +30,11 @@ import javax.swing.KeyStroke;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatCollada;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatColladaHTML;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTL;
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTLBinary;
 import org.geogebra.common.util.FileExtensions;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.desktop.export.AnimationExportDialogD;
+import org.geogebra.desktop.export.STLBinaryOutputD;
 import org.geogebra.desktop.export.WorksheetExportDialog;
 import org.geogebra.desktop.export.pstricks.AsymptoteFrame;
 import org.geogebra.desktop.export.pstricks.PgfFrame;
@@ -62,6 +64,7 @@ class FileMenuD extends BaseMenu {
 	private AbstractAction exportPSTricksAction;
 	private AbstractAction exportAsymptoteAction;
 	private AbstractAction exportSTLaction;
+	private AbstractAction exportSTLTextAction;
 	private AbstractAction exportColladaAction;
 	private AbstractAction exportColladaHTMLAction;
 	/** load from MAT item */
@@ -166,6 +169,7 @@ class FileMenuD extends BaseMenu {
 		submenu.add(exportPgfAction);
 		submenu.add(exportAsymptoteAction);
 		submenu.add(exportSTLaction);
+		submenu.add(exportSTLTextAction);
 
 		if (app.is3D()) {
 			submenu.add(exportColladaAction);
@@ -490,6 +494,22 @@ class FileMenuD extends BaseMenu {
 				app.getEmptyIcon()) {
 			private static final long serialVersionUID = 1L;
 
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				try {
+					app.setExport3D(
+							new FormatSTLBinary(new STLBinaryOutputD()));
+				} catch (Exception ex) {
+					ex.printStackTrace();
+					Log.debug("Problem exporting to STL");
+				}
+			}
+		};
+
+		exportSTLTextAction = new AbstractAction("STL (ASCII)" + Unicode.ELLIPSIS,
+				app.getEmptyIcon()) {
+			private static final long serialVersionUID = 1L;
+
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				try {
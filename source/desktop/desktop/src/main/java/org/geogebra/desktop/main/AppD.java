@@ -123,6 +123,8 @@ import org.geogebra.common.factories.Factory;
 import org.geogebra.common.factories.FormatFactory;
 import org.geogebra.common.factories.LaTeXFactory;
 import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.Format;
+import org.geogebra.common.geogebra3D.euclidian3D.printer3D.FormatSTLBinary;
 import org.geogebra.common.geogebra3D.io.OFFHandler;
 import org.geogebra.common.gui.toolbar.ToolBar;
 import org.geogebra.common.gui.view.algebra.AlgebraView;
@@ -184,6 +186,7 @@ import org.geogebra.desktop.euclidian.event.MouseEventUtil;
 import org.geogebra.desktop.euclidianND.EuclidianViewInterfaceD;
 import org.geogebra.desktop.export.GeoGebraTubeExportD;
 import org.geogebra.desktop.export.PrintPreviewD;
+import org.geogebra.desktop.export.STLBinaryOutputD;
 import org.geogebra.desktop.export.pstricks.ExportGraphicsFactoryD;
 import org.geogebra.desktop.factories.CASFactoryD;
 import org.geogebra.desktop.factories.FactoryD;
@@ -223,6 +226,7 @@ import org.geogebra.desktop.util.GuiResourcesD;
 import org.geogebra.desktop.util.ImageManagerD;
 import org.geogebra.desktop.util.ImageResourceD;
 import org.geogebra.desktop.util.LoggerD;
+import org.geogebra.desktop.util.MetricsD;
 import org.geogebra.desktop.util.StringUtilD;
 import org.geogebra.desktop.util.UtilD;
 
@@ -345,6 +349,7 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 	private CopyPasteD copyPaste;
 	private int centerX;
 	private int centerY;
+	private MetricsD metricsBean;
 
 	/*************************************************************
 	 * Construct application within JFrame
@@ -427,6 +432,8 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 		initFactories();
 		initKernel();
 		kernel.setPrintDecimals(getConfig().getDefaultPrintDecimals());
+		metricsBean = new MetricsD(getMetrics());
+		metricsBean.register(System.identityHashCode(this));
 
 		// init settings
 		initSettings();
@@ -2828,6 +2835,7 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 
 	protected void exitFrame() {
 		frame.setVisible(false);
+		metricsBean.unregister();
 		if (getGuiManager() != null) {
 			getGuiManager().exitAllCurrent();
 		}
@@ -4699,8 +4707,7 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 	@Override
 	public void exportStringToFile(String ext, String content, boolean showDialog) {
 		try {
-			File exportFile = getGuiManager().showSaveDialog(FileExtensions.get(ext),
-					null, ext + " " + loc.getMenu("Files"), true, false);
+			File exportFile = getExportFile(ext, showDialog);
 			if (exportFile == null) {
 				return;
 			}
@@ -4715,6 +4722,42 @@ public class AppD extends App implements KeyEventDispatcher, AppDI {
 		}
 	}
 	
+	@Override
+	public void export3DToFile(Format format, StringBuilder export,
+			boolean showDialog) {
+		if (!(format instanceof FormatSTLBinary)) {
+			super.export3DToFile(format, export, showDialog);
+			return;
+		}
+		STLBinaryOutputD output = (STLBinaryOutputD) ((FormatSTLBinary) format)
+				.getOutput();
+		try {
+			File exportFile = getExportFile(format.getExtension(), showDialog);
+			if (exportFile != null && output.moveTo(exportFile)) {
+				Log.debug("Export to " + exportFile.getName());
+			}
+		} finally {
+			output.discard();
+		}
+	}
+
+	/**
+	 * @param ext file extension
+	 * @param showDialog whether to let the user choose the file
+	 * @return file chosen by the user, or file named after the export title
+	 *         in the current directory if no dialog is wanted; null if the
+	 *         dialog was cancelled
+	 */
+	private File getExportFile(String ext, boolean showDialog) {
+		if (showDialog) {
+			return getGuiManager().showSaveDialog(FileExtensions.get(ext),
+					null, ext + " " + loc.getMenu("Files"), true, false);
+		}
+		File dir = currentPath != null ? currentPath
+				: new File(System.getProperty("user.home"));
+		return new File(dir, getExportTitle() + "." + ext);
+	}
+
 	@Override
 	public void handleImageExport(String base64image) {
 		if (base64image.startsWith("<svg") || base64image.startsWith("<?xml")
@@ -0,0 +1,117 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.desktop.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.Histogram;
+import org.geogebra.common.util.profiler.MetricsRegistry;
+
+/**
+ * Exposes a metrics registry through the platform MBean server.
+ */
+public class MetricsD implements MetricsMXBean {
+
+	private final MetricsRegistry metrics;
+	private ObjectName name;
+
+	/**
+	 * @param metrics
+	 *            metrics registry
+	 */
+	public MetricsD(MetricsRegistry metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Registers this bean as org.geogebra:type=Metrics,id=&lt;id&gt;.
+	 *
+	 * @param id
+	 *            application identifier
+	 */
+	public void register(int id) {
+		try {
+			name = new ObjectName("org.geogebra:type=Metrics,id=" + id);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+					name);
+		} catch (JMException | RuntimeException e) {
+			Log.debug("Metrics not registered: " + e.getMessage());
+			name = null;
+		}
+	}
+
+	/**
+	 * Removes this bean from the MBean server.
+	 */
+	public void unregister() {
+		if (name == null) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			Log.debug(e);
+		}
+		name = null;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return metrics.isEnabled();
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		metrics.setEnabled(enabled);
+	}
+
+	@Override
+	public List<String> getNames() {
+		return metrics.getNames();
+	}
+
+	@Override
+	public String getReport() {
+		return metrics.toJSON();
+	}
+
+	@Override
+	public long getCount(String metric) {
+		Histogram histogram = metrics.getHistogram(metric);
+		return histogram == null ? 0 : histogram.getCount();
+	}
+
+	@Override
+	public double getPercentile(String metric, double percentile) {
+		Histogram histogram = metrics.getHistogram(metric);
+		return histogram == null ? 0 : histogram.getPercentile(percentile);
+	}
+
+	@Override
+	public void reset() {
+		metrics.reset();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.desktop.util;
+
+import java.util.List;
+
+/**
+ * JMX view of the metrics registry of one application, e.g. for JConsole or
+ * VisualVM.
+ */
+public interface MetricsMXBean {
+
+	/**
+	 * @return whether durations are recorded
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param enabled
+	 *            whether to record durations
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * @return names of metrics with recorded durations
+	 */
+	List<String> getNames();
+
+	/**
+	 * @return all metrics as JSON
+	 */
+	String getReport();
+
+	/**
+	 * @param name
+	 *            metric name
+	 * @return number of recorded durations
+	 */
+	long getCount(String name);
+
+	/**
+	 * @param name
+	 *            metric name
+	 * @param percentile
+	 *            percentile between 0 and 100
+	 * @return approximate percentile in milliseconds, 0 if nothing recorded
+	 */
+	double getPercentile(String name, double percentile);
+
+	/**
+	 * Drops all recorded durations.
+	 */
+	void reset();
+}
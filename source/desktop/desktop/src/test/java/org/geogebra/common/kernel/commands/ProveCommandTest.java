@@ -17,8 +17,11 @@
 package org.geogebra.common.kernel.commands;
 
 import static org.geogebra.test.TestStringUtil.unicode;
+import static org.junit.Assert.assertEquals;
 
 import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.util.Prover.ProverEngine;
+import org.geogebra.common.util.ProverStatistics;
 import org.geogebra.desktop.headless.AppDNoGui;
 import org.geogebra.desktop.main.LocalizationD;
 import org.geogebra.test.TestStringUtil;
@@ -64,6 +67,19 @@ public class ProveCommandTest {
 		t("Prove[ (1,1)==P ]", "?");
 	}
 
+	@Test
+	public void autoProverShouldStopAfterFirstDecisiveEngine() {
+		ProverStatistics statistics = ProverStatistics.get();
+		statistics.reset();
+		t("A=(0,0)", "(0, 0)");
+		t("B=(2,1)", "(2, 1)");
+		t("Prove(AreCollinear(A, B, Midpoint(A, B)))", "true");
+		assertEquals(1, statistics.getRuns(ProverEngine.RECIOS_PROVER));
+		assertEquals(1, statistics.getDecisiveRuns(ProverEngine.RECIOS_PROVER));
+		assertEquals(0, statistics.getRuns(ProverEngine.BOTANAS_PROVER));
+		assertEquals(0, statistics.getRuns(ProverEngine.OPENGEOPROVER_WU));
+	}
+
 	@Test
 	public void cmdLocusEquation() {
 		t("c=Circle((0,0), 2)", TestStringUtil.unicode("x^2 + y^2 = 4"));
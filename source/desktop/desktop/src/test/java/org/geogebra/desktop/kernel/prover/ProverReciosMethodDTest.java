@@ -0,0 +1,105 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+
+package org.geogebra.desktop.kernel.prover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.geogebra.common.AppCommonFactory;
+import org.geogebra.common.kernel.algos.SymbolicParameters;
+import org.geogebra.common.kernel.prover.polynomial.PVariable;
+import org.geogebra.common.util.Prover.ProofResult;
+import org.junit.Test;
+
+public class ProverReciosMethodDTest {
+
+	private static final int INSTANCES = 1000000;
+	private final PVariable variable = new PVariable(
+			AppCommonFactory.create().getKernel());
+
+	@Test
+	public void counterexampleShouldStopParallelCheck() {
+		CountingInstances instances = new CountingInstances();
+		ProofResult result = new ProverReciosMethodD().checkInstances(
+				instances, new PVariable[] {variable}, new HashMap<>(),
+				failingFrom(BigInteger.valueOf(20)), null);
+		assertEquals(ProofResult.FALSE, result);
+		// only three chunks have instances that pass, any other chunk stops
+		// the thread that took it at its first instance
+		int threads = Runtime.getRuntime().availableProcessors();
+		assertTrue("created " + instances.created.get() + " instances",
+				instances.created.get() <= (3 + threads)
+						* ProverReciosMethodD.CHUNK_SIZE);
+	}
+
+	@Test
+	public void statementShouldHoldIfNoInstanceFails() {
+		CountingInstances instances = new CountingInstances(1000);
+		ProofResult result = new ProverReciosMethodD().checkInstances(
+				instances, new PVariable[] {variable}, new HashMap<>(),
+				failingFrom(BigInteger.valueOf(INSTANCES)), null);
+		assertEquals(ProofResult.TRUE, result);
+		assertEquals(1000, instances.created.get());
+	}
+
+	/**
+	 * @return statement that fails for all values of the variable from the
+	 *         given one
+	 */
+	private SymbolicParameters failingFrom(final BigInteger counterexample) {
+		return new SymbolicParameters(null) {
+			@Override
+			public BigInteger[] getExactCoordinates(
+					HashMap<PVariable, BigInteger> values) {
+				boolean fails = values.get(variable)
+						.compareTo(counterexample) >= 0;
+				return new BigInteger[] {
+						fails ? BigInteger.ONE : BigInteger.ZERO};
+			}
+		};
+	}
+
+	private static class CountingInstances implements Iterator<BigInteger[]> {
+		private final int size;
+		private final AtomicInteger created = new AtomicInteger();
+
+		CountingInstances() {
+			this(INSTANCES);
+		}
+
+		CountingInstances(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return created.get() < size;
+		}
+
+		@Override
+		public BigInteger[] next() {
+			return new BigInteger[] {
+					BigInteger.valueOf(created.getAndIncrement())};
+		}
+	}
+}
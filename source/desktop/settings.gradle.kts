@@ -18,4 +18,5 @@ include("desktop")
 include("editor-desktop")
 include("renderer-desktop")
 include("jogl2")
+include("benchmarks")
 includeBuild("../shared")
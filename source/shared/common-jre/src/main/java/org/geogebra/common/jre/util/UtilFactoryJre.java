@@ -19,7 +19,6 @@ package org.geogebra.common.jre.util;
 import java.io.UnsupportedEncodingException;
 
 import org.geogebra.common.factories.UtilFactory;
-import org.geogebra.common.util.Reflection;
 import org.geogebra.common.util.URLEncoder;
 import org.geogebra.regexp.server.JavaRegExpFactory;
 import org.geogebra.regexp.shared.RegExpFactory;
@@ -37,11 +36,6 @@ public abstract class UtilFactoryJre extends UtilFactory  {
 		RegExpFactory.setPrototypeIfNull(new JavaRegExpFactory());
 	}
 
-	@Override
-	public Reflection newReflection(Class clazz) {
-		return new ReflectionJre(clazz);
-	}
-
 	@Override
 	public URLEncoder newURLEncoder() {
 		return urlComponent -> {
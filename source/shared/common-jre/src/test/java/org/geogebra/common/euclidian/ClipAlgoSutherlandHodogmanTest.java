@@ -16,6 +16,7 @@
 
 package org.geogebra.common.euclidian;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -111,6 +112,28 @@ public class ClipAlgoSutherlandHodogmanTest {
 		assertOutput();
 	}
 
+	@Test
+	public void reusedOutputShouldMatchListOutput() {
+		addInput(20, -50);
+		addInput(80, -70);
+		addInput(80, 50);
+		addInput(20, 70);
+		List<MyPoint> expected = processAlgo();
+
+		PathPoints output = new PathPoints();
+		for (int run = 0; run < 2; run++) {
+			PathPoints points = new PathPoints();
+			for (MyPoint point : input) {
+				points.add(point.x, point.y, point.getSegmentType());
+			}
+			algo.process(points, defaultClipPolygon, output);
+			assertEquals(expected.size(), output.size());
+			for (int i = 0; i < output.size(); i++) {
+				assertTrue(expected.get(i).isEqual(output.getX(i), output.getY(i)));
+			}
+		}
+	}
+
 	private void addInput(double x, double y) {
 		input.add(new MyPoint(x, y));
 	}
@@ -0,0 +1,87 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.awt.GRectangle;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoPoint;
+import org.junit.Test;
+
+public class OffScreenUpdateTest extends BaseUnitTest {
+
+	@Test
+	public void panShouldDeferUpdateOfOffScreenDrawables() {
+		GeoPoint point = add("A = (1, 1)");
+		GeoElement segment = add("f = Segment(A, (2, 2))");
+		GeoElement polygon = add("p = Polygon((0, 0), (1, 0), (0, 1))");
+		GeoElement function = add("g(x) = x");
+		EuclidianView view = getApp().getActiveEuclidianView();
+		double xZero = view.getXZero();
+
+		view.setCoordSystem(xZero - 100000, view.getYZero(),
+				view.getXscale(), view.getYscale());
+		assertTrue(getDrawable(point).isUpdateDeferred());
+		assertTrue(getDrawable(segment).isUpdateDeferred());
+		assertTrue(getDrawable(polygon).isUpdateDeferred());
+		assertFalse(getDrawable(function).isUpdateDeferred());
+
+		view.setCoordSystem(xZero, view.getYZero(),
+				view.getXscale(), view.getYscale());
+		assertFalse(getDrawable(point).isUpdateDeferred());
+		assertFalse(getDrawable(point).needsUpdate());
+	}
+
+	@Test
+	public void changeOfElementShouldCancelDeferredUpdate() {
+		GeoPoint point = add("A = (1, 1)");
+		EuclidianView view = getApp().getActiveEuclidianView();
+		view.setCoordSystem(view.getXZero() - 100000, view.getYZero(),
+				view.getXscale(), view.getYscale());
+		Drawable drawable = getDrawable(point);
+		assertTrue(drawable.isDeferredOffScreen());
+
+		point.setCoords(view.getXmin() + 1, 1, 1);
+		point.updateRepaint();
+		assertFalse(drawable.isUpdateDeferred());
+		assertFalse(drawable.isDeferredOffScreen());
+	}
+
+	@Test
+	public void selectedElementsShouldNotBeDeferred() {
+		GeoElement polygon = add("p = Polygon((0, 0), (1, 0), (0, 1))");
+		GeoElement segment = add("f = Segment((0, 0), (1, 1))");
+		getApp().getSelectionManager().addSelectedGeo(polygon);
+		EuclidianView view = getApp().getActiveEuclidianView();
+		view.setCoordSystem(view.getXZero() - 100000, view.getYZero(),
+				view.getXscale(), view.getYscale());
+		assertFalse(getDrawable(polygon).isUpdateDeferred());
+		assertLeftOfView(getDrawable(polygon).getBounds());
+		assertTrue(getDrawable(segment).isUpdateDeferred());
+
+		getApp().getSelectionManager().addSelectedGeo(segment);
+		assertFalse(getDrawable(segment).isUpdateDeferred());
+		assertLeftOfView(getDrawable(segment).getBounds());
+	}
+
+	private static void assertLeftOfView(GRectangle bounds) {
+		assertTrue(bounds == null || bounds.getMaxX() < 0);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian.draw;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.euclidian.EuclidianView;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.junit.Test;
+
+public class DrawListTest extends BaseUnitTest {
+
+	@Test
+	public void densePointsShouldBeDrawnPerPixel() {
+		GeoList list = add("l = Sequence((0.0001 k, 0), k, 1, 10000)");
+		list.setLabelVisible(false);
+		list.updateRepaint();
+		EuclidianView view = getApp().getActiveEuclidianView();
+		DrawList drawable = (DrawList) getDrawable(list);
+		assertTrue(drawable.isDense());
+		int y = view.toScreenCoordY(0);
+		assertTrue(drawable.hit(view.toScreenCoordX(0.5), y, 3));
+		assertFalse(drawable.hit(view.toScreenCoordX(-2), y, 3));
+
+		// zoom in until the points are pixels apart
+		view.setCoordSystem(view.getXZero(), view.getYZero(), 100000,
+				view.getYscale());
+		assertFalse(drawable.isDense());
+		assertTrue(drawable.hit(view.toScreenCoordX(0.001), y, 3));
+	}
+
+	@Test
+	public void denseSegmentsShouldBeMerged() {
+		GeoList list = add("l = Sequence(Segment((0.0001 k, 0),"
+				+ " (0.0001 (k + 1), 0)), k, 1, 10000)");
+		list.setLabelVisible(false);
+		list.updateRepaint();
+		EuclidianView view = getApp().getActiveEuclidianView();
+		DrawList drawable = (DrawList) getDrawable(list);
+		assertTrue(drawable.isDense());
+		int y = view.toScreenCoordY(0);
+		assertTrue(drawable.hit(view.toScreenCoordX(0.5), y, 3));
+		assertFalse(drawable.hit(view.toScreenCoordX(0.5), y + 20, 3));
+
+		view.setCoordSystem(view.getXZero(), view.getYZero(), 100000,
+				view.getYscale());
+		assertFalse(drawable.isDense());
+	}
+
+	@Test
+	public void smallOrMixedListsShouldBeDrawnPerElement() {
+		GeoList small = add("Sequence((0.0001 k, 0), k, 1, 100)");
+		assertFalse(((DrawList) getDrawable(small)).isDense());
+		GeoList mixed = add("Join(Sequence((0.0001 k, 0), k, 1, 10000),"
+				+ " {Segment((0, 0), (1, 1))})");
+		assertFalse(((DrawList) getDrawable(mixed)).isDense());
+	}
+}
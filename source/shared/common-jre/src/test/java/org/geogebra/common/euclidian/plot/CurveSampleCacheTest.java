@@ -0,0 +1,236 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian.plot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.euclidian.EuclidianView;
+import org.geogebra.common.kernel.geos.GeoFunction;
+import org.geogebra.common.kernel.MyPoint;
+import org.geogebra.common.kernel.SegmentType;
+import org.geogebra.common.kernel.matrix.CoordSys;
+import org.geogebra.test.euclidian.plot.PathPlotterMock;
+import org.junit.Test;
+
+public class CurveSampleCacheTest extends BaseUnitTest {
+
+	@Test
+	public void horizontalPanShouldOnlySampleExposedTiles() {
+		GeoFunction f = add("sin(x)");
+		EuclidianView view = getApp().getActiveEuclidianView();
+		CurveSampleCache cache = new CurveSampleCache(view);
+
+		plot(cache, f, view);
+		int visibleTiles = cache.getSampledTiles();
+		assertTrue(visibleTiles > 3);
+
+		plot(cache, f, view);
+		assertEquals(0, cache.getSampledTiles());
+
+		view.setCoordSystem(view.getXZero() - 10, view.getYZero(),
+				view.getXscale(), view.getYscale());
+		plot(cache, f, view);
+		assertTrue(cache.getSampledTiles() <= 3);
+	}
+
+	@Test
+	public void zoomShouldResample() {
+		GeoFunction f = add("x^2");
+		EuclidianView view = getApp().getActiveEuclidianView();
+		CurveSampleCache cache = new CurveSampleCache(view);
+
+		plot(cache, f, view);
+		view.setCoordSystem(view.getXZero(), view.getYZero(),
+				2 * view.getXscale(), view.getYscale());
+		plot(cache, f, view);
+		assertTrue(cache.getSampledTiles() > 3);
+	}
+
+	@Test
+	public void continuousFunctionsShouldMatchPlotter() {
+		assertSameGraph("sin(x)");
+		assertSameGraph("x^3 - 2x");
+		assertSameGraph("sqrt(x + 1)");
+	}
+
+	@Test
+	public void singularFunctionsShouldMatchPlotter() {
+		// tile edges must not fall on the singularity at 0
+		assertFalse(assertSameGraph("1/x").crosses(0));
+		assertSameGraph("ln(x)");
+		assertTrue(assertSameGraph("sin(x)/x").crosses(0));
+	}
+
+	private Polylines assertSameGraph(String definition) {
+		GeoFunction f = add(definition);
+		EuclidianView view = getApp().getActiveEuclidianView();
+		Polylines plotted = new Polylines();
+		CurvePlotter.plotCurve(f, view.getXmin(), view.getXmax(), view,
+				plotted, false, Gap.MOVE_TO);
+		Polylines cached = new Polylines();
+		new CurveSampleCache(view).plot(f, view.getXmin(), view.getXmax(),
+				cached, false);
+		assertTrue(definition, cached.size() > 0);
+		cached.assertCloseTo(plotted, view, definition);
+		plotted.assertCloseTo(cached, view, definition);
+		assertEquals(definition, plotted.crosses(0), cached.crosses(0));
+		return cached;
+	}
+
+	private static void plot(CurveSampleCache cache, GeoFunction f,
+			EuclidianView view) {
+		cache.plot(f, view.getXmin(), view.getXmax(), new PathPlotterMock(),
+				false);
+	}
+
+	/**
+	 * Collects the plotted lines in world coordinates.
+	 */
+	private static class Polylines implements PathPlotter {
+		// maximal distance of the two paths in pixels
+		private static final double TOLERANCE = 3;
+		private final List<List<double[]>> lines = new ArrayList<>();
+
+		int size() {
+			return lines.size();
+		}
+
+		/**
+		 * @return whether a line goes from x &lt; value to x &gt; value
+		 */
+		boolean crosses(double value) {
+			for (List<double[]> line : lines) {
+				for (int i = 1; i < line.size(); i++) {
+					if (line.get(i - 1)[0] < value && line.get(i)[0] > value) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Checks that all points visible in the view are close to the other
+		 * path.
+		 */
+		void assertCloseTo(Polylines other, EuclidianView view,
+				String message) {
+			for (List<double[]> line : lines) {
+				for (double[] point : line) {
+					double sx = view.toScreenCoordXd(point[0]);
+					double sy = view.toScreenCoordYd(point[1]);
+					if (sy >= 0 && sy <= view.getHeight()) {
+						double dist = other.distance(sx, sy, view);
+						assertTrue(message + ": " + point[0] + ", " + point[1]
+								+ " is " + dist + "px off", dist < TOLERANCE);
+					}
+				}
+			}
+		}
+
+		private double distance(double sx, double sy, EuclidianView view) {
+			double min = Double.POSITIVE_INFINITY;
+			for (List<double[]> line : lines) {
+				for (int i = 1; i < line.size(); i++) {
+					min = Math.min(min, segmentDistance(sx, sy, line.get(i - 1),
+							line.get(i), view));
+				}
+			}
+			return min;
+		}
+
+		private static double segmentDistance(double sx, double sy,
+				double[] start, double[] end, EuclidianView view) {
+			double ax = view.toScreenCoordXd(start[0]);
+			double ay = view.toScreenCoordYd(start[1]);
+			double dx = view.toScreenCoordXd(end[0]) - ax;
+			double dy = view.toScreenCoordYd(end[1]) - ay;
+			double lengthSquared = dx * dx + dy * dy;
+			double t = lengthSquared > 0
+					? ((sx - ax) * dx + (sy - ay) * dy) / lengthSquared : 0;
+			t = Math.max(0, Math.min(1, t));
+			return Math.hypot(ax + t * dx - sx, ay + t * dy - sy);
+		}
+
+		private void add(double[] pos, boolean newLine) {
+			if (!Double.isFinite(pos[0]) || !Double.isFinite(pos[1])) {
+				return;
+			}
+			if (newLine || lines.isEmpty()) {
+				lines.add(new ArrayList<>());
+			}
+			lines.get(lines.size() - 1).add(pos.clone());
+		}
+
+		@Override
+		public void drawTo(double[] pos, SegmentType lineTo) {
+			add(pos, lineTo == SegmentType.MOVE_TO);
+		}
+
+		@Override
+		public void lineTo(double[] pos) {
+			add(pos, false);
+		}
+
+		@Override
+		public void moveTo(double[] pos) {
+			add(pos, true);
+		}
+
+		@Override
+		public void corner() {
+			// not used for functions
+		}
+
+		@Override
+		public void corner(double[] pos) {
+			// not used for functions
+		}
+
+		@Override
+		public void firstPoint(double[] pos, Gap moveToAllowed) {
+			add(pos, true);
+		}
+
+		@Override
+		public double[] newDoubleArray() {
+			return new double[2];
+		}
+
+		@Override
+		public boolean copyCoords(MyPoint point, double[] ret,
+				CoordSys transformSys) {
+			return false;
+		}
+
+		@Override
+		public void endPlot() {
+			// nothing to do
+		}
+
+		@Override
+		public boolean supports(CoordSys transformSys) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+public class STLBinaryOutputTest {
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private final STLBinaryOutput output = new STLBinaryOutput() {
+
+		@Override
+		protected void write(byte[] data, int length) {
+			bytes.write(data, 0, length);
+		}
+
+		@Override
+		protected void finish(int count) {
+			byte[] encoded = encodeCount(count);
+			ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+			buffer.position(COUNT_OFFSET);
+			buffer.put(encoded);
+			bytes.reset();
+			bytes.write(buffer.array(), 0, buffer.capacity());
+		}
+	};
+
+	@Test
+	public void shouldWriteHeaderCountAndTriangles() {
+		output.start();
+		int triangles = 5000;
+		for (int i = 0; i < triangles; i++) {
+			output.addTriangle(0, 0, 1, i, 0, 0, i + 1, 0, 0, i, 1, 0.5);
+		}
+		output.end();
+
+		ByteBuffer stl = ByteBuffer.wrap(bytes.toByteArray())
+				.order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(STLBinaryOutput.HEADER_LENGTH + 4
+				+ triangles * STLBinaryOutput.TRIANGLE_LENGTH, stl.capacity());
+		assertEquals(triangles, stl.getInt(STLBinaryOutput.COUNT_OFFSET));
+
+		int last = STLBinaryOutput.HEADER_LENGTH + 4
+				+ (triangles - 1) * STLBinaryOutput.TRIANGLE_LENGTH;
+		assertEquals(1, stl.getFloat(last + 8), 0);
+		assertEquals(triangles - 1, stl.getFloat(last + 12), 0);
+		assertEquals(0.5, stl.getFloat(last + 44), 0);
+		assertEquals(0, stl.getShort(last + 48));
+	}
+
+	@Test
+	public void formatShouldStreamTriangles() {
+		FormatSTLBinary format = new FormatSTLBinary(output);
+		StringBuilder sb = new StringBuilder();
+		format.getScriptStart(sb);
+		format.getTriangle(sb, 1, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 1);
+		format.getScriptEnd(sb);
+		assertEquals(0, sb.length());
+		assertEquals(1, output.getTriangleCount());
+	}
+}
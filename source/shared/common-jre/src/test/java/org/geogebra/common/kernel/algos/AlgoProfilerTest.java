@@ -0,0 +1,91 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.geos.GeoPoint;
+import org.junit.Test;
+
+public class AlgoProfilerTest extends BaseUnitTest {
+
+	@Test
+	public void nothingShouldBeProfiledByDefault() {
+		add("A = (1, 2)");
+		add("f = Segment(A, (3, 4))");
+		assertFalse(getConstruction().isProfiling());
+		assertNull(getConstruction().getAlgoProfiler());
+	}
+
+	@Test
+	public void computationsShouldBeAttributedToLabelsAndCommands() {
+		GeoPoint a = add("A = (1, 2)");
+		add("f = Segment(A, (3, 4))");
+		add("g = Length(f)");
+		getConstruction().setProfiling(true);
+		for (int i = 0; i < 3; i++) {
+			a.setCoords(i, 0, 1);
+			a.updateCascade();
+		}
+		getConstruction().setProfiling(false);
+		a.setCoords(5, 0, 1);
+		a.updateCascade();
+
+		AlgoProfiler profiler = getConstruction().getAlgoProfiler();
+		List<AlgoProfiler.Entry> labels = profiler.getLabels(10);
+		assertEquals(2, labels.size());
+		for (AlgoProfiler.Entry entry : labels) {
+			assertEquals(3, entry.getCount());
+		}
+		assertEquals(2, profiler.getCommands(10).size());
+		assertEquals(1, profiler.getCommands(1).size());
+		assertThat(profiler.getReport(10), containsString("\"Segment\""));
+		assertThat(profiler.getCollapsedStacks(), containsString("Length(g) "));
+	}
+
+	@Test
+	public void sequenceElementsShouldBeNested() {
+		GeoNumeric n = add("n = 5");
+		add("l1 = Sequence(Segment((k, 0), (k, 1)), k, 1, n)");
+		getConstruction().setProfiling(true);
+		n.updateCascade();
+		getConstruction().setProfiling(false);
+
+		String stacks = getConstruction().getAlgoProfiler().getCollapsedStacks();
+		assertThat(stacks, containsString("Sequence(l1) "));
+		assertThat(stacks, containsString("Sequence(l1);Segment "));
+	}
+
+	@Test
+	public void enablingShouldDropPreviousResults() {
+		GeoPoint a = add("A = (1, 2)");
+		add("f = Segment(A, (3, 4))");
+		getConstruction().setProfiling(true);
+		a.updateCascade();
+		getConstruction().setProfiling(false);
+		getConstruction().setProfiling(true);
+		assertEquals(0, getConstruction().getAlgoProfiler().getLabels(10).size());
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LocusPointCacheTest {
+
+	private final LocusPointCache cache = new LocusPointCache();
+	private final double[] point = new double[3];
+
+	@Test
+	public void putAndGet() {
+		cache.put(0.25, 1, 2, 3);
+		assertTrue(cache.get(0.25, point));
+		assertEquals(1, point[0], 0);
+		assertEquals(2, point[1], 0);
+		assertEquals(3, point[2], 0);
+		assertFalse(cache.get(0.5, point));
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void keepsUndefinedPoints() {
+		cache.put(-1, Double.NaN, Double.NaN, 0);
+		assertTrue(cache.get(-1, point));
+		assertTrue(Double.isNaN(point[0]));
+	}
+
+	@Test
+	public void growsAndClears() {
+		for (int i = 0; i < 5000; i++) {
+			cache.put(i / 5000.0, i, -i, 0);
+		}
+		assertEquals(5000, cache.size());
+		for (int i = 0; i < 5000; i++) {
+			assertTrue(cache.get(i / 5000.0, point));
+			assertEquals(-i, point[1], 0);
+		}
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertFalse(cache.get(0, point));
+	}
+}
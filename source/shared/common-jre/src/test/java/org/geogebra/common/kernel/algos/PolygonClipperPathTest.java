@@ -0,0 +1,127 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GeoPolygon;
+import org.geogebra.common.util.clipper.Path;
+import org.geogebra.common.util.clipper.Paths;
+import org.junit.Test;
+
+public class PolygonClipperPathTest extends BaseUnitTest {
+
+	@Test
+	public void pathShouldOnlyChangeWithVertices() {
+		add("A=(0,0)");
+		PolygonClipperPath path = new PolygonClipperPath(
+				add("p=Polygon(A,(4,0),(4,4))"));
+		assertTrue(path.update());
+		assertFalse(path.update());
+		add("SetCoords(A,1,0)");
+		assertTrue(path.update());
+		assertEquals(1, path.getPath().get(0).getX(), 0);
+	}
+
+	@Test
+	public void unionShouldUseAllPolygons() {
+		Paths solution = new Paths();
+		assertTrue(PolygonClipperPath.union(paths(
+				"Polygon((0,0),(4,0),(4,4),(0,4))",
+				"Polygon((1,1),(1,5),(5,5),(5,1))",
+				"Polygon((2,0),(6,0),(6,4),(2,4))"), solution));
+		assertEquals(1, solution.size());
+		assertEquals(28, area(solution.get(0)), 1E-8);
+	}
+
+	@Test
+	public void intersectionShouldUseAllPolygons() {
+		Paths solution = new Paths();
+		assertTrue(PolygonClipperPath.intersection(paths(
+				"Polygon((0,0),(4,0),(4,4),(0,4))",
+				"Polygon((1,1),(1,5),(5,5),(5,1))",
+				"Polygon((2,0),(6,0),(6,4),(2,4))"), solution));
+		assertEquals(1, solution.size());
+		assertEquals(6, area(solution.get(0)), 1E-8);
+	}
+
+	@Test
+	public void disjointIntersectionShouldBeEmpty() {
+		Paths solution = new Paths();
+		PolygonClipperPath.intersection(paths(
+				"Polygon((0,0),(1,0),(1,1))",
+				"Polygon((2,0),(3,0),(3,1))"), solution);
+		assertEquals(0, solution.size());
+	}
+
+	@Test
+	public void intersectionShouldFollowMovedVertices() {
+		add("A=(4,0)");
+		add("B=(4,4)");
+		add("p=Polygon((0,0),A,B,(0,4))");
+		add("q=Polygon((2,2),(6,2),(6,6),(2,6))");
+		GeoPolygon intersection = add("IntersectPath(p,q)");
+		assertEquals(4, intersection.getArea(), 1E-8);
+		add("SetCoords(A,5,0)");
+		add("SetCoords(B,5,4)");
+		assertEquals(6, intersection.getArea(), 1E-8);
+	}
+
+	@Test
+	public void unionCommandShouldAcceptPolygonList() {
+		addPolygonsWithMovableVertices();
+		GeoPolygon union = add("Union({p, q, r})");
+		assertEquals(28, union.getArea(), 1E-8);
+		add("SetCoords(A,4,-2)");
+		assertEquals(32, union.getArea(), 1E-8);
+	}
+
+	@Test
+	public void intersectPathCommandShouldAcceptPolygonList() {
+		addPolygonsWithMovableVertices();
+		GeoPolygon intersection = add("IntersectPath({p, q, r})");
+		assertEquals(6, intersection.getArea(), 1E-8);
+		add("SetCoords(B,3,4)");
+		assertEquals(4.125, intersection.getArea(), 1E-8);
+	}
+
+	private void addPolygonsWithMovableVertices() {
+		add("A=(4,0)");
+		add("B=(4,4)");
+		add("p=Polygon((0,0),A,B,(0,4))");
+		add("q=Polygon((1,1),(1,5),(5,5),(5,1))");
+		add("r=Polygon((2,0),(6,0),(6,4),(2,4))");
+	}
+
+	private List<PolygonClipperPath> paths(String... definitions) {
+		List<PolygonClipperPath> paths = new ArrayList<>();
+		for (String definition : definitions) {
+			paths.add(new PolygonClipperPath(add(definition)));
+		}
+		return paths;
+	}
+
+	private static double area(Path path) {
+		return Math.abs(path.area());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.barycentric;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class KimberlingCentersTest {
+
+	private static final double A = 4;
+	private static final double B = 5;
+	private static final double C = 6;
+
+	@Test
+	public void incenterShouldBeWeightedBySides() {
+		assertCenter(1, A, B, C);
+	}
+
+	@Test
+	public void centroidShouldHaveEqualWeights() {
+		assertCenter(2, 1, 1, 1);
+	}
+
+	@Test
+	public void circumcenterShouldMatchFormula() {
+		assertCenter(3, A * A * (B * B + C * C - A * A),
+				B * B * (C * C + A * A - B * B),
+				C * C * (A * A + B * B - C * C));
+	}
+
+	@Test
+	public void orthocenterShouldMatchFormula() {
+		assertCenter(4, 1 / (B * B + C * C - A * A),
+				1 / (C * C + A * A - B * B),
+				1 / (A * A + B * B - C * C));
+	}
+
+	@Test
+	public void computeAllShouldMatchSingleCenters() {
+		KimberlingCenters centers = new KimberlingCenters();
+		centers.setTriangle(A, B, C);
+		double[] all = new double[3 * 10];
+		centers.computeAll(1, 10, all);
+		double[] weights = new double[3];
+		for (int k = 1; k <= 10; k++) {
+			double sum = centers.weights(k, weights);
+			assertArrayEquals(new double[] {weights[0] / sum,
+					weights[1] / sum, weights[2] / sum},
+					Arrays.copyOfRange(all, 3 * (k - 1), 3 * k), 1E-12);
+		}
+	}
+
+	@Test
+	public void computeAllShouldMarkUnknownCentersUndefined() {
+		KimberlingCenters centers = new KimberlingCenters();
+		centers.setTriangle(A, B, C);
+		double[] all = new double[3];
+		centers.computeAll(KimberlingCenters.MAX_INDEX + 1,
+				KimberlingCenters.MAX_INDEX + 1, all);
+		assertTrue(Double.isNaN(all[0]));
+	}
+
+	private static void assertCenter(int k, double wA, double wB, double wC) {
+		double[] weights = new double[3];
+		KimberlingCenters centers = new KimberlingCenters();
+		centers.setTriangle(A, B, C);
+		double sum = centers.weights(k, weights);
+		double expectedSum = wA + wB + wC;
+		assertArrayEquals(new double[] {wA / expectedSum, wB / expectedSum,
+						wC / expectedSum},
+				new double[] {weights[0] / sum, weights[1] / sum,
+						weights[2] / sum}, 1E-10);
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.batch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GProperty;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+public class NotificationBatchTest extends BaseUnitTest {
+
+	private NotificationBatch batch;
+
+	@Before
+	public void setupNotificationBatchTest() {
+		batch = new NotificationBatch();
+	}
+
+	@Test
+	public void repeatedUpdatesShouldBeMerged() {
+		GeoElement first = getElementFactory().createGeoLine();
+		GeoElement second = getElementFactory().createGeoLine();
+		batch.update(first);
+		batch.update(second);
+		batch.update(first);
+		batch.updateVisualStyle(first, GProperty.COLOR);
+		batch.updateVisualStyle(first, GProperty.COLOR);
+		assertEquals(Arrays.asList(first, second), batch.getElements());
+		assertEquals(Arrays.asList(GProperty.COLOR),
+				batch.getVisualStyleChanges(first));
+	}
+
+	@Test
+	public void removeShouldDropPreviousNotifications() {
+		GeoElement line = getElementFactory().createGeoLine();
+		batch.update(line);
+		batch.updateVisualStyle(line, GProperty.COLOR);
+		batch.remove(line);
+		batch.update(line);
+		assertTrue(batch.isRemoved(line));
+		assertFalse(batch.isUpdated(line));
+		assertTrue(batch.getVisualStyleChanges(line).isEmpty());
+	}
+
+	@Test
+	public void removeShouldDropElementAddedInBatch() {
+		GeoElement line = getElementFactory().createGeoLine();
+		batch.add(line);
+		batch.update(line);
+		batch.remove(line);
+		assertFalse(batch.isRemoved(line));
+		assertFalse(batch.isAdded(line));
+		assertFalse(batch.isUpdated(line));
+		assertTrue(batch.isEmpty());
+	}
+
+	@Test
+	public void takeShouldLeaveEmptyBatch() {
+		batch.update(getElementFactory().createGeoLine());
+		NotificationBatch taken = batch.take();
+		assertTrue(batch.isEmpty());
+		assertFalse(taken.isEmpty());
+	}
+
+	@Test
+	public void coalescingViewShouldGetOneUpdatePerBatch() {
+		GeoNumeric a = add("a=1");
+		GeoElement b = add("b=a+1");
+		GeoElement c = add("c=a+b");
+		CoalescingView view = mock(CoalescingView.class,
+				Mockito.CALLS_REAL_METHODS);
+		getKernel().attach(view);
+
+		getKernel().notifyBatchUpdate();
+		for (int i = 0; i < 5; i++) {
+			a.setValue(i);
+			a.updateCascade();
+		}
+		verify(view, never()).update(any());
+		getKernel().notifyEndBatchUpdate();
+
+		verify(view, times(1)).notifyBatch(any());
+		verify(view, times(1)).update(a);
+		verify(view, times(1)).update(b);
+		verify(view, times(1)).update(c);
+	}
+
+	@Test
+	public void renameShouldFollowPendingAdd() {
+		GeoElement line = getElementFactory().createGeoLine();
+		CoalescingView view = mock(CoalescingView.class,
+				Mockito.CALLS_REAL_METHODS);
+		getKernel().attach(view);
+
+		getKernel().notifyBatchUpdate();
+		getKernel().notifyAdd(line);
+		getKernel().notifyRename(line);
+		getKernel().notifyUpdateAuxiliaryObject(line);
+		verify(view, never()).rename(any());
+		verify(view, never()).updateAuxiliaryObject(any());
+		getKernel().notifyEndBatchUpdate();
+
+		InOrder order = inOrder(view);
+		order.verify(view).add(line);
+		order.verify(view).rename(line);
+		order.verify(view).updateAuxiliaryObject(line);
+	}
+
+	@Test
+	public void batchEndedDuringDispatchShouldBeDispatchedAfterwards() {
+		GeoElement line = getElementFactory().createGeoLine();
+		CoalescingView first = mock(CoalescingView.class,
+				Mockito.CALLS_REAL_METHODS);
+		CoalescingView second = mock(CoalescingView.class,
+				Mockito.CALLS_REAL_METHODS);
+		boolean[] removed = {false};
+		doAnswer(invocation -> {
+			invocation.callRealMethod();
+			// e.g. a script removing the new element
+			if (!removed[0]) {
+				removed[0] = true;
+				getKernel().notifyBatchUpdate();
+				getKernel().notifyRemove(line);
+				getKernel().notifyEndBatchUpdate();
+			}
+			return null;
+		}).when(first).notifyBatch(any());
+		getKernel().attach(first);
+		getKernel().attach(second);
+
+		getKernel().notifyBatchUpdate();
+		getKernel().notifyAdd(line);
+		getKernel().notifyEndBatchUpdate();
+
+		InOrder order = inOrder(second);
+		order.verify(second).add(line);
+		order.verify(second).remove(line);
+		verify(first, times(2)).notifyBatch(any());
+		verify(second, times(2)).notifyBatch(any());
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactGraphTest {
+
+	// square 0-1-2-3 with a long diagonal 0-2 and an isolated node 4
+	private final CompactGraph graph = new CompactGraph(5,
+			new int[] {0, 1, 2, 3, 0}, new int[] {1, 2, 3, 0, 2}, 5);
+
+	@Test
+	public void shortestPathShouldUseWeights() {
+		setWeights(1, 1, 1, 1, 3);
+		assertArrayEquals(new int[] {0, 1, 2}, graph.shortestPath(0, 2, true));
+		assertArrayEquals(new int[] {0, 2}, graph.shortestPath(0, 2, false));
+	}
+
+	@Test
+	public void shortestPathShouldReflectWeightChanges() {
+		setWeights(1, 1, 1, 1, 1.5);
+		assertArrayEquals(new int[] {0, 2}, graph.shortestPath(0, 2, true));
+	}
+
+	@Test
+	public void unreachableTargetShouldGiveNull() {
+		assertNull(graph.shortestPath(0, 4, true));
+	}
+
+	@Test
+	public void completeGraphTreeShouldConnectNearestPoints() {
+		double[] coords = {0, 0, 10, 0, 1, 0, 11, 1};
+		int[] parent = CompactGraph.completeGraphSpanningTree(coords, 2);
+		assertEquals(-1, parent[0]);
+		assertEquals(2, parent[1]);
+		assertEquals(0, parent[2]);
+		assertEquals(1, parent[3]);
+	}
+
+	private void setWeights(double... weights) {
+		for (int i = 0; i < weights.length; i++) {
+			graph.setWeight(i, weights[i]);
+		}
+	}
+}
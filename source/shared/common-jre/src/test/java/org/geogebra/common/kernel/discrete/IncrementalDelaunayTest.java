@@ -0,0 +1,120 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.geogebra.common.kernel.discrete.delaunay.DelaunayTriangulation;
+import org.geogebra.common.kernel.discrete.delaunay.PointDt;
+import org.geogebra.common.kernel.discrete.delaunay.TriangleDt;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalDelaunayTest {
+
+	private static final int HULL_SIZE = 4;
+	private final Random random = new Random(42);
+
+	@Test
+	public void draggingPointShouldMatchRebuild() {
+		PointDt[] points = randomPointsInHull(500);
+		IncrementalDelaunay incremental = new IncrementalDelaunay();
+		incremental.update(points);
+		for (int step = 0; step < 200; step++) {
+			// points on the hull cannot be deleted and need a rebuild
+			int k = HULL_SIZE + random.nextInt(points.length - HULL_SIZE);
+			points[k] = new PointDt(points[k].x() + random.nextGaussian() * 0.05,
+					points[k].y() + random.nextGaussian() * 0.05);
+			assertEquals(edges(new DelaunayTriangulation(points)),
+					edges(incremental.update(points)));
+			assertTrue(incremental.wasPatched(), "rebuilt in step " + step);
+		}
+	}
+
+	@Test
+	public void deletingInnerPointShouldKeepTriangulationValid() {
+		for (int trial = 0; trial < 100; trial++) {
+			PointDt[] points = randomPointsInHull(30);
+			DelaunayTriangulation dt = new DelaunayTriangulation(points);
+			PointDt deleted = points[HULL_SIZE
+					+ random.nextInt(points.length - HULL_SIZE)];
+			assertTrue(dt.deletePoint(deleted), "delete " + deleted);
+			PointDt[] remaining = new PointDt[points.length - 1];
+			int i = 0;
+			for (PointDt p : points) {
+				if (p != deleted) {
+					remaining[i++] = p;
+				}
+			}
+			assertEquals(2 * remaining.length - 2, dt.trianglesSize());
+			assertEquals(edges(new DelaunayTriangulation(remaining)), edges(dt));
+		}
+	}
+
+	@Test
+	public void deletingHullPointShouldFail() {
+		DelaunayTriangulation dt = new DelaunayTriangulation(new PointDt[] {
+				new PointDt(0, 0), new PointDt(4, 0), new PointDt(0, 4),
+				new PointDt(1, 1)});
+		assertFalse(dt.deletePoint(new PointDt(4, 0)));
+		assertTrue(dt.deletePoint(new PointDt(1, 1)));
+		assertEquals(3, dt.size());
+	}
+
+	/**
+	 * @return the points of a fixed quadrilateral followed by random points
+	 *         inside of it, so that only the first {@link #HULL_SIZE} points
+	 *         are on the convex hull
+	 */
+	private PointDt[] randomPointsInHull(int n) {
+		PointDt[] points = new PointDt[n];
+		points[0] = new PointDt(-1, -1);
+		points[1] = new PointDt(11, -2);
+		points[2] = new PointDt(12, 11);
+		points[3] = new PointDt(-2, 10);
+		for (int i = HULL_SIZE; i < n; i++) {
+			points[i] = new PointDt(random.nextDouble() * 10, random.nextDouble() * 10);
+		}
+		return points;
+	}
+
+	private static Set<String> edges(DelaunayTriangulation dt) {
+		Set<String> edges = new TreeSet<>();
+		Iterator<TriangleDt> it = dt.trianglesIterator();
+		while (it.hasNext()) {
+			TriangleDt t = it.next();
+			if (!t.isHalfplane()) {
+				addEdge(edges, t.p1(), t.p2());
+				addEdge(edges, t.p2(), t.p3());
+				addEdge(edges, t.p3(), t.p1());
+			}
+		}
+		return edges;
+	}
+
+	private static void addEdge(Set<String> edges, PointDt p, PointDt q) {
+		String s1 = p.x() + "," + p.y();
+		String s2 = q.x() + "," + q.y();
+		edges.add(s1.compareTo(s2) < 0 ? s1 + ";" + s2 : s2 + ";" + s1);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete.tsp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.geogebra.common.kernel.MyPoint;
+import org.junit.jupiter.api.Test;
+
+public class TSPSolverTest {
+
+	private final TSPSolver solver = new TSPSolver();
+
+	@Test
+	public void gridTourShouldBeNearlyOptimal() {
+		MyPoint[] points = grid(20);
+		double length = solver.solve(points);
+		assertPermutation(points, 400);
+		// optimal tour of an even grid visits neighbours only
+		assertTrue(length < 400 * 1.1, "tour length " + length);
+		assertEquals(length, tourLength(points), 1E-9);
+	}
+
+	@Test
+	public void draggedPointShouldKeepTourShort() {
+		MyPoint[] points = grid(20);
+		solver.solve(points);
+		MyPoint[] moved = grid(20);
+		moved[21] = new MyPoint(1.4, 1.3);
+		double length = solver.solve(moved);
+		assertPermutation(moved, 400);
+		assertTrue(length < 400 * 1.1, "tour length " + length);
+	}
+
+	@Test
+	public void farOutlierShouldNotSpoilTour() {
+		MyPoint[] points = Arrays.copyOf(grid(20), 401);
+		points[400] = new MyPoint(1E6, 0);
+		double length = solver.solve(points);
+		assertPermutation(points, 401);
+		// the outlier costs a detour of about twice its distance
+		assertTrue(length < 400 * 1.1 + 2E6, "tour length " + length);
+	}
+
+	@Test
+	public void tourShouldNotDependOnRunningTime() {
+		MyPoint[] first = randomPoints(2000);
+		MyPoint[] second = first.clone();
+		new TSPSolver().solve(first);
+		new TSPSolver().solve(second);
+		assertArrayEquals(first, second);
+	}
+
+	private static MyPoint[] randomPoints(int size) {
+		Random random = new Random(42);
+		MyPoint[] points = new MyPoint[size];
+		for (int i = 0; i < size; i++) {
+			points[i] = new MyPoint(random.nextDouble(), random.nextDouble());
+		}
+		return points;
+	}
+
+	private static MyPoint[] grid(int side) {
+		MyPoint[] points = new MyPoint[side * side];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new MyPoint(i % side, i / side);
+		}
+		return points;
+	}
+
+	private static void assertPermutation(MyPoint[] points, int size) {
+		Set<MyPoint> distinct = new HashSet<>();
+		for (MyPoint point : points) {
+			distinct.add(point);
+		}
+		assertEquals(size, distinct.size());
+	}
+
+	private static double tourLength(MyPoint[] points) {
+		double length = 0;
+		for (int i = 0; i < points.length; i++) {
+			length += points[i].distance(points[(i + 1) % points.length]);
+		}
+		return length;
+	}
+}
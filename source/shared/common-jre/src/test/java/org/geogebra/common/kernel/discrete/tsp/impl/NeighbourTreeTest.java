@@ -0,0 +1,85 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+
+package org.geogebra.common.kernel.discrete.tsp.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class NeighbourTreeTest {
+
+	@Test
+	public void clusterWithFarOutlierShouldMatchBruteForce() {
+		Random random = new Random(42);
+		double[] x = new double[500];
+		double[] y = new double[500];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = random.nextDouble();
+			y[i] = random.nextDouble();
+		}
+		x[0] = 1E9;
+		assertNearest(x, y, 8);
+	}
+
+	@Test
+	public void duplicatesAndCollinearPointsShouldMatchBruteForce() {
+		double[] x = new double[100];
+		double[] y = new double[100];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = i / 4;
+		}
+		assertNearest(x, y, 5);
+	}
+
+	@Test
+	public void fewPointsShouldGiveAllOthers() {
+		int[] neighbours = NeighbourTree.nearest(new double[] {0, 3, 1},
+				new double[] {0, 0, 0}, 8);
+		assertEquals("[2, 1, 2, 0, 0, 1]", Arrays.toString(neighbours));
+	}
+
+	private static void assertNearest(double[] x, double[] y, int k) {
+		int n = x.length;
+		int[] neighbours = NeighbourTree.nearest(x, y, k);
+		assertEquals(n * k, neighbours.length);
+		for (int i = 0; i < n; i++) {
+			double[] dist = new double[n - 1];
+			int count = 0;
+			for (int j = 0; j < n; j++) {
+				if (j != i) {
+					dist[count++] = dist(x, y, i, j);
+				}
+			}
+			Arrays.sort(dist);
+			for (int m = 0; m < k; m++) {
+				// ties may be ordered differently, distances may not
+				assertEquals(dist[m], dist(x, y, i, neighbours[i * k + m]),
+						"neighbour " + m + " of point " + i);
+			}
+		}
+	}
+
+	private static double dist(double[] x, double[] y, int i, int j) {
+		double dx = x[i] - x[j];
+		double dy = y[i] - y[j];
+		return dx * dx + dy * dy;
+	}
+}
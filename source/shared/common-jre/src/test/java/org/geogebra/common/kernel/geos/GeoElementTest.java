@@ -71,4 +71,26 @@ public class GeoElementTest extends BaseUnitTest {
 			assertFalse(line.isProtected(EventType.UPDATE));
 		});
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void cachedValueStringShouldFollowUpdates() {
+		GeoNumeric a = add("a = 1.23456");
+		assertEquals("1.23", a.getValueStringCached(StringTemplate.defaultTemplate));
+		add("SetValue(a, 2.5)");
+		assertEquals("2.5", a.getValueStringCached(StringTemplate.defaultTemplate));
+	}
+
+	@Test
+	public void cachedStringsShouldFollowRoundingAndRenames() {
+		add("b = 1.23456");
+		GeoElement c = add("c = b + 1");
+		assertEquals("2.23", c.getValueStringCached(StringTemplate.defaultTemplate));
+		assertEquals("b + 1", c.getDefinitionCached(StringTemplate.defaultTemplate));
+		assertEquals("c = 2.23", c.getAlgebraDescriptionCached(StringTemplate.defaultTemplate));
+		getKernel().setPrintDecimals(3);
+		assertEquals("2.235", c.getValueStringCached(StringTemplate.defaultTemplate));
+		assertEquals("2.235", c.getLaTeXdescription());
+		lookup("b").rename("d");
+		assertEquals("d + 1", c.getDefinitionCached(StringTemplate.defaultTemplate));
+	}
+}
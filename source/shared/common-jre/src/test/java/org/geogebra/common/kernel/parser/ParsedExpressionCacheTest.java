@@ -0,0 +1,113 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.parser.ParsedExpressionCache.Mode;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParsedExpressionCacheTest extends BaseUnitTest {
+
+	private ParsedExpressionCache cache;
+
+	@Before
+	public void setupCache() {
+		cache = new ParsedExpressionCache(getKernel(), getKernel().getParser(),
+				ParsedExpressionCache.DEFAULT_CAPACITY);
+	}
+
+	@Test
+	public void repeatedInputShouldReturnIndependentCopies() throws ParseException {
+		ValidExpression first = cache.parse("a=Sum({1,2,3})+4", Mode.GEOGEBRA);
+		ValidExpression second = cache.parse("a=Sum({1,2,3})+4", Mode.GEOGEBRA);
+		ValidExpression third = cache.parse("a=Sum({1,2,3})+4", Mode.GEOGEBRA);
+		assertEquals(1, cache.getMisses());
+		assertEquals(2, cache.getHits());
+		assertNotSame(second, third);
+		assertNotSame(second.unwrap(), third.unwrap());
+		assertEquals("a", third.getLabel());
+		assertEquals(first.toString(StringTemplate.defaultTemplate),
+				third.toString(StringTemplate.defaultTemplate));
+	}
+
+	@Test
+	public void parserModesShouldBeCachedSeparately() throws ParseException {
+		cache.parse("1+2", Mode.GEOGEBRA);
+		cache.parse("1+2", Mode.INPUT_BOX);
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void newLabelsShouldInvalidateEntriesThatLookedThemUp()
+			throws ParseException {
+		// without an object called e, the parser reads e as Euler's number
+		cache.parse("e+1", Mode.GEOGEBRA);
+		add("e=2");
+		cache.parse("e+1", Mode.GEOGEBRA);
+		assertEquals(0, cache.getHits());
+		cache.parse("e+1", Mode.GEOGEBRA);
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void unrelatedLabelsShouldKeepEntries() throws ParseException {
+		cache.parse("e+1", Mode.GEOGEBRA);
+		add("c=2");
+		add("d=c+1");
+		cache.parse("e+1", Mode.GEOGEBRA);
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void repeatedRedefinitionShouldUseCache() {
+		add("a=1");
+		ParsedExpressionCache processorCache = getAlgebraProcessor()
+				.getParsedExpressionCache();
+		long hitsBefore = processorCache.getHits();
+		for (int i = 0; i < 4; i++) {
+			add("b=a+1");
+		}
+		assertThat(processorCache.getHits() - hitsBefore, greaterThan(1L));
+		assertThat(lookup("b"), hasValue("2"));
+	}
+
+	@Test
+	public void functionsShouldNotBeCached() throws ParseException {
+		cache.parse("f(x)=x^2", Mode.GEOGEBRA);
+		cache.parse("f(x)=x^2", Mode.GEOGEBRA);
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void repeatedCommandsShouldUseCurrentValues() {
+		add("c=1");
+		add("SetValue(c,c+1)");
+		add("SetValue(c,c+1)");
+		add("SetValue(c,c+1)");
+		assertThat(lookup("c"), hasValue("4"));
+		assertThat(getAlgebraProcessor().getParsedExpressionCache().getHits(),
+				greaterThan(1L));
+	}
+}
@@ -17,9 +17,12 @@
 package org.geogebra.common.kernel.statistics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.geogebra.common.SuiteSubApp;
 import org.geogebra.common.kernel.StringTemplate;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.test.BaseAppTestSetup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,4 +39,45 @@ public class AlgoCellRangeTest extends BaseAppTestSetup {
 		assertEquals("A1\\mathpunct{:}A2", evaluateGeoElement("A1:A2")
 				.toLaTeXString(true, StringTemplate.latexTemplate));
 	}
+
+	@Test
+	public void cellsAddedInsideRangeShouldKeepOrder() {
+		GeoElement range = evaluateGeoElement("range=A1:A5");
+		GeoElement sum = evaluateGeoElement("s=Sum(range)");
+		evaluate("A1=1");
+		evaluate("A4=4");
+		evaluate("A2=2");
+		assertEquals("{1, 2, 4}", range.toValueString(StringTemplate.defaultTemplate));
+		assertEquals("7", sum.toValueString(StringTemplate.defaultTemplate));
+	}
+
+	@Test
+	public void removedAndRenamedCellsShouldLeaveRange() {
+		GeoElement range = evaluateGeoElement("range=A1:A5");
+		evaluate("A1=1");
+		evaluate("A2=2");
+		evaluate("A3=3");
+		lookup("A2").remove();
+		assertEquals("{1, 3}", range.toValueString(StringTemplate.defaultTemplate));
+		lookup("A3").rename("C3");
+		assertEquals("{1}", range.toValueString(StringTemplate.defaultTemplate));
+		lookup("C3").rename("A5");
+		assertEquals("{1, 3}", range.toValueString(StringTemplate.defaultTemplate));
+	}
+
+	@Test
+	public void cacheShouldFollowInsertsAndRemovalsInsideRange() {
+		GeoList range = (GeoList) evaluateGeoElement("range=A1:A5");
+		evaluate("A1=1");
+		evaluate("A5=5");
+		evaluate("A3=3");
+		evaluate("A2=2");
+		lookup("A3").remove();
+		evaluate("A4=4");
+		assertEquals("{1, 2, 4, 5}",
+				range.toValueString(StringTemplate.defaultTemplate));
+		for (int i = 0; i < range.size(); i++) {
+			assertSame(range.get(i), range.getCached(i));
+		}
+	}
 }
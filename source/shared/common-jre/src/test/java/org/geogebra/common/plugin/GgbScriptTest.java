@@ -139,6 +139,35 @@ public class GgbScriptTest extends BaseUnitTest {
 				.getUndoManager().undoPossible(), equalTo(false));
 	}
 
+	@Test
+	public void repeatedScriptShouldUseCurrentValues() throws ScriptError {
+		add("a=1");
+		add("b=0");
+		add("A=(0,0)");
+		GgbScript script = makeScript("SetValue(b, 2a)", "SetCoords(A, a, b)");
+		script.run(new Event(EventType.UPDATE));
+		add("SetValue(a, 3)");
+		script.run(new Event(EventType.UPDATE));
+		assertThat(lookup("b"), hasValue("6"));
+		assertThat(lookup("A"), hasValue("(3, 6)"));
+	}
+
+	@Test
+	public void repeatedScriptShouldFollowReplacedObjects() throws ScriptError {
+		add("a=1");
+		add("b=0");
+		GgbScript script = makeScript("SetValue(b, a + 1)");
+		script.run(new Event(EventType.UPDATE));
+		lookup("a").remove();
+		add("a=5");
+		script.run(new Event(EventType.UPDATE));
+		assertThat(lookup("b"), hasValue("6"));
+		add("c=0");
+		script.renameGeo("b", "c");
+		script.run(new Event(EventType.UPDATE));
+		assertThat(lookup("c"), hasValue("6"));
+	}
+
 	private GgbScript makeScript(String... lines) {
 		String script = String.join("\n", Arrays.asList(lines));
 		return new GgbScript(getApp(), script);
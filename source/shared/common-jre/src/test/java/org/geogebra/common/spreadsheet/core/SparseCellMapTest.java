@@ -0,0 +1,99 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.spreadsheet.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SparseCellMapTest {
+
+	private final SparseCellMap<String> cells = new SparseCellMap<>();
+
+	@Test
+	public void putAndGet() {
+		assertNull(cells.put(2, 3, "D3"));
+		assertEquals("D3", cells.put(2, 3, "D3'"));
+		assertEquals("D3'", cells.get(2, 3));
+		assertNull(cells.get(3, 2));
+		assertEquals(1, cells.size());
+	}
+
+	@Test
+	public void putNullShouldRemove() {
+		cells.put(0, 0, "A1");
+		cells.put(0, 0, null);
+		assertNull(cells.get(0, 0));
+		assertTrue(cells.isEmpty());
+	}
+
+	@Test
+	public void negativeCoordinatesShouldBeIgnored() {
+		assertNull(cells.put(-1, 0, "X"));
+		assertNull(cells.get(-1, 0));
+		assertTrue(cells.isEmpty());
+	}
+
+	@Test
+	public void conditionalRemoveShouldCheckContent() {
+		cells.put(1, 1, "B2");
+		assertFalse(cells.remove(1, 1, "other"));
+		assertTrue(cells.remove(1, 1, "B2"));
+		assertNull(cells.get(1, 1));
+	}
+
+	@Test
+	public void shouldMatchHashMapUnderRandomOperations() {
+		Map<String, String> reference = new HashMap<>();
+		Random random = new Random(42);
+		for (int i = 0; i < 100000; i++) {
+			int row = random.nextInt(200);
+			int column = random.nextInt(50);
+			String key = row + ":" + column;
+			if (random.nextInt(3) == 0) {
+				assertEquals(reference.remove(key), cells.remove(row, column));
+			} else {
+				String value = Integer.toString(i);
+				assertEquals(reference.put(key, value), cells.put(row, column, value));
+			}
+		}
+		assertEquals(reference.size(), cells.size());
+		int[] visited = {0};
+		cells.forEach((row, column, value) -> {
+			assertEquals(reference.get(row + ":" + column), value);
+			visited[0]++;
+		});
+		assertEquals(reference.size(), visited[0]);
+	}
+
+	@Test
+	public void clearShouldRemoveAll() {
+		for (int i = 0; i < 1000; i++) {
+			cells.put(i, i, "x");
+		}
+		cells.clear();
+		assertTrue(cells.isEmpty());
+		assertNull(cells.get(10, 10));
+	}
+}
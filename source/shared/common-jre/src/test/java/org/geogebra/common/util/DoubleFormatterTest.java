@@ -0,0 +1,104 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+
+import org.geogebra.common.jre.util.NumberFormat;
+import org.geogebra.common.jre.util.ScientificFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class DoubleFormatterTest {
+
+	@ParameterizedTest
+	@CsvSource({
+			"1.005, 2, 1",
+			"1.125, 2, 1.13",
+			"-2.5, 0, -3",
+			"0.0999, 3, 0.1",
+			"-0.001, 2, -0",
+			"1234567.891, 1, 1234567.9",
+			"0.000123, 6, 0.000123"
+	})
+	public void fixedShouldRoundHalfUp(double x, int digits, String expected) {
+		StringBuilder sb = new StringBuilder();
+		DoubleFormatter.appendFixed(sb, x, digits);
+		assertEquals(expected, sb.toString());
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"0.0123, 5, 0.012300",
+			"-123.456, 4, -123.5",
+			"9.99996, 5, 10.000",
+			"123456, 3, 123000",
+			"0, 4, 0.000"
+	})
+	public void significantShouldKeepTrailingZeros(double x, int digits,
+			String expected) {
+		StringBuilder sb = new StringBuilder();
+		DoubleFormatter.appendSignificant(sb, x, digits, 16);
+		assertEquals(expected, sb.toString());
+	}
+
+	@Test
+	public void unsupportedNumbersShouldBeLeftToFormatters() {
+		StringBuilder sb = new StringBuilder();
+		assertFalse(DoubleFormatter.appendFixed(sb, Double.NaN, 2));
+		assertFalse(DoubleFormatter.appendFixed(sb, 1E20, 2));
+		assertFalse(DoubleFormatter.appendSignificant(sb, 1E20, 5, 16));
+		assertFalse(DoubleFormatter.appendSignificant(sb, 1.25, 2, 16));
+		assertFalse(DoubleFormatter.appendShortest(sb, 1E-5));
+		assertEquals("", sb.toString());
+	}
+
+	@Test
+	public void outputShouldMatchJreFormatters() {
+		Random random = new Random(42);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100000; i++) {
+			double x = i % 2 == 0
+					? (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16) - 6)
+					: Math.round(random.nextDouble() * 1E5) / 1000.0;
+			int digits = random.nextInt(16);
+			NumberFormat nf = new NumberFormat();
+			nf.setMaximumFractionDigits(digits);
+			nf.setGroupingUsed(false);
+			sb.setLength(0);
+			if (DoubleFormatter.appendFixed(sb, x, digits)) {
+				assertEquals(nf.format(x), sb.toString(), x + ", " + digits);
+			}
+			int sigDigits = digits + 2;
+			sb.setLength(0);
+			if (DoubleFormatter.appendSignificant(sb, x, sigDigits, 16)) {
+				StringBuilder expected = new StringBuilder();
+				StringUtil.appendFormat(expected, x,
+						new ScientificFormat(sigDigits, 16, false));
+				assertEquals(expected.toString(), sb.toString(), x + ", " + sigDigits);
+			}
+			sb.setLength(0);
+			if (DoubleFormatter.appendShortest(sb, x)) {
+				assertEquals(Double.toString(x), sb.toString());
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.util.Prover.ProofResult;
+import org.geogebra.common.util.Prover.ProverEngine;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProverStatisticsTest {
+
+	private final ProverStatistics statistics = ProverStatistics.get();
+
+	@Before
+	public void reset() {
+		statistics.reset();
+	}
+
+	@Test
+	public void shouldCountRunsAndDecisiveRuns() {
+		statistics.record(ProverEngine.RECIOS_PROVER, ProofResult.TRUE, 10);
+		statistics.record(ProverEngine.RECIOS_PROVER, ProofResult.UNKNOWN, 30);
+		statistics.record(ProverEngine.RECIOS_PROVER,
+				ProofResult.TRUE_NDG_UNREADABLE, 20);
+		statistics.record(ProverEngine.BOTANAS_PROVER, ProofResult.FALSE, 5);
+		assertEquals(3, statistics.getRuns(ProverEngine.RECIOS_PROVER));
+		assertEquals(1, statistics.getDecisiveRuns(ProverEngine.RECIOS_PROVER));
+		assertEquals(20, statistics.getAverageTime(ProverEngine.RECIOS_PROVER),
+				1E-9);
+		assertEquals(1, statistics.getDecisiveRuns(ProverEngine.BOTANAS_PROVER));
+		assertEquals("RECIOS_PROVER: 1/3 decided, 20 ms avg\n"
+				+ "BOTANAS_PROVER: 1/1 decided, 5 ms avg\n", statistics.toString());
+	}
+
+	@Test
+	public void jsonShouldListEnginesThatRan() {
+		statistics.record(ProverEngine.RECIOS_PROVER, ProofResult.TRUE, 10);
+		statistics.record(ProverEngine.RECIOS_PROVER, ProofResult.UNKNOWN, 30);
+		assertEquals("{\"RECIOS_PROVER\":{\"runs\":2,\"decisive\":1,"
+				+ "\"average\":20}}", statistics.toJSON());
+	}
+
+	@Test
+	public void resetShouldForgetRuns() {
+		statistics.record(ProverEngine.BOTANAS_PROVER, ProofResult.TRUE, 5);
+		statistics.reset();
+		assertEquals(0, statistics.getRuns(ProverEngine.BOTANAS_PROVER));
+		assertTrue(Double.isNaN(
+				statistics.getAverageTime(ProverEngine.BOTANAS_PROVER)));
+		assertEquals("", statistics.toString());
+	}
+}
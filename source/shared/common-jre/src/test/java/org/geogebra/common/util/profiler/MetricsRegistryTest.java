@@ -0,0 +1,85 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util.profiler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.geogebra.common.BaseUnitTest;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.junit.Test;
+
+public class MetricsRegistryTest extends BaseUnitTest {
+
+	@Test
+	public void nothingShouldBeRecordedWhenDisabled() {
+		MetricsRegistry metrics = new MetricsRegistry();
+		metrics.record("a", 1);
+		assertEquals(0, metrics.now(), 0);
+		assertNull(metrics.getHistogram("a"));
+		assertTrue(metrics.getNames().isEmpty());
+	}
+
+	@Test
+	public void histogramShouldEstimatePercentiles() {
+		MetricsRegistry metrics = new MetricsRegistry();
+		metrics.setEnabled(true);
+		for (int i = 1; i <= 100; i++) {
+			metrics.record("a", i);
+		}
+		Histogram histogram = metrics.getHistogram("a");
+		assertEquals(100, histogram.getCount());
+		assertEquals(50.5, histogram.getMean(), DELTA);
+		assertEquals(1, histogram.getMin(), 0);
+		assertEquals(100, histogram.getMax(), 0);
+		// bucket bounds grow by less than a factor of 2
+		assertTrue(histogram.getPercentile(50) >= 50);
+		assertTrue(histogram.getPercentile(50) < 100);
+		assertEquals(100, histogram.getPercentile(100), 0);
+	}
+
+	@Test
+	public void durationStartedWhileDisabledShouldBeSkipped() {
+		MetricsRegistry metrics = new MetricsRegistry();
+		double start = metrics.now();
+		metrics.setEnabled(true);
+		metrics.recordSince("a", start);
+		assertNull(metrics.getHistogram("a"));
+		metrics.recordSince("a", metrics.now());
+		assertEquals(1, metrics.getHistogram("a").getCount());
+	}
+
+	@Test
+	public void updateShouldBeRecorded() {
+		MetricsRegistry metrics = getApp().getMetrics();
+		metrics.setEnabled(true);
+		GeoNumeric a = add("a = 1");
+		add("b = a + 1");
+		a.setValue(2);
+		a.updateRepaint();
+		assertThat(metrics.getNames(), hasItem(MetricsRegistry.UPDATE_CASCADE));
+		assertThat(metrics.getNames(),
+				hasItem(MetricsRegistry.COMPUTE + "Expression"));
+		assertThat(metrics.toJSON(), containsString("\"updateCascade\""));
+		metrics.reset();
+		assertTrue(metrics.getNames().isEmpty());
+	}
+}
@@ -4183,6 +4183,8 @@ public class CommandsTestCommon extends BaseCommandTest {
 				"(2.0351425014047106, 0.5603546311318476)");
 		t("TriangleCenter[ (-1.2, 2.28),(6.36, 4.77),(2.5, 0.76), 591]",
 				"(3.972074828617704, 4.828273764099394)");
+		tRound("TriangleCenter[ (0,0),(4,0),(0,3),1,2 ]",
+				"{(1, 1), (1.33333, 1)}");
 	}
 
 	@Test
@@ -64,6 +64,7 @@ import org.geogebra.common.main.MyError.Errors;
 import org.geogebra.common.main.error.ErrorHelper;
 import org.geogebra.common.util.MaxSizeHashMap;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 
 import com.google.j2objc.annotations.Weak;
 
@@ -157,12 +158,15 @@ public class GeoGebraCAS implements GeoGebraCasInterface {
 		}
 		String result = null;
 		CASException exception = null;
+		MetricsRegistry metrics = app.getMetrics();
+		double start = metrics.now();
 		try {
 			result = getCurrentCAS().evaluateGeoGebraCAS(casInput, arbconst,
 					tpl, cell, kernel);
 		} catch (CASException ce) {
 			exception = ce;
 		}
+		metrics.recordSince(MetricsRegistry.CAS, start);
 
 		// check if keep input command was successful
 		// e.g. for KeepInput[Substitute[...]]
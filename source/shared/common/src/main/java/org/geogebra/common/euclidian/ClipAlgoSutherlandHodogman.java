@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.MyPoint;
+import org.geogebra.common.kernel.SegmentType;
 import org.geogebra.common.util.DoubleUtil;
 
 public class ClipAlgoSutherlandHodogman {
@@ -30,15 +31,19 @@ public class ClipAlgoSutherlandHodogman {
 
 	private double maxValue = Float.MAX_VALUE;
 
-	static class Edge {
-		private final MyPoint start;
-		private final MyPoint end;
+	// intermediate results, reused between calls
+	private final PathPoints firstBuffer = new PathPoints();
+	private final PathPoints secondBuffer = new PathPoints();
 
-		public Edge(MyPoint start, MyPoint end) {
-			this.start = start;
-			this.end = end;
-		}
-	}
+	// current clipping edge
+	private double startX;
+	private double startY;
+	private double endX;
+	private double endY;
+
+	// last computed intersection
+	private double intersectionX;
+	private double intersectionY;
 
 	/**
 	 * Max value used when calculations produce Infinity or NaN values.
@@ -54,79 +59,105 @@ public class ClipAlgoSutherlandHodogman {
 	 * @return clipped points
 	 */
 	public List<MyPoint> process(List<MyPoint> input, double[][] clipPoints) {
-		List<MyPoint> output = input;
-		limitYValues(output);
-		for (int i = 0; i < EDGE_COUNT; i++) {
-			output = clipWithEdge(createEdge(clipPoints, i), output);
+		PathPoints inputPoints = new PathPoints(input.size());
+		for (MyPoint point : input) {
+			inputPoints.add(point.x, point.y, point.getSegmentType());
+		}
+		PathPoints outputPoints = new PathPoints(input.size());
+		process(inputPoints, clipPoints, outputPoints);
+		List<MyPoint> output = new ArrayList<>(outputPoints.size());
+		for (int i = 0; i < outputPoints.size(); i++) {
+			output.add(outputPoints.getPoint(i));
 		}
-
 		return output;
 	}
 
-	private void limitYValues(List<MyPoint> input) {
-		input.stream().filter(pt -> pt.y > Y_LIMIT)
-				.forEach(pt -> pt.y = Math.signum(pt.y) * Y_LIMIT);
+	/**
+	 * Clips the input without allocating; y-coords of the input may be
+	 * changed.
+	 *
+	 * @param input input points
+	 * @param clipPoints vertices of clipping polygon
+	 * @param output clipped points (cleared first), must not be the input
+	 */
+	public void process(PathPoints input, double[][] clipPoints,
+			PathPoints output) {
+		limitYValues(input);
+		PathPoints current = input;
+		for (int i = 0; i < EDGE_COUNT; i++) {
+			PathPoints next = i == EDGE_COUNT - 1 ? output
+					: i % 2 == 0 ? firstBuffer : secondBuffer;
+			setEdge(clipPoints, i);
+			clipWithEdge(current, next);
+			current = next;
+		}
 	}
 
-	private Edge createEdge(double[][] clipPoints, int i) {
-		return new Edge(createPoint(clipPoints[(i + 3) % EDGE_COUNT]),
-				createPoint(clipPoints[i]));
+	private static void limitYValues(PathPoints input) {
+		for (int i = 0; i < input.size(); i++) {
+			if (input.getY(i) > Y_LIMIT) {
+				input.setY(i, Y_LIMIT);
+			}
+		}
 	}
 
-	private MyPoint createPoint(double[] value) {
-		return new MyPoint(value[0], value[1]);
+	private void setEdge(double[][] clipPoints, int i) {
+		double[] start = clipPoints[(i + 3) % EDGE_COUNT];
+		double[] end = clipPoints[i];
+		startX = start[0];
+		startY = start[1];
+		endX = end[0];
+		endY = end[1];
 	}
 
-	private List<MyPoint> clipWithEdge(Edge edge, List<MyPoint> input) {
-
-		List<MyPoint> output = new ArrayList<>();
-
-		for (int i = 0; i < input.size(); i++) {
-			MyPoint prev = input.get((i > 0 ? i : input.size()) - 1);
-			MyPoint current = input.get(i);
-			addClippedOutput(edge, prev, current, output);
+	private void clipWithEdge(PathPoints input, PathPoints output) {
+		output.clear();
+		int size = input.size();
+		for (int i = 0; i < size; i++) {
+			addClippedOutput(input, (i > 0 ? i : size) - 1, i, output);
 		}
-		return output;
 	}
 
-	private void addClippedOutput(Edge edge,
-			MyPoint prev, MyPoint current, List<MyPoint> output) {
-		if (isInside(edge, current)) {
-			if (!isInside(edge, prev)) {
-				handleIntersectionPoint(edge, prev, current, output);
+	private void addClippedOutput(PathPoints input, int prev, int current,
+			PathPoints output) {
+		double currentX = input.getX(current);
+		double currentY = input.getY(current);
+		double prevX = input.getX(prev);
+		double prevY = input.getY(prev);
+		if (isInside(currentX, currentY)) {
+			if (!isInside(prevX, prevY)) {
+				handleIntersectionPoint(input, prev, current, output);
 			}
 
-			output.add(current);
+			output.add(currentX, currentY, input.getType(current));
 
-		} else if (isInside(edge, prev)) {
-			handleIntersectionPoint(edge, prev, current, output);
+		} else if (isInside(prevX, prevY)) {
+			handleIntersectionPoint(input, prev, current, output);
 		}
 	}
 
-	private void handleIntersectionPoint(Edge edge, MyPoint prev,
-			MyPoint current, List<MyPoint> output) {
-		MyPoint intersection = intersection(edge, prev, current);
-		if (intersection == null) {
-			current.setLineTo(false);
+	private void handleIntersectionPoint(PathPoints input, int prev,
+			int current, PathPoints output) {
+		if (intersection(input.getX(prev), input.getY(prev),
+				input.getX(current), input.getY(current))) {
+			output.add(intersectionX, intersectionY, input.getType(current));
 		} else {
-			output.add(intersection);
+			input.setType(current, SegmentType.MOVE_TO);
 		}
 	}
 
-	private static boolean isInside(Edge edge, MyPoint c) {
-		return (edge.start.x - c.x) * (edge.end.y - c.y)
-				< (edge.start.y - c.y) * (edge.end.x - c.x);
+	private boolean isInside(double x, double y) {
+		return (startX - x) * (endY - y) < (startY - y) * (endX - x);
 	}
 
-	private MyPoint intersection(Edge edge, MyPoint p,
-			MyPoint q) {
-		double a1 = edge.end.y - edge.start.y;
-		double b1 = edge.start.x - edge.end.x;
-		double c1 = a1 * edge.start.x + b1 * edge.start.y;
+	private boolean intersection(double px, double py, double qx, double qy) {
+		double a1 = endY - startY;
+		double b1 = startX - endX;
+		double c1 = a1 * startX + b1 * startY;
 
-		double a2 = q.y - p.y;
-		double b2 = p.x - q.x;
-		double c2 = getSafeNumber(a2 * p.x + b2 * p.y);
+		double a2 = qy - py;
+		double b2 = px - qx;
+		double c2 = getSafeNumber(a2 * px + b2 * py);
 
 		double det = a1 * b2 - a2 * b1;
 
@@ -138,11 +169,13 @@ public class ClipAlgoSutherlandHodogman {
 		double y = getSafeNumber(n2 / det);
 
 		if (Double.isNaN(x) || Double.isNaN(y))  {
-			return null;
+			return false;
 		}
 
 		// add 0.0 to avoid -0.0 problem.
-		return new MyPoint(x + 0.0, y + 0.0, q.getSegmentType());
+		intersectionX = x + 0.0;
+		intersectionY = y + 0.0;
+		return true;
 	}
 
 	private double getSafeNumber(double value) {
@@ -63,6 +63,9 @@ public abstract class Drawable extends DrawableND {
 	private static final int HIGHLIGHT_DIAMETER = 8;
 	public static final int LATEX_Y_LABEL_OFFSET = 10;
 	private static final int KEYBOARD_HIGHLIGHT_EXTRA_WIDTH = 3;
+	// pixels that point markers, decorations and labels may exceed the real
+	// world bounds by (in addition to label size and offset)
+	private static final int OFF_SCREEN_MARGIN = 32;
 
 	private boolean forceNoFill;
 
@@ -132,6 +135,7 @@ public abstract class Drawable extends DrawableND {
 	private GeoElement geoForLabel;
 	private DrawDynamicCaption drawDynamicCaption;
 	private int labelMargin = DrawText.DEFAULT_MARGIN;
+	private boolean updateDeferred;
 
 	/**
 	 * Create a default drawable. GeoElement and the view must be set
@@ -820,6 +824,89 @@ public abstract class Drawable extends DrawableND {
 		update();
 	}
 
+	/**
+	 * Update when view was changed; if the drawable stays off screen, it is
+	 * only marked for update and the update is done once it gets on screen.
+	 * Selected and focused elements are always updated, style bar and
+	 * selection box need their bounds.
+	 */
+	public void updateForViewIfOnScreen() {
+		if (!isTracing() && !isSelectedOrFocused() && isOffScreen()) {
+			setNeedsUpdate(true);
+			updateDeferred = true;
+		} else {
+			if (updateDeferred) {
+				setNeedsUpdate(false);
+			}
+			updateForView();
+		}
+	}
+
+	private boolean isSelectedOrFocused() {
+		return geo != null && (geo.isSelected() || geo == view.getApplication()
+				.getSelectionManager().getFocusedGroupElement());
+	}
+
+	/**
+	 * @return whether the last update was skipped because the drawable was off
+	 *         screen; shapes used for hit testing are outdated in that case
+	 */
+	public boolean isUpdateDeferred() {
+		return updateDeferred;
+	}
+
+	/**
+	 * @return whether update was deferred and the drawable is still off screen
+	 */
+	public boolean isDeferredOffScreen() {
+		return updateDeferred && isOffScreen();
+	}
+
+	@Override
+	public void setNeedsUpdate(boolean b) {
+		super.setNeedsUpdate(b);
+		updateDeferred = false;
+	}
+
+	/**
+	 * Checks cheaply (without updating) whether the element is entirely off
+	 * screen, based on its current real world coordinates.
+	 *
+	 * @return whether the element is known to be off screen; false if unknown
+	 */
+	protected boolean isOffScreen() {
+		return false;
+	}
+
+	/**
+	 * @param minX
+	 *            min real world x-coord of the geometry
+	 * @param minY
+	 *            min real world y-coord of the geometry
+	 * @param maxX
+	 *            max real world x-coord of the geometry
+	 * @param maxY
+	 *            max real world y-coord of the geometry
+	 * @return whether the geometry, its label and decorations are outside of
+	 *         the view
+	 */
+	protected boolean isOffScreen(double minX, double minY, double maxX,
+			double maxY) {
+		if (!view.isDefault2D()) {
+			return false;
+		}
+		double margin = OFF_SCREEN_MARGIN;
+		if (geo.isLabelVisible()) {
+			margin += labelRectangle.getWidth() + labelRectangle.getHeight()
+					+ Math.abs(geo.labelOffsetX) + Math.abs(geo.labelOffsetY);
+		}
+		// screen y-axis points down; comparisons with NaN are false
+		return view.toScreenCoordXd(maxX) < -margin
+				|| view.toScreenCoordXd(minX) > view.getWidth() + margin
+				|| view.toScreenCoordYd(minY) < -margin
+				|| view.toScreenCoordYd(maxY) > view.getHeight() + margin;
+	}
+
 	/**
 	 * method to handle corner or side drag of bounding box to resize geo
 	 * 
@@ -75,8 +75,10 @@ public class DrawableList extends ArrayList<Drawable> {
 					&& !(geo.isGeoList() && ((GeoList) geo).drawAsComboBox())
 					&& !geo.isGeoInputBox() && !geo.isMask() && !geo.isMeasurementTool()
 					&& !geo.isSpotlight()) {
-				d.updateIfNeeded();
-				d.draw(g2);
+				if (!d.isDeferredOffScreen()) {
+					d.updateIfNeeded();
+					d.draw(g2);
+				}
 			}
 		}
 	}
@@ -1277,9 +1277,23 @@ public abstract class EuclidianView implements EuclidianViewInterfaceCommon,
 	 */
 	public double[] getOnScreenDiff(double[] p1, double[] p2) {
 		double[] ret = new double[2];
+		getOnScreenDiff(p1, p2, ret);
+		return ret;
+	}
+
+	/**
+	 * Stores (p2-p1) vector in screen coordinates in ret.
+	 *
+	 * @param p1
+	 *            first point
+	 * @param p2
+	 *            second point
+	 * @param ret
+	 *            output array
+	 */
+	public void getOnScreenDiff(double[] p1, double[] p2, double[] ret) {
 		ret[0] = (p2[0] - p1[0]) * getXscale();
 		ret[1] = (p2[1] - p1[1]) * getYscale();
-		return ret;
 	}
 
 	/**
@@ -1860,7 +1874,7 @@ public abstract class EuclidianView implements EuclidianViewInterfaceCommon,
 
 		isCrashlyticsLoggingEnabled = true;
 		for (Drawable d : allDrawableList) {
-			d.updateForView();
+			d.updateForViewIfOnScreen();
 		}
 		for (Drawable d : bgImageList) {
 			d.updateForView();
@@ -2334,7 +2348,7 @@ public abstract class EuclidianView implements EuclidianViewInterfaceCommon,
 			return null;
 		}
 		for (Drawable d : allDrawableList) {
-			if (d.hitLabel(p.x, p.y)) {
+			if (!d.isUpdateDeferred() && d.hitLabel(p.x, p.y)) {
 				GeoElement geo = d.getGeoElement();
 				if (geo.isEuclidianVisible() && geo.isLabelVisible()) {
 					return geo;
@@ -2511,7 +2525,12 @@ public abstract class EuclidianView implements EuclidianViewInterfaceCommon,
 	public void updateHighlight(GeoElementND geo) {
 		DrawableND drawable = drawableMap.get(geo);
 		if (drawable instanceof Drawable) {
-			((Drawable) drawable).updateStrokes(geo);
+			Drawable d = (Drawable) drawable;
+			// bounds of selected elements are needed for the style bar
+			if (d.isUpdateDeferred() && d.getGeoElement().isSelected()) {
+				d.updateIfNeeded();
+			}
+			d.updateStrokes(geo);
 		}
 		if (drawable instanceof DrawLocus) {
 			drawable.update();
@@ -4467,6 +4486,9 @@ public abstract class EuclidianView implements EuclidianViewInterfaceCommon,
 		GRectangle result = null;
 
 		for (Drawable d : allDrawableList) {
+			if (d.isUpdateDeferred()) {
+				d.updateIfNeeded();
+			}
 			GRectangle bb = d.getBounds();
 			if (bb != null) {
 				if (result == null) {
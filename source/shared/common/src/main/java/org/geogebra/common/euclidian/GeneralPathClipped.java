@@ -16,9 +16,6 @@
 
 package org.geogebra.common.euclidian;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.geogebra.common.awt.AwtFactory;
 import org.geogebra.common.awt.GAffineTransform;
 import org.geogebra.common.awt.GGeneralPath;
@@ -43,7 +40,9 @@ import org.geogebra.common.util.debug.Log;
  */
 public class GeneralPathClipped {
 
-	private final ArrayList<MyPoint> unprocessedPathPoints;
+	private final PathPoints unprocessedPathPoints;
+	/** Output of clipping, reused between repaints */
+	private final PathPoints clippedPathPoints;
 	/** Cached clipped path, considered invalid if {@code unprocessedPathPoints} are not empty */
 	private final GGeneralPath gp;
 	private static final double MAX_COORD_VALUE = 10000;
@@ -77,7 +76,8 @@ public class GeneralPathClipped {
 	 */
 	public GeneralPathClipped(EuclidianViewInterfaceSlim view) {
 		this.view = view;
-		unprocessedPathPoints = new ArrayList<>();
+		unprocessedPathPoints = new PathPoints();
+		clippedPathPoints = new PathPoints();
 		clipAlgoSutherlandHodogman = new ClipAlgoSutherlandHodogman();
 		gp = AwtFactory.getPrototype().newGeneralPath();
 	}
@@ -89,7 +89,7 @@ public class GeneralPathClipped {
 		if (unprocessedPathPoints.isEmpty()) {
 			return null;
 		}
-		return unprocessedPathPoints.get(0);
+		return unprocessedPathPoints.getPoint(0);
 	}
 
 	/**
@@ -145,10 +145,11 @@ public class GeneralPathClipped {
 
 	private void addSimpleSegments() {
 		for (int i = 0; i < unprocessedPathPoints.size(); i++) {
-			MyPoint curP = unprocessedPathPoints.get(i);
+			SegmentType segmentType = unprocessedPathPoints.getType(i);
 			// https://play.google.com/apps/publish/?dev_acc=05873811091523087820#ErrorClusterDetailsPlace:p=org.geogebra.android&et=CRASH&lr=LAST_7_DAYS&ecn=java.lang.NullPointerException&tf=SourceFile&tc=org.geogebra.common.euclidian.GeneralPathClipped&tm=addSimpleSegments&nid&an&c&s=new_status_desc
-			if (curP != null) {
-				addToGeneralPath(curP, curP.getSegmentType());
+			if (segmentType != null) {
+				addToGeneralPath(unprocessedPathPoints.getX(i),
+						unprocessedPathPoints.getY(i), segmentType);
 			} else {
 				Log.error("curP shouldn't be null here");
 			}
@@ -168,36 +169,37 @@ public class GeneralPathClipped {
 		};
 
 		if (needClosePath) {
-			unprocessedPathPoints.get(0).setLineTo(true);
+			unprocessedPathPoints.setType(0, SegmentType.LINE_TO);
 		}
 
-		List<MyPoint> result = clipAlgoSutherlandHodogman
-				.process(unprocessedPathPoints, clipPoints);
+		clipAlgoSutherlandHodogman.process(unprocessedPathPoints, clipPoints,
+				clippedPathPoints);
 
-		for (MyPoint curP : result) {
-			addToGeneralPath(curP, curP.getSegmentType());
+		for (int i = 0; i < clippedPathPoints.size(); i++) {
+			addToGeneralPath(clippedPathPoints.getX(i),
+					clippedPathPoints.getY(i), clippedPathPoints.getType(i));
 		}
 
-		if (result.size() > 0 && needClosePath) {
+		if (clippedPathPoints.size() > 0 && needClosePath) {
 			gp.closePath();
 		}
 	}
 
-	private void addToGeneralPath(GPoint2D q, SegmentType lineTo) {
+	private void addToGeneralPath(double qx, double qy, SegmentType lineTo) {
 		GPoint2D p = gp.getCurrentPoint();
 
 		if (lineTo == SegmentType.CONTROL) {
 			if (Double.isNaN(cont1X) && Double.isNaN(cont1Y)) {
-				cont1X = q.getX();
-				cont1Y = q.getY();
+				cont1X = qx;
+				cont1Y = qy;
 			} else {
-				cont2X = q.getX();
-				cont2Y = q.getY();
+				cont2X = qx;
+				cont2Y = qy;
 			}
 		} else if (lineTo == SegmentType.CURVE_TO) {
 			if (!Double.isNaN(cont1X) && !Double.isNaN(cont1Y)
 					&& !Double.isNaN(cont2X) && !Double.isNaN(cont2Y)) {
-				gp.curveTo(cont1X, cont1Y, cont2X, cont2Y, q.getX(), q.getY());
+				gp.curveTo(cont1X, cont1Y, cont2X, cont2Y, qx, qy);
 				cont1X = Double.NaN;
 				cont1Y = Double.NaN;
 				cont2X = Double.NaN;
@@ -205,33 +207,33 @@ public class GeneralPathClipped {
 			}
 		}
 		else if (lineTo == SegmentType.AUXILIARY) {
-			auxX = q.getX();
-			auxY = q.getY();
+			auxX = qx;
+			auxY = qy;
 		} else if (lineTo == SegmentType.ARC_TO && p != null) {
 			try {
 
 				double dx1 = auxX - p.getX();
 				double dy1 = auxY - p.getY();
-				double dx2 = auxX - q.getX();
-				double dy2 = auxY - q.getY();
+				double dx2 = auxX - qx;
+				double dy2 = auxY - qy;
 				double angle = MyMath.angle(dx1, dy1, dx2, dy2);
 				double cv = btan(Math.PI - angle) * Math.tan(angle / 2);
 				gp.curveTo(p.getX() + dx1 * cv, p.getY() + dy1 * cv,
-						q.getX() + dx2 * cv, q.getY() + dy2 * cv, q.getX(),
-						q.getY());
+						qx + dx2 * cv, qy + dy2 * cv, qx,
+						qy);
 
 			} catch (Exception e) {
-				gp.moveTo(q.getX(), q.getY());
+				gp.moveTo(qx, qy);
 			}
 		}
 		else if (lineTo == SegmentType.LINE_TO && p != null) {
 			try {
-				gp.lineTo(q.getX(), q.getY());
+				gp.lineTo(qx, qy);
 			} catch (Exception e) {
-				gp.moveTo(q.getX(), q.getY());
+				gp.moveTo(qx, qy);
 			}
 		} else {
-			gp.moveTo(q.getX(), q.getY());
+			gp.moveTo(qx, qy);
 		}
 	}
 
@@ -279,12 +281,7 @@ public class GeneralPathClipped {
 			return;
 		}
 
-		MyPoint p = new MyPoint(x, y, SegmentType.LINE_TO);
-		unprocessedPathPoints.ensureCapacity(pos + 1);
-		while (unprocessedPathPoints.size() <= pos) {
-			unprocessedPathPoints.add(null);
-		}
-		unprocessedPathPoints.set(pos, p);
+		unprocessedPathPoints.set(pos, x, y, SegmentType.LINE_TO);
 	}
 
 	/**
@@ -306,14 +303,11 @@ public class GeneralPathClipped {
 			polygon = false;
 		}
 
-		MyPoint p = new MyPoint(x, y, segmentType);
-		updateBounds(p);
-		unprocessedPathPoints.add(p);
+		updateBounds(x, y);
+		unprocessedPathPoints.add(x, y, segmentType);
 	}
 
-	private void updateBounds(GPoint2D point) {
-		double x = point.getX();
-		double y = point.getY();
+	private void updateBounds(double x, double y) {
 		if (bounds == null) {
 			bounds = oldBounds != null ? oldBounds
 					: AwtFactory.getPrototype().newRectangle2D();
@@ -333,7 +327,25 @@ public class GeneralPathClipped {
 		if (unprocessedPathPoints.isEmpty()) {
 			return null;
 		}
-		return unprocessedPathPoints.get(unprocessedPathPoints.size() - 1);
+		return unprocessedPathPoints.getPoint(unprocessedPathPoints.size() - 1);
+	}
+
+	/**
+	 * @apiNote Only valid if {@link #size()} is positive, should not be
+	 *          called after {@code getGeneralPath}.
+	 * @return x-coord of the current point
+	 */
+	public double getCurrentX() {
+		return unprocessedPathPoints.getX(unprocessedPathPoints.size() - 1);
+	}
+
+	/**
+	 * @apiNote Only valid if {@link #size()} is positive, should not be
+	 *          called after {@code getGeneralPath}.
+	 * @return y-coord of the current point
+	 */
+	public double getCurrentY() {
+		return unprocessedPathPoints.getY(unprocessedPathPoints.size() - 1);
 	}
 
 	/**
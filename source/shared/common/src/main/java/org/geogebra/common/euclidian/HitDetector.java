@@ -59,7 +59,7 @@ public class HitDetector {
 		boolean hitMask = false;
 
 		for (Drawable d : ev.getAllDrawableList()) {
-			if (d.isEuclidianVisible()) {
+			if (d.isEuclidianVisible() && !d.isUpdateDeferred()) {
 				if (d.hit(p.x, p.y, hitThreshold)) {
 					GeoElement geo = d.getGeoElement();
 					hitMask = hitMask || (geo.isMask() || geo.isMeasurementTool())
@@ -190,7 +190,8 @@ public class HitDetector {
 
 		for (Drawable d : ev.getAllDrawableList()) {
 			GeoElement geo = d.getGeoElement();
-			if (geo.isEuclidianVisible() && geo.isSelectionAllowed(ev) && filter.test(geo)
+			if (geo.isEuclidianVisible() && !d.isUpdateDeferred()
+					&& geo.isSelectionAllowed(ev) && filter.test(geo)
 					&& !hits.contains(geo)
 					&& d.intersectsRectangle(rect)) {
 				d.setPartialHitClip(rect);
@@ -221,7 +222,8 @@ public class HitDetector {
 
 		for (Drawable d : ev.getAllDrawableList()) {
 			GeoElement geo = d.getGeoElement();
-			if (geo.isEuclidianVisible() && d.isInside(rect)) {
+			if (geo.isEuclidianVisible() && !d.isUpdateDeferred()
+					&& d.isInside(rect)) {
 				hits.add(geo);
 			}
 		}
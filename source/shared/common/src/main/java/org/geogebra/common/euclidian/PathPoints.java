@@ -0,0 +1,185 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian;
+
+import java.util.Arrays;
+
+import org.geogebra.common.kernel.MyPoint;
+import org.geogebra.common.kernel.SegmentType;
+
+/**
+ * Growable list of path points stored in primitive arrays. Clearing keeps the
+ * arrays, so the same instance can be filled again on every repaint without
+ * allocating.
+ */
+public class PathPoints {
+
+	private double[] xs;
+	private double[] ys;
+	/** segment types, null for positions that were skipped */
+	private SegmentType[] types;
+	private int size;
+
+	/**
+	 * Creates empty list
+	 */
+	public PathPoints() {
+		this(16);
+	}
+
+	/**
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public PathPoints(int capacity) {
+		int length = Math.max(capacity, 4);
+		xs = new double[length];
+		ys = new double[length];
+		types = new SegmentType[length];
+	}
+
+	/**
+	 * @return number of points
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return whether there are no points
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all points, keeps the allocated storage.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return x-coord of the point
+	 */
+	public double getX(int index) {
+		return xs[index];
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return y-coord of the point
+	 */
+	public double getY(int index) {
+		return ys[index];
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return segment type of the point, null if the position was skipped
+	 */
+	public SegmentType getType(int index) {
+		return types[index];
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @param y
+	 *            new y-coord
+	 */
+	public void setY(int index, double y) {
+		ys[index] = y;
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @param type
+	 *            new segment type
+	 */
+	public void setType(int index, SegmentType type) {
+		types[index] = type;
+	}
+
+	/**
+	 * Appends a point.
+	 *
+	 * @param x
+	 *            x-coord
+	 * @param y
+	 *            y-coord
+	 * @param type
+	 *            segment type
+	 */
+	public void add(double x, double y, SegmentType type) {
+		ensureCapacity(size + 1);
+		xs[size] = x;
+		ys[size] = y;
+		types[size] = type;
+		size++;
+	}
+
+	/**
+	 * Sets a point at given position; positions between the current end and
+	 * the index are marked as skipped.
+	 *
+	 * @param index
+	 *            index
+	 * @param x
+	 *            x-coord
+	 * @param y
+	 *            y-coord
+	 * @param type
+	 *            segment type
+	 */
+	public void set(int index, double x, double y, SegmentType type) {
+		ensureCapacity(index + 1);
+		while (size <= index) {
+			types[size++] = null;
+		}
+		xs[index] = x;
+		ys[index] = y;
+		types[index] = type;
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return new point with the values at index, null if the position was
+	 *         skipped
+	 */
+	public MyPoint getPoint(int index) {
+		if (types[index] == null) {
+			return null;
+		}
+		return new MyPoint(xs[index], ys[index], types[index]);
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > xs.length) {
+			int length = Math.max(capacity, 2 * xs.length);
+			xs = Arrays.copyOf(xs, length);
+			ys = Arrays.copyOf(ys, length);
+			types = Arrays.copyOf(types, length);
+		}
+	}
+}
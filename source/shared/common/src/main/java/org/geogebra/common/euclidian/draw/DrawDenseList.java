@@ -0,0 +1,388 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian.draw;
+
+import org.geogebra.common.awt.AwtFactory;
+import org.geogebra.common.awt.GColor;
+import org.geogebra.common.awt.GGraphics2D;
+import org.geogebra.common.awt.GRectangle;
+import org.geogebra.common.euclidian.Drawable;
+import org.geogebra.common.euclidian.EuclidianView;
+import org.geogebra.common.euclidian.GeneralPathClipped;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoPoint;
+import org.geogebra.common.kernel.geos.GeoSegment;
+import org.geogebra.common.kernel.kernelND.GeoElementND;
+import org.geogebra.common.kernel.kernelND.GeoPointND;
+
+/**
+ * Level of detail drawing of large lists of equally styled points or segments.
+ * Points are binned into screen pixels and one marker is drawn per occupied
+ * pixel, short segments are merged into a single path. When the elements are
+ * sparse enough to be told apart (e.g. after zooming in), {@link #isActive()}
+ * is false and the elements should be drawn individually.
+ */
+final class DrawDenseList extends Drawable {
+
+	/** minimal number of elements for level of detail drawing */
+	static final int MIN_SIZE = 5000;
+	// points per occupied pixel needed for binning
+	private static final double MIN_POINTS_PER_PIXEL = 2;
+	// average screen length of segments (in pixels) up to which they are merged
+	private static final double MAX_SEGMENT_LENGTH = 2;
+
+	private final GeoList list;
+	private boolean active;
+	private boolean points;
+	private GeoElement template;
+	// private copy of the template's style, highlighted with the list
+	private GeoPoint stampPoint;
+	private DrawPoint stamp;
+	private final double[] stampCoords = new double[2];
+
+	// one bit per view pixel, row by row
+	private long[] occupied = new long[0];
+	private int width;
+	private int height;
+	// indices of occupied pixels
+	private int[] cells = new int[16];
+	private int cellCount;
+
+	// screen coordinates x1, y1, x2, y2 of the segments
+	private double[] segments = new double[64];
+	private int segmentCount;
+	private GeneralPathClipped gp;
+
+	private double minX;
+	private double minY;
+	private double maxX;
+	private double maxY;
+
+	/**
+	 * @param view
+	 *            view
+	 * @param list
+	 *            list of points or segments
+	 */
+	DrawDenseList(EuclidianView view, GeoList list) {
+		this.view = view;
+		this.list = list;
+		geo = list;
+	}
+
+	/**
+	 * @return whether the list is drawn aggregated (by this drawable) rather
+	 *         than element by element
+	 */
+	boolean isActive() {
+		return active;
+	}
+
+	@Override
+	public void update() {
+		active = false;
+		clearCells();
+		segmentCount = 0;
+		if (list.size() < MIN_SIZE || !isHomogeneous()) {
+			return;
+		}
+		minX = Double.POSITIVE_INFINITY;
+		minY = Double.POSITIVE_INFINITY;
+		maxX = Double.NEGATIVE_INFINITY;
+		maxY = Double.NEGATIVE_INFINITY;
+		if (points) {
+			active = binPoints();
+			if (active) {
+				updateStamp();
+			}
+		} else {
+			active = collectSegments();
+			if (active) {
+				mergeSegments();
+			}
+		}
+	}
+
+	private void updateStamp() {
+		if (stamp == null) {
+			stampPoint = new GeoPoint(list.getConstruction());
+			stamp = new DrawPoint(view, stampPoint);
+		}
+		stampPoint.setVisualStyle(template);
+		stampPoint.setLabelVisible(false);
+	}
+
+	/**
+	 * @return whether all elements are visible unlabeled points (or segments)
+	 *         with the same style
+	 */
+	private boolean isHomogeneous() {
+		template = list.get(0);
+		points = template instanceof GeoPoint;
+		if (!points && !(template instanceof GeoSegment)) {
+			return false;
+		}
+		GColor color = template.getObjectColor();
+		for (int i = 0; i < list.size(); i++) {
+			GeoElement element = list.get(i);
+			if (element.getClass() != template.getClass()
+					|| element.isLabelSet() || !element.isEuclidianVisible()
+					|| element.getTrace()
+					|| !color.equals(element.getObjectColor())) {
+				return false;
+			}
+			if (points ? !hasTemplatePointStyle((GeoPoint) element)
+					: !hasTemplateLineStyle((GeoSegment) element)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean hasTemplatePointStyle(GeoPoint point) {
+		GeoPoint first = (GeoPoint) template;
+		return point.getPointSize() == first.getPointSize()
+				&& point.getPointStyle() == first.getPointStyle();
+	}
+
+	private boolean hasTemplateLineStyle(GeoSegment segment) {
+		return segment.getLineThickness() == template.getLineThickness()
+				&& segment.getLineType() == template.getLineType()
+				&& segment.getLineOpacity() == template.getLineOpacity()
+				&& segment.getDecorationType() == GeoElementND.DECORATION_NONE
+				&& !segment.hasStyledEndpoint()
+				&& segment.getStartPoint() != null
+				&& segment.getEndPoint() != null;
+	}
+
+	private boolean binPoints() {
+		width = view.getWidth();
+		height = view.getHeight();
+		int words = (width * height + 63) >> 6;
+		if (occupied.length != words) {
+			occupied = new long[words];
+		}
+		int onScreen = 0;
+		for (int i = 0; i < list.size(); i++) {
+			GeoPoint point = (GeoPoint) list.get(i);
+			if (!point.isDefined()) {
+				continue;
+			}
+			double x = view.toScreenCoordXd(point.getInhomX());
+			double y = view.toScreenCoordYd(point.getInhomY());
+			if (Double.isNaN(x) || Double.isNaN(y)) {
+				continue;
+			}
+			addToBounds(x, y);
+			if (x >= 0 && x < width && y >= 0 && y < height) {
+				onScreen++;
+				int cell = (int) y * width + (int) x;
+				if ((occupied[cell >> 6] & (1L << cell)) == 0) {
+					occupied[cell >> 6] |= 1L << cell;
+					if (cellCount == cells.length) {
+						int[] grown = new int[2 * cellCount];
+						System.arraycopy(cells, 0, grown, 0, cellCount);
+						cells = grown;
+					}
+					cells[cellCount++] = cell;
+				}
+			}
+		}
+		return onScreen >= MIN_POINTS_PER_PIXEL * cellCount;
+	}
+
+	private void clearCells() {
+		for (int i = 0; i < cellCount; i++) {
+			occupied[cells[i] >> 6] = 0;
+		}
+		cellCount = 0;
+	}
+
+	private boolean collectSegments() {
+		double length = 0;
+		for (int i = 0; i < list.size(); i++) {
+			GeoSegment segment = (GeoSegment) list.get(i);
+			if (!segment.isDefined()) {
+				continue;
+			}
+			GeoPointND start = segment.getStartPoint();
+			GeoPointND end = segment.getEndPoint();
+			double x1 = view.toScreenCoordXd(start.getInhomX());
+			double y1 = view.toScreenCoordYd(start.getInhomY());
+			double x2 = view.toScreenCoordXd(end.getInhomX());
+			double y2 = view.toScreenCoordYd(end.getInhomY());
+			if (Double.isNaN(x1) || Double.isNaN(y1) || Double.isNaN(x2)
+					|| Double.isNaN(y2)) {
+				continue;
+			}
+			addToBounds(x1, y1);
+			addToBounds(x2, y2);
+			length += Math.hypot(x2 - x1, y2 - y1);
+			if (4 * segmentCount == segments.length) {
+				double[] grown = new double[2 * segments.length];
+				System.arraycopy(segments, 0, grown, 0, segments.length);
+				segments = grown;
+			}
+			int j = 4 * segmentCount++;
+			segments[j] = x1;
+			segments[j + 1] = y1;
+			segments[j + 2] = x2;
+			segments[j + 3] = y2;
+		}
+		return length <= MAX_SEGMENT_LENGTH * segmentCount;
+	}
+
+	/**
+	 * Joins segments into one path, continuing the current polyline when a
+	 * segment starts in the pixel where the previous one ended and skipping
+	 * segments that do not leave that pixel.
+	 */
+	private void mergeSegments() {
+		if (gp == null) {
+			gp = new GeneralPathClipped(view);
+		}
+		updateStrokes(template);
+		gp.resetWithThickness(template.getLineThickness());
+		long pen = Long.MIN_VALUE;
+		for (int i = 0; i < 4 * segmentCount; i += 4) {
+			long start = pixel(segments[i], segments[i + 1]);
+			long end = pixel(segments[i + 2], segments[i + 3]);
+			if (start == pen && end == pen) {
+				continue;
+			}
+			if (start != pen) {
+				gp.moveTo(segments[i], segments[i + 1]);
+			}
+			gp.lineTo(segments[i + 2], segments[i + 3]);
+			pen = end;
+		}
+	}
+
+	private static long pixel(double x, double y) {
+		return (Math.round(x) << 32) ^ (Math.round(y) & 0xFFFFFFFFL);
+	}
+
+	private void addToBounds(double x, double y) {
+		minX = Math.min(minX, x);
+		minY = Math.min(minY, y);
+		maxX = Math.max(maxX, x);
+		maxY = Math.max(maxY, y);
+	}
+
+	@Override
+	public void draw(GGraphics2D g2) {
+		if (!active) {
+			return;
+		}
+		if (points) {
+			stampPoint.setHighlighted(isHighlighted());
+			for (int i = 0; i < cellCount; i++) {
+				stampCoords[0] = view.toRealWorldCoordX(cells[i] % width + 0.5);
+				stampCoords[1] = view.toRealWorldCoordY(cells[i] / width + 0.5);
+				stamp.update(stampCoords);
+				stamp.draw(g2);
+			}
+		} else if (template.getLineThickness() > 0) {
+			if (isHighlighted()) {
+				g2.setPaint(list.getSelColor());
+				g2.setStroke(selStroke);
+				gp.draw(g2);
+			}
+			GColor color = template.getObjectColor();
+			if (template.hasLineOpacity()) {
+				color = color.deriveWithAlpha(template.getLineOpacity());
+			}
+			g2.setPaint(color);
+			g2.setStroke(objStroke);
+			gp.draw(g2);
+		}
+	}
+
+	@Override
+	public boolean hit(int x, int y, int hitThreshold) {
+		if (!active) {
+			return false;
+		}
+		if (points) {
+			int r = hitThreshold + ((GeoPoint) template).getPointSize();
+			for (int py = Math.max(0, y - r); py <= y + r && py < height; py++) {
+				for (int px = Math.max(0, x - r); px <= x + r
+						&& px < width; px++) {
+					int cell = py * width + px;
+					if ((occupied[cell >> 6] & (1L << cell)) != 0) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		int r = hitThreshold + template.getLineThickness() / 2;
+		return intersectsSegments(AwtFactory.getPrototype()
+				.newRectangle(x - r, y - r, 2 * r, 2 * r));
+	}
+
+	@Override
+	public boolean intersectsRectangle(GRectangle rect) {
+		if (!active) {
+			return false;
+		}
+		if (points) {
+			for (int i = 0; i < cellCount; i++) {
+				if (rect.contains(cells[i] % width + 0.5,
+						cells[i] / width + 0.5)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return intersectsSegments(rect);
+	}
+
+	private boolean intersectsSegments(GRectangle rect) {
+		for (int i = 0; i < 4 * segmentCount; i += 4) {
+			if (rect.intersectsLine(segments[i], segments[i + 1],
+					segments[i + 2], segments[i + 3])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isInside(GRectangle rect) {
+		GRectangle bounds = getBounds();
+		return bounds != null && rect.contains(bounds);
+	}
+
+	/**
+	 * Returns the bounding box of all elements in screen coordinates.
+	 */
+	@Override
+	public GRectangle getBounds() {
+		if (!active || minX > maxX) {
+			return null;
+		}
+		int pad = points ? ((GeoPoint) template).getPointSize()
+				: template.getLineThickness() / 2 + 1;
+		int x = (int) Math.floor(minX) - pad;
+		int y = (int) Math.floor(minY) - pad;
+		return AwtFactory.getPrototype().newRectangle(x, y,
+				(int) Math.ceil(maxX) + pad - x,
+				(int) Math.ceil(maxY) + pad - y);
+	}
+}
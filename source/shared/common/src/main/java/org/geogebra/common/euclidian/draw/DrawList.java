@@ -36,6 +36,7 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 	/** corresponding list as geo */
 	GeoList geoList;
 	private DrawListArray drawables;
+	private DrawDenseList denseList;
 	/** whether this is visible */
 	boolean isVisible;
 
@@ -73,8 +74,22 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 			return;
 		}
 
-		// go through list elements and create and/or update drawables
 		int size = geoList.size();
+		if (size >= DrawDenseList.MIN_SIZE && !geoList.isLabelVisible()) {
+			if (denseList == null) {
+				denseList = new DrawDenseList(view, geoList);
+			}
+			denseList.update();
+		} else {
+			denseList = null;
+		}
+		if (isDense()) {
+			removeDrawables(0);
+			drawAndUpdateTraceIfNeeded(geoList.getTrace());
+			return;
+		}
+
+		// go through list elements and create and/or update drawables
 		drawables.ensureCapacity(size);
 		int oldDrawableSize = drawables.size();
 
@@ -96,12 +111,23 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 		}
 
 		// remove end of list
-		for (int i = drawables.size() - 1; i >= drawablePos; i--) {
+		removeDrawables(drawablePos);
+
+		drawAndUpdateTraceIfNeeded(geoList.getTrace());
+	}
+
+	private void removeDrawables(int start) {
+		for (int i = drawables.size() - 1; i >= start; i--) {
 			view.remove(drawables.get(i).getGeoElement());
 			drawables.remove(i);
 		}
+	}
 
-		drawAndUpdateTraceIfNeeded(geoList.getTrace());
+	/**
+	 * @return whether the list is too dense to draw its elements one by one
+	 */
+	boolean isDense() {
+		return denseList != null && denseList.isActive();
 	}
 
 	/**
@@ -124,7 +150,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 
 		g2.setPaint(geo.getObjectColor());
 		g2.setStroke(objStroke);
-		if (isVisible) {
+		if (isVisible && isDense()) {
+			denseList.draw(g2);
+		} else if (isVisible) {
 			for (DrawableND drawable : drawables) {
 				Drawable d = (Drawable) drawable;
 				// draw only those drawables that have been created by this
@@ -142,7 +170,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 	@Override
 	public void draw(GGraphics2D g2) {
 
-		if (isVisible) {
+		if (isVisible && isDense()) {
+			denseList.draw(g2);
+		} else if (isVisible) {
 			boolean doHighlight = isHighlighted();
 
 			for (DrawableND drawable : drawables) {
@@ -166,6 +196,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 	 */
 	@Override
 	public boolean hit(int x, int y, int hitThreshold) {
+		if (isDense()) {
+			return denseList.hit(x, y, hitThreshold);
+		}
 		for (DrawableND drawable : drawables) {
 			Drawable d = (Drawable) drawable;
 			if (d.hit(x, y, hitThreshold)) {
@@ -177,6 +210,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 
 	@Override
 	public boolean isInside(GRectangle rect) {
+		if (isDense()) {
+			return denseList.isInside(rect);
+		}
 		for (DrawableND drawable : drawables) {
 			Drawable d = (Drawable) drawable;
 			if (!d.isInside(rect)) {
@@ -188,6 +224,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 
 	@Override
 	public boolean intersectsRectangle(GRectangle rect) {
+		if (isDense()) {
+			return denseList.intersectsRectangle(rect);
+		}
 		for (DrawableND drawable : drawables) {
 			Drawable d = (Drawable) drawable;
 			if (d.intersectsRectangle(rect)) {
@@ -205,6 +244,9 @@ public final class DrawList extends Drawable implements RemoveNeeded {
 		if (!geo.isEuclidianVisible()) {
 			return null;
 		}
+		if (isDense()) {
+			return denseList.getBounds();
+		}
 
 		GRectangle result = null;
 
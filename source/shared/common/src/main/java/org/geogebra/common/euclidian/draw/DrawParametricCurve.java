@@ -31,6 +31,7 @@ import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.EuclidianViewBoundsImp;
 import org.geogebra.common.euclidian.RemoveNeeded;
 import org.geogebra.common.euclidian.plot.CurvePlotter;
+import org.geogebra.common.euclidian.plot.CurveSampleCache;
 import org.geogebra.common.euclidian.plot.Gap;
 import org.geogebra.common.euclidian.plot.GeneralPathClippedForCurvePlotter;
 import org.geogebra.common.euclidian.plot.interval.IntervalPathPlotter;
@@ -48,6 +49,7 @@ import org.geogebra.common.kernel.interval.function.GeoFunctionConverter;
 import org.geogebra.common.kernel.interval.function.IntervalFunctionSupport;
 import org.geogebra.common.kernel.kernelND.CurveEvaluable;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
+import org.geogebra.common.main.PreviewFeature;
 import org.geogebra.common.plugin.EuclidianStyleConstants;
 import org.geogebra.common.plugin.Operation;
 import org.geogebra.common.util.DoubleUtil;
@@ -78,6 +80,8 @@ public class DrawParametricCurve extends Drawable implements RemoveNeeded {
 	private ExpressionNode invert;
 
 	private final PlotConditionalFunction plotConditional;
+	private CurveSampleCache sampleCache;
+	private boolean viewChangedOnly;
 
 	/**
 	 * Creates graphical representation of the curve
@@ -167,6 +171,14 @@ public class DrawParametricCurve extends Drawable implements RemoveNeeded {
 		}
 	}
 
+	@Override
+	public void updateForView() {
+		// samples stay valid as long as the curve itself was not changed
+		viewChangedOnly = !needsUpdate();
+		update();
+		viewChangedOnly = false;
+	}
+
 	@Override
 	public void updateIfNeeded() {
 		if (needsUpdate()) {
@@ -205,6 +217,9 @@ public class DrawParametricCurve extends Drawable implements RemoveNeeded {
 		gp.resetWithThickness(geo.getLineThickness());
 
 		fillCurve = filling(curve);
+		if (sampleCache != null && !viewChangedOnly) {
+			sampleCache.clear();
+		}
 
 		double min = curve.getMinParameter();
 		double max = curve.getMaxParameter();
@@ -234,6 +249,11 @@ public class DrawParametricCurve extends Drawable implements RemoveNeeded {
 			curve.evaluateCurve(min, eval);
 			view.toScreenCoords(eval);
 			labelPoint = new GPoint((int) eval[0], (int) eval[1]);
+		} else if (isSampleCacheSupported()) {
+			if (sampleCache == null) {
+				sampleCache = new CurveSampleCache(view);
+			}
+			labelPoint = sampleCache.plot(curve, min, max, gp, labelVisible);
 		} else {
 			labelPoint = CurvePlotter.plotCurve(curve, min, max, view, gp,
 					labelVisible, fillCurve ? Gap.CORNER
@@ -250,6 +270,16 @@ public class DrawParametricCurve extends Drawable implements RemoveNeeded {
 		updateLabelAndTrace(labelPoint);
 	}
 
+	/**
+	 * Samples of functions can be reused when the view is moved
+	 * horizontally; filled curves need one path for the whole graph.
+	 */
+	private boolean isSampleCacheSupported() {
+		return PreviewFeature.isAvailable(PreviewFeature.CURVE_SAMPLE_CACHE)
+				&& curve instanceof GeoFunction && !fillCurve
+				&& !view.isViewForPlane();
+	}
+
 	private void updateLabelAndTrace(GPoint labelPoint) {
 		if (labelPoint != null) {
 			updateLabel(labelPoint);
@@ -155,6 +155,16 @@ public final class DrawPoint extends SetDrawable {
 		update(coords1);
 	}
 
+	@Override
+	protected boolean isOffScreen() {
+		if (isPreview || P.isGeoElement3D()) {
+			return false;
+		}
+		double x = P.getInhomX();
+		double y = P.getInhomY();
+		return isOffScreen(x, y, x, y);
+	}
+
 	/**
 	 * update regarding coords values
 	 * 
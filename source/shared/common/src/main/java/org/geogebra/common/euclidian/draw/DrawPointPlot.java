@@ -61,6 +61,7 @@ public class DrawPointPlot extends Drawable {
 
 	private double scaleFactor = 1;
 	private GeoList pointList;
+	private DrawDenseList denseList;
 
 	/*************************************************
 	 * @param view
@@ -95,6 +96,9 @@ public class DrawPointPlot extends Drawable {
 				|| drawPoints == null) {
 			return null;
 		}
+		if (isDense()) {
+			return denseList.getBounds();
+		}
 
 		GRectangle rect = drawPoints.get(0).getBounds();
 		for (int i = 1; i < drawPoints.size(); i++) {
@@ -107,10 +111,14 @@ public class DrawPointPlot extends Drawable {
 	public void draw(GGraphics2D g2) {
 		if (isVisible) {
 
-			for (int i = 0; i < drawPoints.size()
-					&& i < pointList.size(); i++) {
-				pointList.get(i).setHighlighted(isHighlighted());
-				drawPoints.get(i).draw(g2);
+			if (isDense()) {
+				denseList.draw(g2);
+			} else {
+				for (int i = 0; i < drawPoints.size()
+						&& i < pointList.size(); i++) {
+					pointList.get(i).setHighlighted(isHighlighted());
+					drawPoints.get(i).draw(g2);
+				}
 			}
 
 			if (labelVisible) {
@@ -123,7 +131,9 @@ public class DrawPointPlot extends Drawable {
 
 	@Override
 	public boolean hit(int x, int y, int hitThreshold) {
-
+		if (isDense()) {
+			return denseList.hit(x, y, hitThreshold);
+		}
 		for (int i = 0; i < drawPoints.size(); i++) {
 			if (drawPoints.get(i).hit(x, y, hitThreshold)) {
 				setToolTipForPoint(i);
@@ -135,7 +145,9 @@ public class DrawPointPlot extends Drawable {
 
 	@Override
 	public boolean intersectsRectangle(GRectangle rect) {
-
+		if (isDense()) {
+			return denseList.intersectsRectangle(rect);
+		}
 		for (int i = 0; i < drawPoints.size(); i++) {
 			Drawable d = drawPoints.get(i);
 			if (d.intersectsRectangle(rect)) {
@@ -147,7 +159,9 @@ public class DrawPointPlot extends Drawable {
 
 	@Override
 	public boolean isInside(GRectangle rect) {
-
+		if (isDense()) {
+			return denseList.isInside(rect);
+		}
 		int size = drawPoints.size();
 		for (int i = 0; i < size; i++) {
 			Drawable d = drawPoints.get(i);
@@ -198,7 +212,18 @@ public class DrawPointPlot extends Drawable {
 				pt.setPointSize(pointSize);
 				pt.setPointStyle(pointStyle);
 			}
+		}
 
+		// very large plots are drawn per pixel rather than per point
+		if (pointList.size() >= DrawDenseList.MIN_SIZE) {
+			if (denseList == null) {
+				denseList = new DrawDenseList(view, pointList);
+			}
+			denseList.update();
+		} else {
+			denseList = null;
+		}
+		for (int i = 0; !isDense() && i < pointList.size(); i++) {
 			drawPoints.get(i).update();
 		}
 
@@ -215,6 +240,10 @@ public class DrawPointPlot extends Drawable {
 		}
 	}
 
+	private boolean isDense() {
+		return denseList != null && denseList.isActive();
+	}
+
 	private void updatePointLists() {
 
 		// find the number of points to draw
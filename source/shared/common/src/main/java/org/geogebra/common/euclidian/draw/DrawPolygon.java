@@ -126,6 +126,26 @@ public class DrawPolygon extends Drawable implements Previewable {
 		}
 	}
 
+	@Override
+	protected boolean isOffScreen() {
+		if (poly == null || poly.isGeoElement3D() || geo.isInverseFill()
+				|| poly.getPointsLength() == 0) {
+			return false;
+		}
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < poly.getPointsLength(); i++) {
+			GeoPointND point = poly.getPointND(i);
+			minX = Math.min(minX, point.getInhomX());
+			minY = Math.min(minY, point.getInhomY());
+			maxX = Math.max(maxX, point.getInhomX());
+			maxY = Math.max(maxY, point.getInhomY());
+		}
+		return isOffScreen(minX, minY, maxX, maxY);
+	}
+
 	@Override
 	public void drawTrace(GGraphics2D g2) {
 		fill(g2, gp.getGeneralPath());
@@ -122,6 +122,22 @@ public class DrawSegment extends SetDrawable implements Previewable, EndDecorate
 		update(A, B);
 	}
 
+	@Override
+	protected boolean isOffScreen() {
+		if (points != null || !(geo instanceof GeoSegment)) {
+			return false;
+		}
+		GeoPointND start = segment.getStartPoint();
+		GeoPointND end = segment.getEndPoint();
+		if (start == null || end == null) {
+			return false;
+		}
+		return isOffScreen(Math.min(start.getInhomX(), end.getInhomX()),
+				Math.min(start.getInhomY(), end.getInhomY()),
+				Math.max(start.getInhomX(), end.getInhomX()),
+				Math.max(start.getInhomY(), end.getInhomY()));
+	}
+
 	/**
 	 * update with A, B for end points
 	 * 
@@ -28,8 +28,8 @@ import org.geogebra.common.kernel.kernelND.CurveEvaluable;
  */
 public class CurvePlotter {
 
-	// the curve is sampled at least at this many positions to plot it
-	private static final int MIN_SAMPLE_POINTS = 80;
+	/** the curve is sampled at least at this many positions to plot it */
+	static final int MIN_SAMPLE_POINTS = 80;
 	private final CurveSegmentPlotter curveSegmentPlotter;
 
 	/**
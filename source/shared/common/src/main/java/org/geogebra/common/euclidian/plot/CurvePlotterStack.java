@@ -16,8 +16,6 @@
 
 package org.geogebra.common.euclidian.plot;
 
-import org.apache.commons.math3.util.Cloner;
-
 /**
  * Simple stack class for already evaluated values of the curve.
  *
@@ -41,7 +39,7 @@ public class CurvePlotterStack {
 		for (int i = 0; i < length; i++) {
 			items[i] = new CurvePlotterStackItem();
 		}
-		items[0].set(1, 0, onScreen, Cloner.clone(eval));
+		items[0].set(1, 0, onScreen, eval);
 		top = 1;
 	}
 
@@ -28,6 +28,7 @@ public class CurvePlotterStackItem {
 	boolean onScreen;
 
 	/**
+	 * Stores the values; eval is copied into an array owned by this item.
 	 *
 	 * @param dyadic t of f(t)
 	 * @param depth of the bisection.
@@ -38,6 +39,9 @@ public class CurvePlotterStackItem {
 		this.dyadic = dyadic;
 		this.depth = depth;
 		this.onScreen = onScreen;
-		this.eval = eval;
+		if (this.eval == null || this.eval.length != eval.length) {
+			this.eval = new double[eval.length];
+		}
+		System.arraycopy(eval, 0, this.eval, 0, eval.length);
 	}
 }
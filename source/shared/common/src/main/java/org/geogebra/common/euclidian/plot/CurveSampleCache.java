@@ -0,0 +1,330 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.euclidian.plot;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.geogebra.common.awt.GPoint;
+import org.geogebra.common.euclidian.EuclidianView;
+import org.geogebra.common.kernel.MyPoint;
+import org.geogebra.common.kernel.SegmentType;
+import org.geogebra.common.kernel.kernelND.CurveEvaluable;
+import org.geogebra.common.kernel.matrix.CoordSys;
+
+/**
+ * Cache of adaptive samples of a function graph in world coordinates.
+ *
+ * <p>
+ * The x-axis is split into tiles of {@link #TILE_WIDTH} pixels, at fixed
+ * positions in world coordinates. Each tile is plotted on
+ * its own and the plotter calls are recorded; tiles that were completely
+ * visible are kept and replayed when the view is only moved horizontally, so
+ * that only newly exposed tiles need to evaluate the function. Sampling
+ * depends on the scale and vertical range of the view, the cache is dropped
+ * when they change. The owner has to call {@link #clear()} when the function
+ * changes.
+ * </p>
+ */
+public class CurveSampleCache {
+
+	/** tile width in pixels */
+	static final int TILE_WIDTH = 64;
+	// tiles start at (index + TILE_OFFSET) * tile width; the offset is
+	// irrational so that tile edges do not fall on 0, integers or other
+	// values where functions like 1/x or ln(x) are undefined
+	private static final double TILE_OFFSET = (Math.sqrt(5) - 1) / 2;
+	private static final Gap[] GAPS = Gap.values();
+	private static final SegmentType[] SEGMENT_TYPES = SegmentType.values();
+
+	private final EuclidianView view;
+	private final HashMap<Long, Tile> tiles = new HashMap<>();
+	private final Tile scratchTile = new Tile();
+
+	private double xscale = Double.NaN;
+	private double yscale;
+	private double ymin;
+	private double ymax;
+	private int width;
+
+	// replay state
+	private final double[] pos = new double[2];
+	private boolean lastWasLineTo;
+	private double lastX;
+	private double lastY;
+	private boolean needLabelPos;
+	private GPoint labelPoint;
+	private int sampledTiles;
+
+	/**
+	 * @param view
+	 *            view the samples are drawn in
+	 */
+	public CurveSampleCache(EuclidianView view) {
+		this.view = view;
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	public void clear() {
+		tiles.clear();
+	}
+
+	/**
+	 * Plots a function for t in [tMin, tMax], reusing cached tiles.
+	 *
+	 * @param curve
+	 *            function
+	 * @param tMin
+	 *            min value of parameter, within the view
+	 * @param tMax
+	 *            max value of parameter, within the view
+	 * @param gp
+	 *            path to draw to
+	 * @param calcLabelPos
+	 *            whether label position should be calculated and returned
+	 * @return label position or null
+	 */
+	public GPoint plot(CurveEvaluable curve, double tMin, double tMax,
+			PathPlotter gp, boolean calcLabelPos) {
+		checkView();
+		double tileWidth = TILE_WIDTH / xscale;
+		double maxParamStep = getMaxParamStep(curve);
+		long first = (long) Math.floor(tMin / tileWidth - TILE_OFFSET);
+		long last = (long) Math.ceil(tMax / tileWidth - TILE_OFFSET) - 1;
+
+		lastWasLineTo = false;
+		needLabelPos = calcLabelPos;
+		labelPoint = null;
+		sampledTiles = 0;
+		for (long index = first; index <= last; index++) {
+			double tileLeft = (index + TILE_OFFSET) * tileWidth;
+			double tileRight = (index + 1 + TILE_OFFSET) * tileWidth;
+			double left = Math.max(tileLeft, tMin);
+			double right = Math.min(tileRight, tMax);
+			if (left >= right) {
+				continue;
+			}
+			Tile tile = tiles.get(index);
+			if (tile == null) {
+				boolean visible = tileLeft >= view.getXmin()
+						&& tileRight <= view.getXmax();
+				tile = visible ? new Tile() : scratchTile;
+				tile.sample(curve, left, right, maxParamStep, gp);
+				if (visible) {
+					tiles.put(index, tile);
+				}
+			}
+			tile.replay(gp);
+		}
+		removeTilesOutside(first, last);
+		return labelPoint;
+	}
+
+	/**
+	 * @return number of tiles that had to be sampled in the last plot
+	 */
+	int getSampledTiles() {
+		return sampledTiles;
+	}
+
+	private double getMaxParamStep(CurveEvaluable curve) {
+		double minSamplePoints = Math.max(CurvePlotter.MIN_SAMPLE_POINTS,
+				width / 6);
+		double step = (view.getXmax() - view.getXmin()) / minSamplePoints;
+		double domain = curve.getMaxParameter() - curve.getMinParameter();
+		if (Double.isFinite(domain)) {
+			step = Math.min(step, domain / minSamplePoints);
+		}
+		return step;
+	}
+
+	private void checkView() {
+		if (xscale != view.getXscale() || yscale != view.getYscale()
+				|| ymin != view.getYmin() || ymax != view.getYmax()
+				|| width != view.getWidth()) {
+			tiles.clear();
+			xscale = view.getXscale();
+			yscale = view.getYscale();
+			ymin = view.getYmin();
+			ymax = view.getYmax();
+			width = view.getWidth();
+		}
+	}
+
+	private void removeTilesOutside(long first, long last) {
+		Iterator<Map.Entry<Long, Tile>> it = tiles.entrySet().iterator();
+		while (it.hasNext()) {
+			long index = it.next().getKey();
+			if (index < first || index > last) {
+				it.remove();
+			}
+		}
+	}
+
+	private void replayPoint(PathPlotter gp, int op, int arg, double x,
+			double y) {
+		pos[0] = x;
+		pos[1] = y;
+		boolean lineTo = false;
+		switch (op) {
+		case Tile.FIRST_POINT:
+			Gap gap = GAPS[arg];
+			// tiles start with a move; skip it if it would only interrupt
+			// the line drawn by the previous tile
+			lineTo = gap == Gap.MOVE_TO && lastWasLineTo && x == lastX
+					&& y == lastY;
+			if (!lineTo) {
+				gp.firstPoint(pos, gap);
+			}
+			break;
+		case Tile.MOVE_TO:
+			gp.moveTo(pos);
+			break;
+		case Tile.LINE_TO:
+			gp.lineTo(pos);
+			lineTo = true;
+			break;
+		case Tile.DRAW_TO:
+			SegmentType segmentType = SEGMENT_TYPES[arg];
+			gp.drawTo(pos, segmentType);
+			lineTo = segmentType == SegmentType.LINE_TO;
+			break;
+		case Tile.CORNER_AT:
+			gp.corner(pos);
+			break;
+		default:
+			break;
+		}
+		lastWasLineTo = lineTo;
+		lastX = x;
+		lastY = y;
+		if (needLabelPos && view.isOnView(pos)) {
+			labelPoint = new GPoint((int) view.toScreenCoordXd(x),
+					(int) view.toScreenCoordYd(y));
+			needLabelPos = false;
+		}
+	}
+
+	/**
+	 * Recorded plotter calls for one tile.
+	 */
+	private class Tile implements PathPlotter {
+		static final int FIRST_POINT = 0;
+		static final int MOVE_TO = 1;
+		static final int LINE_TO = 2;
+		static final int DRAW_TO = 3;
+		static final int CORNER_AT = 4;
+		static final int CORNER = 5;
+		static final int END = 6;
+
+		private int[] ops = new int[32];
+		private double[] coords = new double[32];
+		private int size;
+		private PathPlotter target;
+
+		void sample(CurveEvaluable curve, double left, double right,
+				double maxParamStep, PathPlotter gp) {
+			size = 0;
+			target = gp;
+			new CurveSegmentPlotter(curve, left, right, 0, maxParamStep, view,
+					this, false, Gap.MOVE_TO);
+			target = null;
+			sampledTiles++;
+		}
+
+		void replay(PathPlotter gp) {
+			for (int i = 0; i < size; i++) {
+				int op = ops[2 * i];
+				if (op == CORNER) {
+					gp.corner();
+				} else if (op == END) {
+					gp.endPlot();
+				} else {
+					replayPoint(gp, op, ops[2 * i + 1], coords[2 * i],
+							coords[2 * i + 1]);
+				}
+			}
+		}
+
+		private void add(int op, int arg, double x, double y) {
+			if (2 * size + 2 > ops.length) {
+				ops = Arrays.copyOf(ops, 2 * ops.length);
+				coords = Arrays.copyOf(coords, 2 * coords.length);
+			}
+			ops[2 * size] = op;
+			ops[2 * size + 1] = arg;
+			coords[2 * size] = x;
+			coords[2 * size + 1] = y;
+			size++;
+		}
+
+		@Override
+		public void drawTo(double[] p, SegmentType lineTo) {
+			add(DRAW_TO, lineTo.ordinal(), p[0], p[1]);
+		}
+
+		@Override
+		public void lineTo(double[] p) {
+			add(LINE_TO, 0, p[0], p[1]);
+		}
+
+		@Override
+		public void moveTo(double[] p) {
+			add(MOVE_TO, 0, p[0], p[1]);
+		}
+
+		@Override
+		public void corner() {
+			add(CORNER, 0, 0, 0);
+		}
+
+		@Override
+		public void corner(double[] p) {
+			add(CORNER_AT, 0, p[0], p[1]);
+		}
+
+		@Override
+		public void firstPoint(double[] p, Gap moveToAllowed) {
+			add(FIRST_POINT, moveToAllowed.ordinal(), p[0], p[1]);
+		}
+
+		@Override
+		public double[] newDoubleArray() {
+			return new double[2];
+		}
+
+		@Override
+		public boolean copyCoords(MyPoint point, double[] ret,
+				CoordSys transformSys) {
+			return target.copyCoords(point, ret, transformSys);
+		}
+
+		@Override
+		public void endPlot() {
+			add(END, 0, 0, 0);
+		}
+
+		@Override
+		public boolean supports(CoordSys transformSys) {
+			return target.supports(transformSys);
+		}
+	}
+}
@@ -202,7 +202,7 @@ public class CurveSegmentPlotter {
 					return true;
 				}
 
-				evalRight = Cloner.clone(eval);
+				System.arraycopy(eval, 0, evalRight, 0, eval.length);
 				params.updateDiff(evalLeft, evalRight);
 				params.countDiffZeros = isDiffZero(params.diff) ? params.countDiffZeros + 1 : 0;
 
@@ -213,7 +213,7 @@ public class CurveSegmentPlotter {
 			drawSegment(params.t, params.left, info);
 
 			// remember last point in general path
-			evalLeft = Cloner.clone(evalRight);
+			System.arraycopy(evalRight, 0, evalLeft, 0, evalRight.length);
 			params.left = params.t;
 
 			// remember first point on screen for label position
@@ -230,7 +230,7 @@ public class CurveSegmentPlotter {
 
 			CurvePlotterStackItem item = stack.pop();
 			onScreen = item.onScreen;
-			evalRight = item.eval;
+			System.arraycopy(item.eval, 0, evalRight, 0, evalRight.length);
 			params.restoreFromStack(item);
 			params.updateDiff(evalLeft, evalRight);
 		} while (stack.hasItems()); // end of do-while loop for bisection stack
@@ -263,7 +263,7 @@ public class CurveSegmentPlotter {
 		} else {
 			// moveTo: remember moveTo position to avoid multiple moveTo
 			// operations
-			move = Cloner.clone(evalRight);
+			System.arraycopy(evalRight, 0, move, 0, evalRight.length);
 			nextLineToNeedsMoveToFirst = true;
 		}
 	}
@@ -16,7 +16,6 @@
 
 package org.geogebra.common.euclidian.plot;
 
-import org.geogebra.common.awt.GPoint2D;
 import org.geogebra.common.euclidian.EuclidianView;
 import org.geogebra.common.euclidian.EuclidianViewInterfaceSlim;
 import org.geogebra.common.euclidian.GeneralPathClipped;
@@ -79,17 +78,17 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 	 * @param lineTo type for drawing the segment
 	 */
 	public void drawTo(double x, double y, SegmentType lineTo) {
-		GPoint2D point = getCurrentPoint();
-
 		// no points in path yet
-		if (point == null) {
+		if (size() == 0) {
 			moveTo(x, y);
 			lineDrawn = false;
 			return;
 		}
 
-		boolean distant = !DoubleUtil.isEqual(x, point.getX(), MIN_PIXEL_DISTANCE)
-				|| !DoubleUtil.isEqual(y, point.getY(), MIN_PIXEL_DISTANCE);
+		double currentX = getCurrentX();
+		double currentY = getCurrentY();
+		boolean distant = !DoubleUtil.isEqual(x, currentX, MIN_PIXEL_DISTANCE)
+				|| !DoubleUtil.isEqual(y, currentY, MIN_PIXEL_DISTANCE);
 		if (lineTo == SegmentType.CONTROL || lineTo == SegmentType.CURVE_TO
 				|| lineTo == SegmentType.ARC_TO
 				|| lineTo == SegmentType.AUXILIARY) {
@@ -110,7 +109,7 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 
 		if (isLine) {
 			// Safari does not draw points with moveTo lineTo
-			if (x == point.getX() && y == point.getY()) {
+			if (x == currentX && y == currentY) {
 				addPoint(x + EPSILON, y, lineTo);
 			} else {
 				addPoint(x, y, lineTo);
@@ -145,12 +144,11 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 	private void corner(double x0, double y0) {
 		int w = view.getWidth();
 		int h = view.getHeight();
-		GPoint2D pt = getCurrentPoint();
-		if (pt == null) {
+		if (size() == 0) {
 			return;
 		}
-		double x = pt.getX();
-		double y = pt.getY();
+		double x = getCurrentX();
+		double y = getCurrentY();
 
 		if ((x < 0 && x0 > w) || (x > w && x0 < 0)) {
 			drawTo(x, -OFFSCREEN_PX, true);
@@ -190,7 +188,7 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 				|| moveToAllowed == Gap.CORNER) {
 			drawTo(x0, y0, true);
 		} else if (moveToAllowed == Gap.RESET_XMIN) {
-			double d = getCurrentPoint().getY();
+			double d = getCurrentY();
 			if (!DoubleUtil.isEqual(d, y0)) {
 				drawTo(-OFFSCREEN_PX, d, true);
 				drawTo(-OFFSCREEN_PX, y0, true);
@@ -198,7 +196,7 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 			drawTo(x0, y0, true);
 
 		} else if (moveToAllowed == Gap.RESET_XMAX) {
-			double d = getCurrentPoint().getY();
+			double d = getCurrentY();
 			if (!DoubleUtil.isEqual(d, y0)) {
 				drawTo(view.getWidth() + OFFSCREEN_PX, d, true);
 				drawTo(view.getWidth() + OFFSCREEN_PX, y0, true);
@@ -206,16 +204,16 @@ public class GeneralPathClippedForCurvePlotter extends GeneralPathClipped
 			drawTo(x0, y0, true);
 
 		} else if (moveToAllowed == Gap.RESET_YMIN) {
-			double d = getCurrentPoint().getX();
+			double d = getCurrentX();
 			if (!DoubleUtil.isEqual(d, x0)) {
 				drawTo(d, -OFFSCREEN_PX, true);
 				drawTo(x0, -OFFSCREEN_PX, true);
 			}
 			drawTo(x0, y0, true);
 		} else if (moveToAllowed == Gap.RESET_YMAX) {
-			double d = getCurrentPoint().getX();
+			double d = getCurrentX();
 			if (!DoubleUtil.isEqual(d, x0)) {
-				drawTo(getCurrentPoint().getX(), view.getHeight() + OFFSCREEN_PX, true);
+				drawTo(getCurrentX(), view.getHeight() + OFFSCREEN_PX, true);
 				drawTo(x0, view.getHeight() + OFFSCREEN_PX, true);
 			}
 			drawTo(x0, y0, true);
@@ -16,7 +16,6 @@
 
 package org.geogebra.common.euclidian.plot;
 
-import org.apache.commons.math3.util.Cloner;
 import org.geogebra.common.euclidian.EuclidianView;
 
 /**
@@ -111,14 +110,14 @@ public class SegmentParams {
 	 * @param evalRight right value.
 	 */
 	public void updateDiff(double[] evalLeft, double[] evalRight) {
-		diff = view.getOnScreenDiff(evalLeft, evalRight);
+		view.getOnScreenDiff(evalLeft, evalRight, diff);
 	}
 
 	/**
 	 * Stores current difference as previous.
 	 */
 	public void updatePreviousDiff() {
-		prevDiff = Cloner.clone(diff);
+		System.arraycopy(diff, 0, prevDiff, 0, diff.length);
 	}
 
 	/**
@@ -4284,12 +4284,17 @@ public abstract class EuclidianView3D extends EuclidianView
 	@Override
 	public double[] getOnScreenDiff(double[] p1, double[] p2) {
 		double[] ret = new double[p1.length];
+		getOnScreenDiff(p1, p2, ret);
+		return ret;
+	}
+
+	@Override
+	public void getOnScreenDiff(double[] p1, double[] p2, double[] ret) {
 		ret[0] = (p2[0] - p1[0]) * getXscale();
 		ret[1] = (p2[1] - p1[1]) * getYscale();
 		if (ret.length > 2) {
 			ret[2] = (p2[2] - p1[2]) * getZscale();
 		}
-		return ret;
 	}
 
 	@Override
@@ -4888,8 +4893,7 @@ public abstract class EuclidianView3D extends EuclidianView
 			ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
 					renderer.getGeometryManager());
 			StringBuilder export = exportToPrinter.export(format);
-			getApplication().exportStringToFile(format.getExtension(),
-					export.toString(), showDialog);
+			getApplication().export3DToFile(format, export, showDialog);
 		});
 	}
 
@@ -236,10 +236,8 @@ public class EuclidianView3DForExport extends EuclidianView3D {
 								ExportToPrinter3D exportToPrinter = new ExportToPrinter3D(this,
 										renderer.getGeometryManager());
 								getApplication().getKernel().detach(this);
-								getApplication().exportStringToFile(
-										format.getExtension(),
-										exportToPrinter.export(format)
-												.toString(), true);
+								getApplication().export3DToFile(format,
+										exportToPrinter.export(format), true);
 							});
 					return null;
 				}
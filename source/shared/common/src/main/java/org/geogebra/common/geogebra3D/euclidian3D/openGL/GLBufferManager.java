@@ -46,11 +46,11 @@ abstract class GLBufferManager {
 	/** list of buffer packs */
 	protected ArrayList<BufferPackAbstract> bufferPackList;
 	/** vertex array for current geometry */
-	ArrayList<Double> vertexArray;
+	ReusableFloatArray vertexArray;
 	/** normal array for current geometry */
-	ArrayList<Double> normalArray;
+	ReusableFloatArray normalArray;
 	/** texture array for current geometry */
-	ArrayList<Double> textureArray;
+	ReusableFloatArray textureArray;
 	/** flag for if current geometry uses one normal */
 	boolean oneNormal;
 	/** elements length */
@@ -121,7 +121,7 @@ abstract class GLBufferManager {
 	 * @param length
 	 *            length to set
 	 */
-	public void setVertexBuffer(ArrayList<Double> array, int length) {
+	public void setVertexBuffer(ReusableFloatArray array, int length) {
 		vertexArray = array;
 		elementsLength = length / 3;
 	}
@@ -133,7 +133,7 @@ abstract class GLBufferManager {
 	 * @param length
 	 *            length to set
 	 */
-	public void setNormalBuffer(ArrayList<Double> array, int length) {
+	public void setNormalBuffer(ReusableFloatArray array, int length) {
 		normalArray = array;
 		oneNormal = length == 3;
 	}
@@ -143,7 +143,7 @@ abstract class GLBufferManager {
 	 * @param array
 	 *            array
 	 */
-	public void setTextureBuffer(ArrayList<Double> array) {
+	public void setTextureBuffer(ReusableFloatArray array) {
 		textureArray = array;
 	}
 
@@ -178,7 +178,7 @@ public class GeometriesSet extends ArrayList<Geometry> {
 	 * @param length
 	 *            vertices length
 	 */
-	public void setVertices(ArrayList<Double> vertices, int length) {
+	public void setVertices(ReusableFloatArray vertices, int length) {
 		currentGeometry.setVertices(vertices, length);
 		currentGeometry.setLength(length / 3);
 	}
@@ -191,7 +191,7 @@ public class GeometriesSet extends ArrayList<Geometry> {
 	 * @param length
 	 *            length to copy
 	 */
-	public void setNormals(ArrayList<Double> normals, int length) {
+	public void setNormals(ReusableFloatArray normals, int length) {
 		if (length == 3) { // only one normal for all vertices
 			currentGeometry.setNormals(normals, length);
 		} else if (length == 3 * currentGeometry.getLength()) {
@@ -207,7 +207,7 @@ public class GeometriesSet extends ArrayList<Geometry> {
 	 * @param length
 	 *            length to copy
 	 */
-	public void setTextures(ArrayList<Double> textures, int length) {
+	public void setTextures(ReusableFloatArray textures, int length) {
 		if (length == 2 * currentGeometry.getLength()) {
 			currentGeometry.setTextures(textures, length);
 		} else {
@@ -223,7 +223,7 @@ public class GeometriesSet extends ArrayList<Geometry> {
 	 * @param length
 	 *            length to copy
 	 */
-	public void setColors(ArrayList<Double> colors, int length) {
+	public void setColors(ReusableFloatArray colors, int length) {
 		if (length == 4 * currentGeometry.getLength()) {
 			currentGeometry.setColors(colors, length);
 		} else {
@@ -16,8 +16,6 @@
 
 package org.geogebra.common.geogebra3D.euclidian3D.openGL;
 
-import java.util.ArrayList;
-
 import org.geogebra.common.geogebra3D.euclidian3D.openGL.ManagerShaders.TypeElement;
 import org.geogebra.common.geogebra3D.euclidian3D.printer3D.ExportToPrinter3D.GeometryForExport;
 import org.geogebra.common.util.debug.Log;
@@ -144,11 +142,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for vertices
 	 * 
 	 * @param array
-	 *            double array
+	 *            float array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setVertices(ArrayList<Double> array, int length) {
+	public void setVertices(ReusableFloatArray array, int length) {
 		this.v.set(array, length);
 	}
 
@@ -164,11 +162,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for normals
 	 * 
 	 * @param array
-	 *            double array
+	 *            float array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setNormals(ArrayList<Double> array, int length) {
+	public void setNormals(ReusableFloatArray array, int length) {
 		this.n.set(array, length);
 	}
 
@@ -184,11 +182,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for texture
 	 * 
 	 * @param array
-	 *            double array
+	 *            float array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setTextures(ArrayList<Double> array, int length) {
+	public void setTextures(ReusableFloatArray array, int length) {
 		this.t.set(array, length);
 	}
 
@@ -218,11 +216,11 @@ public class Geometry implements GeometryForExport {
 	 * set double buffer for colors
 	 * 
 	 * @param array
-	 *            double array
+	 *            float array
 	 * @param length
 	 *            length to copy
 	 */
-	public void setColors(ArrayList<Double> array, int length) {
+	public void setColors(ReusableFloatArray array, int length) {
 		this.c.set(array, length);
 	}
 
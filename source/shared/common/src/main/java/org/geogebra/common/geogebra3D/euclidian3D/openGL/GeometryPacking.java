@@ -16,8 +16,6 @@
 
 package org.geogebra.common.geogebra3D.euclidian3D.openGL;
 
-import java.util.ArrayList;
-
 /**
  * geometry handler for buffer packing
  *
@@ -63,18 +61,18 @@ public class GeometryPacking extends Geometry {
 	}
 
 	@Override
-	public void setVertices(ArrayList<Double> array, int length) {
+	public void setVertices(ReusableFloatArray array, int length) {
 		setBufferCurrentIndex();
 		geometrySet.getBufferManager().setVertexBuffer(array, length);
 	}
 
 	@Override
-	public void setNormals(ArrayList<Double> array, int length) {
+	public void setNormals(ReusableFloatArray array, int length) {
 		geometrySet.getBufferManager().setNormalBuffer(array, length);
 	}
 
 	@Override
-	public void setTextures(ArrayList<Double> array, int length) {
+	public void setTextures(ReusableFloatArray array, int length) {
 		geometrySet.getBufferManager().setTextureBuffer(array);
 	}
 
@@ -84,7 +82,7 @@ public class GeometryPacking extends Geometry {
 	}
 
 	@Override
-	public void setColors(ArrayList<Double> array, int length) {
+	public void setColors(ReusableFloatArray array, int length) {
 		// not implemented yet
 	}
 
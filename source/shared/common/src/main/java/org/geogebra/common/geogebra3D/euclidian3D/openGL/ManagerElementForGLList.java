@@ -16,8 +16,6 @@
 
 package org.geogebra.common.geogebra3D.euclidian3D.openGL;
 
-import java.util.ArrayList;
-
 import org.geogebra.common.geogebra3D.euclidian3D.EuclidianView3D;
 import org.geogebra.common.geogebra3D.euclidian3D.draw.Drawable3D;
 
@@ -30,14 +28,14 @@ import org.geogebra.common.geogebra3D.euclidian3D.draw.Drawable3D;
 public class ManagerElementForGLList extends Manager {
 
 	private Manager managerOriginal;
-	private ArrayList<Double> vx;
-	private ArrayList<Double> vy;
-	private ArrayList<Double> vz;
-	private ArrayList<Double> nx;
-	private ArrayList<Double> ny;
-	private ArrayList<Double> nz;
-	private ArrayList<Double> tx;
-	private ArrayList<Double> ty;
+	private ReusableFloatArray vx;
+	private ReusableFloatArray vy;
+	private ReusableFloatArray vz;
+	private ReusableFloatArray nx;
+	private ReusableFloatArray ny;
+	private ReusableFloatArray nz;
+	private ReusableFloatArray tx;
+	private ReusableFloatArray ty;
 
 	private boolean hasTexture = false;
 	private GLBufferIndicesForGLList arrayI = null;
@@ -82,23 +80,23 @@ public class ManagerElementForGLList extends Manager {
 	@Override
 	public void startGeometry(Type type) {
 		if (vx == null) {
-			vx = new ArrayList<>();
-			vy = new ArrayList<>();
-			vz = new ArrayList<>();
-			nx = new ArrayList<>();
-			ny = new ArrayList<>();
-			nz = new ArrayList<>();
-			tx = new ArrayList<>();
-			ty = new ArrayList<>();
+			vx = new ReusableFloatArray();
+			vy = new ReusableFloatArray();
+			vz = new ReusableFloatArray();
+			nx = new ReusableFloatArray();
+			ny = new ReusableFloatArray();
+			nz = new ReusableFloatArray();
+			tx = new ReusableFloatArray();
+			ty = new ReusableFloatArray();
 		} else {
-			vx.clear();
-			vy.clear();
-			vz.clear();
-			nx.clear();
-			ny.clear();
-			nz.clear();
-			tx.clear();
-			ty.clear();
+			vx.setLength(0);
+			vy.setLength(0);
+			vz.setLength(0);
+			nx.setLength(0);
+			ny.setLength(0);
+			nz.setLength(0);
+			tx.setLength(0);
+			ty.setLength(0);
 		}
 
 		hasTexture = false;
@@ -144,9 +142,9 @@ public class ManagerElementForGLList extends Manager {
 
 	@Override
 	protected void vertex(double x, double y, double z) {
-		vx.add(x);
-		vy.add(y);
-		vz.add(z);
+		vx.addValue(x);
+		vy.addValue(y);
+		vz.addValue(z);
 	}
 
 	@Override
@@ -161,15 +159,15 @@ public class ManagerElementForGLList extends Manager {
 
 	@Override
 	protected void normal(double x, double y, double z) {
-		nx.add(x);
-		ny.add(y);
-		nz.add(z);
+		nx.addValue(x);
+		ny.addValue(y);
+		nz.addValue(z);
 	}
 
 	@Override
 	protected void texture(double x, double y) {
-		tx.add(x);
-		ty.add(y);
+		tx.addValue(x);
+		ty.addValue(y);
 		hasTexture = true;
 	}
 
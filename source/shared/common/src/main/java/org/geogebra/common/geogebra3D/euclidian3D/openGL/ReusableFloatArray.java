@@ -0,0 +1,164 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.geogebra3D.euclidian3D.openGL;
+
+import java.util.Arrays;
+
+/**
+ * Growable float array that can be reused, to collect geometry values
+ * without boxing them
+ */
+public class ReusableFloatArray {
+
+	private float[] values;
+	private int length;
+
+	/**
+	 * constructor
+	 */
+	public ReusableFloatArray() {
+		this(64);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param capacity
+	 *            initial capacity
+	 */
+	public ReusableFloatArray(int capacity) {
+		values = new float[Math.max(capacity, 4)];
+		length = 0;
+	}
+
+	/**
+	 * set length
+	 *
+	 * @param length
+	 *            length
+	 */
+	public void setLength(int length) {
+		ensureCapacity(length);
+		this.length = length;
+	}
+
+	/**
+	 *
+	 * @return current length
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * @param index
+	 *            index
+	 * @return value at index
+	 */
+	public float get(int index) {
+		return values[index];
+	}
+
+	/**
+	 * @return backing array, valid up to {@link #getLength()}
+	 */
+	public float[] getArray() {
+		return values;
+	}
+
+	/**
+	 * add a value to the current position
+	 *
+	 * @param value
+	 *            value
+	 */
+	public void addValue(double value) {
+		ensureCapacity(length + 1);
+		values[length++] = (float) value;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 */
+	public void addValues(double x, double y) {
+		ensureCapacity(length + 2);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 * @param z
+	 *            third value
+	 */
+	public void addValues(double x, double y, double z) {
+		ensureCapacity(length + 3);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+		values[length++] = (float) z;
+	}
+
+	/**
+	 * add values to the current position
+	 *
+	 * @param x
+	 *            first value
+	 * @param y
+	 *            second value
+	 * @param z
+	 *            third value
+	 * @param w
+	 *            fourth value
+	 */
+	public void addValues(double x, double y, double z, double w) {
+		ensureCapacity(length + 4);
+		values[length++] = (float) x;
+		values[length++] = (float) y;
+		values[length++] = (float) z;
+		values[length++] = (float) w;
+	}
+
+	/**
+	 * @param newLength
+	 *            length of the copy
+	 * @return copy of the first values
+	 */
+	public ReusableFloatArray copy(int newLength) {
+		ReusableFloatArray ret = new ReusableFloatArray(newLength);
+		System.arraycopy(values, 0, ret.values, 0, newLength);
+		ret.length = newLength;
+		return ret;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > values.length) {
+			values = Arrays.copyOf(values,
+					Math.max(capacity, 2 * values.length));
+		}
+	}
+
+}
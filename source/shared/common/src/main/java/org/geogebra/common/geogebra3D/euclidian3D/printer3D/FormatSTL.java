@@ -62,12 +62,22 @@ public class FormatSTL extends Format {
 
 	@Override
 	public void getScriptEnd(StringBuilder sb) {
+		writeFilledSolids(sb);
+		appendNewline(sb);
+		sb.append("endsolid geogebra");
+	}
+
+	/**
+	 * write triangles of filled solids, if wanted
+	 * 
+	 * @param sb
+	 *            string builder
+	 */
+	protected void writeFilledSolids(StringBuilder sb) {
 		if (wantsFilledSolids()) {
 			polygonHandler.setOrientedNormals();
 			polygonHandler.getTriangles(sb, this);
 		}
-		appendNewline(sb);
-		sb.append("endsolid geogebra");
 	}
 
 	@Override
@@ -0,0 +1,61 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+/**
+ * Binary STL format: triangles are streamed to an {@link STLBinaryOutput}
+ * while they are produced, the string builder stays empty.
+ */
+public class FormatSTLBinary extends FormatSTL {
+
+	private final STLBinaryOutput output;
+
+	/**
+	 * @param output
+	 *            output for triangles
+	 */
+	public FormatSTLBinary(STLBinaryOutput output) {
+		this.output = output;
+	}
+
+	/**
+	 * @return output for triangles
+	 */
+	public STLBinaryOutput getOutput() {
+		return output;
+	}
+
+	@Override
+	public void getScriptStart(StringBuilder sb) {
+		output.start();
+	}
+
+	@Override
+	public void getScriptEnd(StringBuilder sb) {
+		writeFilledSolids(sb);
+		output.end();
+	}
+
+	@Override
+	public void getTriangle(StringBuilder sb, double nx, double ny, double nz,
+			double v1x, double v1y, double v1z, double v2x, double v2y,
+			double v2z, double v3x, double v3y, double v3z) {
+		output.addTriangle(nx, ny, nz, v1x, v1y, v1z, v2x, v2y, v2z, v3x, v3y,
+				v3z);
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.geogebra3D.euclidian3D.printer3D;
+
+/**
+ * Encodes triangles as binary STL records and passes them on in chunks, so
+ * that the export never needs to hold the whole file in memory.
+ *
+ * <p>
+ * Layout: 80 bytes header, triangle count (uint32), then for each triangle
+ * normal and three vertices as 12 float32 and a uint16 attribute; all values
+ * little endian. The triangle count is only known at the end, implementations
+ * have to write it in {@link #finish(int)}.
+ * </p>
+ */
+public abstract class STLBinaryOutput {
+
+	/** header length in bytes */
+	public static final int HEADER_LENGTH = 80;
+	/** offset of the triangle count */
+	public static final int COUNT_OFFSET = HEADER_LENGTH;
+	/** length of one triangle record in bytes */
+	public static final int TRIANGLE_LENGTH = 50;
+
+	private static final String HEADER = "GeoGebra binary STL";
+	private static final int BUFFERED_TRIANGLES = 2048;
+
+	private final byte[] buffer = new byte[TRIANGLE_LENGTH
+			* BUFFERED_TRIANGLES];
+	private int position;
+	private int triangleCount;
+
+	/**
+	 * Writes the header and a placeholder for the triangle count.
+	 */
+	public void start() {
+		triangleCount = 0;
+		for (position = 0; position < HEADER_LENGTH; position++) {
+			buffer[position] = (byte) (position < HEADER.length()
+					? HEADER.charAt(position) : ' ');
+		}
+		putInt(0);
+		write(buffer, position);
+		position = 0;
+	}
+
+	/**
+	 * Adds a triangle.
+	 *
+	 * @param nx
+	 *            normal x
+	 * @param ny
+	 *            normal y
+	 * @param nz
+	 *            normal z
+	 * @param v1x
+	 *            first vertex x
+	 * @param v1y
+	 *            first vertex y
+	 * @param v1z
+	 *            first vertex z
+	 * @param v2x
+	 *            second vertex x
+	 * @param v2y
+	 *            second vertex y
+	 * @param v2z
+	 *            second vertex z
+	 * @param v3x
+	 *            third vertex x
+	 * @param v3y
+	 *            third vertex y
+	 * @param v3z
+	 *            third vertex z
+	 */
+	public void addTriangle(double nx, double ny, double nz, double v1x,
+			double v1y, double v1z, double v2x, double v2y, double v2z,
+			double v3x, double v3y, double v3z) {
+		if (position == buffer.length) {
+			flush();
+		}
+		putFloat(nx);
+		putFloat(ny);
+		putFloat(nz);
+		putFloat(v1x);
+		putFloat(v1y);
+		putFloat(v1z);
+		putFloat(v2x);
+		putFloat(v2y);
+		putFloat(v2z);
+		putFloat(v3x);
+		putFloat(v3y);
+		putFloat(v3z);
+		// attribute byte count
+		buffer[position++] = 0;
+		buffer[position++] = 0;
+		triangleCount++;
+	}
+
+	/**
+	 * Writes remaining triangles and the triangle count.
+	 */
+	public void end() {
+		flush();
+		finish(triangleCount);
+	}
+
+	/**
+	 * @return number of triangles added since start
+	 */
+	public int getTriangleCount() {
+		return triangleCount;
+	}
+
+	private void flush() {
+		if (position > 0) {
+			write(buffer, position);
+			position = 0;
+		}
+	}
+
+	private void putFloat(double value) {
+		putInt(Float.floatToIntBits((float) value));
+	}
+
+	private void putInt(int value) {
+		buffer[position++] = (byte) value;
+		buffer[position++] = (byte) (value >>> 8);
+		buffer[position++] = (byte) (value >>> 16);
+		buffer[position++] = (byte) (value >>> 24);
+	}
+
+	/**
+	 * @param count
+	 *            triangle count
+	 * @return triangle count as written at {@link #COUNT_OFFSET}
+	 */
+	public static byte[] encodeCount(int count) {
+		return new byte[] { (byte) count, (byte) (count >>> 8),
+				(byte) (count >>> 16), (byte) (count >>> 24) };
+	}
+
+	/**
+	 * Appends bytes to the output.
+	 *
+	 * @param data
+	 *            bytes
+	 * @param length
+	 *            number of bytes to write from the start of data
+	 */
+	protected abstract void write(byte[] data, int length);
+
+	/**
+	 * Called when all triangles are written; has to store the triangle count
+	 * at {@link #COUNT_OFFSET} and release the output.
+	 *
+	 * @param count
+	 *            triangle count
+	 */
+	protected abstract void finish(int count);
+}
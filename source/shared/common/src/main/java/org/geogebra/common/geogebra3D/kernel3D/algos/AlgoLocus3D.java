@@ -225,19 +225,8 @@ public class AlgoLocus3D extends AlgoLocusND<MyPoint3D> {
 	}
 
 	@Override
-	protected MyPoint3D[] createQCopyCache(int length) {
-		return new MyPoint3D[length];
-	}
-
-	@Override
-	protected void setQCopyCache(MyPoint3D copy, GeoPointND point) {
-		Coords coords = point.getInhomCoordsInD3();
-		copy.setLocation(coords.getX(), coords.getY(), coords.getZ());
-	}
-
-	@Override
-	protected MyPoint3D newCache() {
-		return new MyPoint3D();
+	protected void setQCopy(double x, double y, double z) {
+		copyQ.setCoords(x, y, z, 1.0);
 	}
 
 }
@@ -358,8 +358,7 @@ public abstract class App3DCompanion extends AppCompanion {
 			} else {
 				StringBuilder export = exportView3D.export3D(format);
 				app.getKernel().detach(exportView3D);
-				app.exportStringToFile(format.getExtension(),
-						export.toString(), showDialog);
+				app.export3DToFile(format, export, showDialog);
 			}
 		} else {
 			if (app.isEuclidianView3Dinited()) {
@@ -375,7 +374,7 @@ public abstract class App3DCompanion extends AppCompanion {
 					app.getSettings().getEuclidian(3));
 			StringBuilder export = exportView3D.export3D(format);
 			app.getKernel().detach(exportView3D);
-			app.exportStringToFile(format.getExtension(), export.toString(), showDialog);
+			app.export3DToFile(format, export, showDialog);
 		}
 	}
 
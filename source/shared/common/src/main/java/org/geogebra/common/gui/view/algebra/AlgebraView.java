@@ -18,13 +18,14 @@ package org.geogebra.common.gui.view.algebra;
 
 import org.geogebra.common.gui.Editing;
 import org.geogebra.common.gui.SetLabels;
+import org.geogebra.common.kernel.batch.CoalescingView;
 import org.geogebra.common.kernel.geos.GeoElement;
 
 /**
  * Algebra view -- shows algebraic representation of the objects either as
  * value, definition or command
  */
-public interface AlgebraView extends Editing, SetLabels {
+public interface AlgebraView extends Editing, SetLabels, CoalescingView {
 	/**
 	 * Returns whether this view is currently visible
 	 * 
@@ -52,13 +52,14 @@ public class GeoElementValueConverter implements ToStringConverter {
 		switch (element.getLabelMode()) {
 		case LABEL_CAPTION_VALUE:
 			labelDescription = ToStringConverter.getCaptionAndValue(element,
-					element.toValueString(template), template);
+					element.getValueStringCached(template), template);
 			break;
 		case LABEL_NAME_VALUE:
 			labelDescription = element.getAlgebraDescriptionDefault();
 			break;
 		case LABEL_VALUE:
-			labelDescription = element.toDefinedValueString(template);
+			labelDescription = element.isDefined()
+					? element.getValueStringCached(template) : "?";
 			break;
 		case LABEL_CAPTION:
 			labelDescription = element.getCaption(template);
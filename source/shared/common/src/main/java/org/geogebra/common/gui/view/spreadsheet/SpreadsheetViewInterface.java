@@ -16,7 +16,7 @@
 
 package org.geogebra.common.gui.view.spreadsheet;
 
-import org.geogebra.common.kernel.View;
+import org.geogebra.common.kernel.batch.CoalescingView;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.main.App;
 import org.geogebra.common.spreadsheet.core.TabularRange;
@@ -25,7 +25,7 @@ import org.geogebra.editor.share.util.Unicode;
 /**
  * Spreadsheet view (Classic).
  */
-public interface SpreadsheetViewInterface extends View {
+public interface SpreadsheetViewInterface extends CoalescingView {
 
 	final static String LEFT_CLASS_RULE = Unicode.LESS_EQUAL + " x <";
 	final static String RIGHT_CLASS_RULE = "< x " + Unicode.LESS_EQUAL;
@@ -35,6 +35,7 @@ import org.geogebra.common.main.App;
 import org.geogebra.common.main.AppConfig;
 import org.geogebra.common.main.error.ErrorHandler;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 
 import com.google.j2objc.annotations.Weak;
 
@@ -401,12 +402,17 @@ public abstract class MyXMLio {
 			kernel.setNotifyViewsActive(false);
 		}
 
+		MetricsRegistry metrics = app.getMetrics();
+		double start = metrics.now();
 		if (clearConstruction) {
 			// clear construction
 			kernel.clearConstruction(false);
+			metrics.recordSince(MetricsRegistry.XML_LOAD + "clear", start);
+			start = metrics.now();
 		}
 		try {
 			parseXmlUnsafe(stream, settingsBatch, isGGTOrDefaults);
+			metrics.recordSince(MetricsRegistry.XML_LOAD + "parse", start);
 		} catch (CommandNotLoadedError e) {
 			throw e;
 		} catch (Error | XMLParseException | IOException | RuntimeException e) {
@@ -418,7 +424,9 @@ public abstract class MyXMLio {
 			kernel.setLoadingMode(false);
 			kernel.setCommandLookupStrategy(oldVal2);
 			if (!isGGTOrDefaults && mayZoom) {
+				start = metrics.now();
 				kernel.updateConstruction(randomize, 1);
+				metrics.recordSince(MetricsRegistry.XML_LOAD + "update", start);
 				cons.updateCasCellTwinVisibility();
 				kernel.setNotifyViewsActive(oldVal);
 			}
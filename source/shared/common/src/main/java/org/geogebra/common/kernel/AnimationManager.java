@@ -223,7 +223,14 @@ public class AnimationManager implements GTimerListener {
 		}
 
 		kernel.notifyBatchUpdate();
+		try {
+			animateGeos();
+		} finally {
+			kernel.notifyEndBatchUpdate();
+		}
+	}
 
+	private void animateGeos() {
 		long startTime = System.currentTimeMillis();
 		double actualFrameRate = lastStart == 0
 				? MAX_ANIMATION_FRAME_RATE
@@ -267,8 +274,6 @@ public class AnimationManager implements GTimerListener {
 			// collect some potential garbage
 			kernel.notifyRemoveGroup();
 		}
-
-		kernel.notifyEndBatchUpdate();
 	}
 
 	/**
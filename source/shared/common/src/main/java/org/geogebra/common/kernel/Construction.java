@@ -44,6 +44,7 @@ import org.geogebra.common.io.XMLStringBuilder;
 import org.geogebra.common.kernel.algos.AlgoDistancePoints;
 import org.geogebra.common.kernel.algos.AlgoElement;
 import org.geogebra.common.kernel.algos.AlgoJoinPointsSegment;
+import org.geogebra.common.kernel.algos.AlgoProfiler;
 import org.geogebra.common.kernel.algos.AlgorithmSet;
 import org.geogebra.common.kernel.algos.ConstructionElement;
 import org.geogebra.common.kernel.arithmetic.ArbitraryConstantRegistry;
@@ -82,6 +83,8 @@ import org.geogebra.common.main.error.ErrorHelper;
 import org.geogebra.common.main.undo.UndoManager;
 import org.geogebra.common.plugin.GeoClass;
 import org.geogebra.common.plugin.ScriptManager;
+import org.geogebra.common.spreadsheet.core.SparseCellMap;
+import org.geogebra.common.spreadsheet.core.SpreadsheetCoords;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.editor.share.input.Character;
@@ -154,6 +157,8 @@ public class Construction {
 
 	/** Table for (label, GeoElement) pairs, contains global variables */
 	protected HashMap<String, GeoElement> geoTable;
+	/** Spreadsheet cells from geoTable, indexed by (row, column) */
+	private final SparseCellMap<GeoElement> spreadsheetCells = new SparseCellMap<>();
 
 	// list of algorithms that need to be updated when EuclidianView changes
 	private ArrayList<EuclidianViewCE> euclidianViewCE;
@@ -162,6 +167,8 @@ public class Construction {
 
 	/** Table for (label, GeoElement) pairs, contains local variables */
 	protected HashMap<String, GeoElement> localVariableTable;
+	// incremented whenever a label is added to or removed from the tables
+	private int labelTableVersion;
 
 	// set with all labeled GeoElements in ceList order
 	private TreeSet<GeoElement> geoSetConsOrder;
@@ -218,6 +225,8 @@ public class Construction {
 	private boolean casCellUpdate = false;
 	private boolean notXmlLoading = false;
 	private boolean updateConstructionRunning;
+	private boolean profiling;
+	private AlgoProfiler algoProfiler;
 	private LabelManager labelManager;
 
 	private ArrayList<Group> groups;
@@ -437,6 +446,7 @@ public class Construction {
 			geo = element;
 		}
 		geoTable.put(changedLocalName, geo);
+		labelTableVersion++;
 		return changedLocalName;
 	}
 
@@ -721,6 +731,7 @@ public class Construction {
 			localVariableTable = new HashMap<>();
 		}
 		localVariableTable.put(varname, geo);
+		labelTableVersion++;
 		geo.setLocalVariableLabel(varname);
 	}
 
@@ -732,6 +743,7 @@ public class Construction {
 	final public void removeLocalVariable(String varname) {
 		if (localVariableTable != null) {
 			GeoElement geo = localVariableTable.remove(varname);
+			labelTableVersion++;
 			if (geo != null) {
 				geo.undoLocalVariableLabel();
 			}
@@ -1652,6 +1664,35 @@ public class Construction {
 		scriptManager.dropListenersOnReset();
 	}
 
+	/**
+	 * Turns timing of algorithm computations on or off. Turning it on drops
+	 * the results of previous profiling.
+	 *
+	 * @param profiling
+	 *            whether to time algorithm computations
+	 */
+	public void setProfiling(boolean profiling) {
+		if (profiling && !this.profiling) {
+			algoProfiler = new AlgoProfiler();
+		}
+		this.profiling = profiling;
+	}
+
+	/**
+	 * @return whether algorithm computations are timed
+	 */
+	public boolean isProfiling() {
+		return profiling;
+	}
+
+	/**
+	 * @return results of the current or last profiling, null if profiling was
+	 *         never on
+	 */
+	public AlgoProfiler getAlgoProfiler() {
+		return algoProfiler;
+	}
+
 	/**
 	 * @return true if is getting XML for replace
 	 */
@@ -1910,9 +1951,22 @@ public class Construction {
 		}
 
 		geoTable.put(geo.getLabelSimple(), geo);
+		labelTableVersion++;
+		SpreadsheetCoords coords = getCellCoords(geo.getLabelSimple());
+		if (coords != null) {
+			spreadsheetCells.put(coords.row, coords.column, geo);
+		}
 		addToGeoSets(geo);
 	}
 
+	/**
+	 * @return number that changes whenever a label is added to or removed
+	 *         from the tables used by {@link #lookupLabel(String)}
+	 */
+	public int getLabelTableVersion() {
+		return labelTableVersion;
+	}
+
 	/**
 	 * Removes given GeoElement from a table where (label, object) pairs are
 	 * stored.
@@ -1921,9 +1975,40 @@ public class Construction {
 	 */
 	public void removeLabel(GeoElement geo) {
 		geoTable.remove(geo.getLabelSimple());
+		labelTableVersion++;
+		SpreadsheetCoords coords = getCellCoords(geo.getLabelSimple());
+		if (coords != null) {
+			spreadsheetCells.remove(coords.row, coords.column, geo);
+		}
 		removeFromGeoSets(geo);
 	}
 
+	private static @CheckForNull SpreadsheetCoords getCellCoords(String label) {
+		// cheap pre-check: cell names start with a letter and end with a digit
+		if (label == null || label.length() < 2 || !Character.isLetter(label.charAt(0))
+				|| !StringUtil.isDigit(label.charAt(label.length() - 1))) {
+			return null;
+		}
+		return GeoElementSpreadsheet.getSpreadsheetCoordsForLabel(label);
+	}
+
+	/**
+	 * Looks up a spreadsheet cell by its coordinates, equivalent to
+	 * {@link #lookupLabel(String)} with the cell name but without building
+	 * the label string.
+	 * @param row row (0 based)
+	 * @param column column (0 based)
+	 * @return cell element available at current construction step, null if there is none
+	 */
+	public @CheckForNull GeoElement lookupSpreadsheetCell(int row, int column) {
+		if (localVariableTable != null && !localVariableTable.isEmpty()) {
+			// local variables may shadow cell names
+			return lookupLabel(GeoElementSpreadsheet.getSpreadsheetCellName(column, row));
+		}
+		GeoElement geo = spreadsheetCells.get(row, column);
+		return geo == null ? null : checkConstructionStep(geo);
+	}
+
 	private void addToGeoSets(GeoElement geo) {
 		geoSetConsOrder.add(geo);
 		geoSetWithCasCells.add(geo);
@@ -2012,6 +2097,7 @@ public class Construction {
 			geoCasCellTable = new HashMap<>();
 		}
 		geoCasCellTable.put(label, geoCasCell);
+		labelTableVersion++;
 	}
 
 	/**
@@ -2024,6 +2110,7 @@ public class Construction {
 	public void removeCasCellLabel(String variable) {
 		if (geoCasCellTable != null) {
 			geoCasCellTable.remove(variable);
+			labelTableVersion++;
 		}
 	}
 
@@ -2688,6 +2775,8 @@ public class Construction {
 	 */
 	final private void initGeoTables() {
 		geoTable.clear();
+		labelTableVersion++;
+		spreadsheetCells.clear();
 		geoCasCellTable = null;
 		localVariableTable = null;
 		arbitraryConstantsMap.clear();
@@ -22,6 +22,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
@@ -67,6 +68,8 @@ import org.geogebra.common.kernel.arithmetic.SymbolicMode;
 import org.geogebra.common.kernel.arithmetic.Traversing;
 import org.geogebra.common.kernel.arithmetic.filter.ExpressionFilter;
 import org.geogebra.common.kernel.arithmetic.simplifiers.Rationalization;
+import org.geogebra.common.kernel.batch.CoalescingView;
+import org.geogebra.common.kernel.batch.NotificationBatch;
 import org.geogebra.common.kernel.cas.AlgoUsingTempCASalgo;
 import org.geogebra.common.kernel.commands.AlgebraProcessor;
 import org.geogebra.common.kernel.commands.selector.CommandFilter;
@@ -114,6 +117,7 @@ import org.geogebra.common.plugin.EventType;
 import org.geogebra.common.plugin.GeoClass;
 import org.geogebra.common.plugin.script.GgbScript;
 import org.geogebra.common.plugin.script.Script;
+import org.geogebra.common.util.DoubleFormatter;
 import org.geogebra.common.util.DoubleUtil;
 import org.geogebra.common.util.LRUMap;
 import org.geogebra.common.util.MaxSizeHashMap;
@@ -122,6 +126,7 @@ import org.geogebra.common.util.NumberFormatAdapter;
 import org.geogebra.common.util.ScientificFormatAdapter;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.lang.Language;
 import org.geogebra.editor.share.util.Unicode;
 
 import com.google.j2objc.annotations.Weak;
@@ -171,6 +176,21 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	protected ArrayList<View> views = new ArrayList<>();
 	private boolean batchAddStarted = false;
 	private GeoElement firstGeoInBatch;
+	// collected for coalescing views while a batch update is running
+	private final NotificationBatch pendingNotifications = new NotificationBatch();
+	private boolean dispatchingNotifications;
+	private int batchUpdateDepth;
+	// settings the element strings were last rendered with, see
+	// getStringSettingsVersion
+	private int stringSettingsVersion;
+	private int stringLabelTableVersion;
+	private int stringPrintDecimals;
+	private int stringPrintFigures;
+	private int stringAngleUnit;
+	private int stringCoordStyle;
+	private StringTemplate stringAlgebraTemplate;
+	private Language stringLanguage;
+	private boolean stringDecimalComma;
 	private final ArrayList<GeoElement> deleteList;
 	/** Construction */
 	protected Construction cons;
@@ -362,6 +382,7 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	private final StringBuilder sbBuildExplicitConicEquation = new StringBuilder(
 			80);
 	private StringBuilder sbFormatSF;
+	private StringBuilder sbFormatNF;
 	/** default global JavaScript */
 	final public static String defaultLibraryJavaScript = "function ggbOnInit() {}";
 
@@ -395,6 +416,8 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 
 	private @CheckForNull Surds surds = new Surds();
 	private @CheckForNull Rationalization rationalization = new Rationalization();
+	// labels looked up since recording started, see setLabelLookupRecorder
+	private @CheckForNull Set<String> recordedLookups;
 
 	/**
 	 * @param app
@@ -1330,6 +1353,14 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 			} else if (Double.isNaN(number) && tpl.hasQuestionMarkForNaN()) {
 				return "?";
 			}
+			if (sbFormatNF == null) {
+				sbFormatNF = new StringBuilder();
+			} else {
+				sbFormatNF.setLength(0);
+			}
+			if (DoubleFormatter.appendShortest(sbFormatNF, x)) {
+				return sbFormatNF.toString();
+			}
 			// #5149
 			return MyDouble.toString(x);
 
@@ -1413,8 +1444,14 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 			return "0";
 		}
 		// standard case
-
-		// nf = FormatFactory.prototype.getNumberFormat(2);
+		if (sbFormatNF == null) {
+			sbFormatNF = new StringBuilder();
+		} else {
+			sbFormatNF.setLength(0);
+		}
+		if (tpl.appendDecimal(sbFormatNF, x, nf)) {
+			return sbFormatNF.toString();
+		}
 		NumberFormatAdapter nfa = tpl.getNF(nf);
 		return nfa.format(x);
 	}
@@ -1966,9 +2003,10 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 		} else {
 			sbFormatSF.setLength(0);
 		}
-		ScientificFormatAdapter sfa = tpl.getSF(sf);
-		// get scientific format
-		StringUtil.appendFormat(sbFormatSF, number, sfa);
+		if (!tpl.appendSignificant(sbFormatSF, number, sf)) {
+			// E notation or exact tie
+			StringUtil.appendFormat(sbFormatSF, number, tpl.getSF(sf));
+		}
 		return tpl.convertScientificNotationForDisplay(sbFormatSF.toString());
 	}
 
@@ -2489,6 +2527,40 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 		}
 	}
 
+	/**
+	 * Strings cached by elements are only valid as long as this number does
+	 * not change. It changes with the settings that affect element strings
+	 * (rounding, angle unit, coordinate style, algebra style, language) and
+	 * whenever labels are added or removed, since definitions and values of
+	 * dependent elements may contain labels of other elements.
+	 *
+	 * @return version of the settings for element strings
+	 */
+	public int getStringSettingsVersion() {
+		Localization loc = getLocalization();
+		int coordStyle = getCoordStyle();
+		StringTemplate algebraTemplate = getAlgebraTemplate();
+		if (stringLabelTableVersion != cons.getLabelTableVersion()
+				|| stringPrintDecimals != getPrintDecimals()
+				|| stringPrintFigures != getPrintFigures()
+				|| stringAngleUnit != angleUnit
+				|| stringCoordStyle != coordStyle
+				|| stringAlgebraTemplate != algebraTemplate
+				|| stringLanguage != loc.getLanguage()
+				|| stringDecimalComma != loc.isUsingDecimalComma()) {
+			stringSettingsVersion++;
+			stringLabelTableVersion = cons.getLabelTableVersion();
+			stringPrintDecimals = getPrintDecimals();
+			stringPrintFigures = getPrintFigures();
+			stringAngleUnit = angleUnit;
+			stringCoordStyle = coordStyle;
+			stringAlgebraTemplate = algebraTemplate;
+			stringLanguage = loc.getLanguage();
+			stringDecimalComma = loc.isUsingDecimalComma();
+		}
+		return stringSettingsVersion;
+	}
+
 	/**
 	 * @return print decimals; defaults to 5
 	 */
@@ -3246,6 +3318,9 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	 * @return may return null
 	 */
 	final public GeoElement lookupLabel(String label) {
+		if (recordedLookups != null) {
+			recordedLookups.add(label);
+		}
 		return lookupLabel(label, false, SymbolicMode.NONE);
 	}
 
@@ -3255,9 +3330,30 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	 * @return may return null
 	 */
 	final public GeoCasCell lookupCasCellLabel(String label) {
+		if (recordedLookups != null) {
+			recordedLookups.add(label);
+		}
 		return cons.lookupCasCellLabel(label);
 	}
 
+	/**
+	 * Starts or stops recording the labels passed to
+	 * {@link #lookupLabel(String)} and {@link #lookupCasCellLabel(String)},
+	 * e.g. to find out which labels a parser result depends on.
+	 * @param lookups set that collects the labels, null to stop recording
+	 */
+	public void setLabelLookupRecorder(@CheckForNull Set<String> lookups) {
+		recordedLookups = lookups;
+	}
+
+	/**
+	 * @return labels collected since recording started, null if not
+	 *         recording
+	 */
+	public @CheckForNull Set<String> getLabelLookupRecorder() {
+		return recordedLookups;
+	}
+
 	/**
 	 * Returns a GeoCasCell for the given cas row.
 	 * 
@@ -3493,6 +3589,7 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	 * Clears all views, even if notifyViewsActive is false
 	 */
 	protected final void notifyClearView() {
+		pendingNotifications.clear();
 		for (View view : views) {
 			view.clearView();
 		}
@@ -3780,7 +3877,9 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 				firstGeoInBatch = geo;
 			}
 			for (View view : views) {
-				if ((view.getViewID() != App.VIEW_CONSTRUCTION_PROTOCOL)
+				if (collectsNotifications(view)) {
+					pendingNotifications.add(geo);
+				} else if ((view.getViewID() != App.VIEW_CONSTRUCTION_PROTOCOL)
 						|| isNotifyConstructionProtocolViewAboutAddRemoveActive()) {
 					view.add(geo);
 				}
@@ -3839,7 +3938,9 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 				this.deleteList.add(geo);
 			}
 			for (View view : views) {
-				if ((view.getViewID() != App.VIEW_CONSTRUCTION_PROTOCOL)
+				if (collectsNotifications(view)) {
+					pendingNotifications.remove(geo);
+				} else if ((view.getViewID() != App.VIEW_CONSTRUCTION_PROTOCOL)
 						|| isNotifyConstructionProtocolViewAboutAddRemoveActive()) {
 					// needed for GGB-808
 					// geoCasCell is already removed from cas view
@@ -3901,7 +4002,11 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 		// event dispatcher should not collect calls to stay compatible with 4.0
 		if (notifyViewsActive) {
 			for (View view : views) {
-				view.update(geo);
+				if (collectsNotifications(view)) {
+					pendingNotifications.update(geo);
+				} else {
+					view.update(geo);
+				}
 			}
 		}
 	}
@@ -3919,6 +4024,8 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 				// we already told event dispatcher
 				if (view instanceof UpdateLocationView) {
 					((UpdateLocationView) view).updateLocation(geo);
+				} else if (collectsNotifications(view)) {
+					pendingNotifications.update(geo);
 				} else {
 					view.update(geo);
 				}
@@ -3937,7 +4044,11 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	public final void notifyUpdateVisualStyle(GeoElement geo, GProperty prop) {
 		if (notifyViewsActive) {
 			for (View view : views) {
-				view.updateVisualStyle(geo, prop);
+				if (collectsNotifications(view)) {
+					pendingNotifications.updateVisualStyle(geo, prop);
+				} else {
+					view.updateVisualStyle(geo, prop);
+				}
 			}
 		}
 	}
@@ -3951,7 +4062,11 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	public final void notifyUpdateHighlight(GeoElement geo) {
 		if (notifyViewsActive) {
 			for (View view : views) {
-				view.updateHighlight(geo);
+				if (collectsNotifications(view)) {
+					pendingNotifications.updateHighlight(geo);
+				} else {
+					view.updateHighlight(geo);
+				}
 			}
 		}
 	}
@@ -3965,7 +4080,11 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	public final void notifyUpdateAuxiliaryObject(GeoElement geo) {
 		if (notifyViewsActive) {
 			for (View view : views) {
-				view.updateAuxiliaryObject(geo);
+				if (collectsNotifications(view)) {
+					pendingNotifications.updateAuxiliaryObject(geo);
+				} else {
+					view.updateAuxiliaryObject(geo);
+				}
 			}
 		}
 	}
@@ -3979,7 +4098,11 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	public final void notifyRename(GeoElement geo) {
 		if (notifyViewsActive) {
 			for (View view : views) {
-				view.rename(geo);
+				if (collectsNotifications(view)) {
+					pendingNotifications.rename(geo);
+				} else {
+					view.rename(geo);
+				}
 			}
 		}
 
@@ -3995,7 +4118,12 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	public final void notifyTypeChanged(GeoElement geo) {
 		if (notifyViewsActive) {
 			for (View view : views) {
-				if (view.getViewID() == App.VIEW_ALGEBRA) {
+				if (view.getViewID() != App.VIEW_ALGEBRA) {
+					continue;
+				}
+				if (collectsNotifications(view)) {
+					pendingNotifications.rename(geo);
+				} else {
 					view.rename(geo);
 				}
 			}
@@ -4997,6 +5125,7 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	 * Notify views about started update batch.
 	 */
 	public void notifyBatchUpdate() {
+		batchUpdateDepth++;
 		if (notifyViewsActive) {
 			for (View view : views) {
 				view.startBatchUpdate();
@@ -5005,16 +5134,49 @@ public class Kernel implements SpecialPointsListener, ConstructionStepper {
 	}
 
 	/**
-	 * Notify views about finished update batch.
+	 * Notify views about finished update batch. At the end of the outermost
+	 * batch, coalescing views get all notifications collected during it.
 	 */
 	public void notifyEndBatchUpdate() {
+		if (batchUpdateDepth > 0) {
+			batchUpdateDepth--;
+		}
 		if (notifyViewsActive) {
+			if (batchUpdateDepth == 0) {
+				dispatchPendingNotifications();
+			}
 			for (View view : views) {
 				view.endBatchUpdate();
 			}
 		}
 	}
 
+	private boolean collectsNotifications(View view) {
+		return (batchUpdateDepth > 0 || dispatchingNotifications)
+				&& view instanceof CoalescingView;
+	}
+
+	private void dispatchPendingNotifications() {
+		// notifications caused by views while a batch is dispatched (e.g. by
+		// scripts) are collected and dispatched after it reached all views
+		if (dispatchingNotifications) {
+			return;
+		}
+		dispatchingNotifications = true;
+		try {
+			while (!pendingNotifications.isEmpty()) {
+				NotificationBatch batch = pendingNotifications.take();
+				for (View view : views) {
+					if (view instanceof CoalescingView) {
+						((CoalescingView) view).notifyBatch(batch);
+					}
+				}
+			}
+		} finally {
+			dispatchingNotifications = false;
+		}
+	}
+
 	/**
 	 * Call setLabels on all views.
 	 */
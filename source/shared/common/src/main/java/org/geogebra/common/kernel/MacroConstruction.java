@@ -21,6 +21,7 @@ import java.util.Locale;
 
 import org.geogebra.common.io.XMLParseException;
 import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.editor.share.input.Character;
@@ -73,6 +74,13 @@ public class MacroConstruction extends Construction {
 		}
 	}
 
+	@Override
+	public GeoElement lookupSpreadsheetCell(int row, int column) {
+		// cells may come from the parent construction
+		return lookupLabel(
+				GeoElementSpreadsheet.getSpreadsheetCellName(column, row));
+	}
+
 	/**
 	 * Returns a GeoElement for the given label. Note: construction index is
 	 * ignored here. If no geo is found for the specified label a lookup is made
@@ -40,6 +40,7 @@ import org.geogebra.common.main.Localization;
 import org.geogebra.common.main.ScreenReader;
 import org.geogebra.common.main.settings.GeneralSettings;
 import org.geogebra.common.plugin.Operation;
+import org.geogebra.common.util.DoubleFormatter;
 import org.geogebra.common.util.DoubleUtil;
 import org.geogebra.common.util.EngineeringNotationString;
 import org.geogebra.common.util.NumberFormatAdapter;
@@ -834,6 +835,44 @@ public class StringTemplate implements ExpressionNodeConstants {
 						? nfk : nf;
 	}
 
+	/**
+	 * Appends number rounded to the decimal places of {@link #getNF}, same
+	 * as its format method.
+	 *
+	 * @param sb
+	 *            output
+	 * @param x
+	 *            number
+	 * @param nfk
+	 *            default NF
+	 * @return false if the number is not supported, the NF has to be used
+	 */
+	public boolean appendDecimal(StringBuilder sb, double x,
+			NumberFormatAdapter nfk) {
+		return DoubleFormatter.appendFixed(sb, x,
+				getNF(nfk).getMaximumFractionDigits());
+	}
+
+	/**
+	 * Appends number rounded to the significant figures of {@link #getSF},
+	 * same as {@link StringUtil#appendFormat}.
+	 *
+	 * @param sb
+	 *            output
+	 * @param x
+	 *            number
+	 * @param sfk
+	 *            default SF
+	 * @return false if the number is not supported, the SF has to be used
+	 */
+	public boolean appendSignificant(StringBuilder sb, double x,
+			ScientificFormatAdapter sfk) {
+		ScientificFormatAdapter sfa = getSF(sfk);
+		return !sfa.isScientificNotationStyle()
+				&& DoubleFormatter.appendSignificant(sb, x, sfa.getSigDigits(),
+						sfa.getMaxWidth());
+	}
+
 	/**
 	 * Returns whether we need to localize commands
 	 *
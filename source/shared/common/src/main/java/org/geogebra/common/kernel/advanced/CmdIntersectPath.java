@@ -21,6 +21,8 @@ import org.geogebra.common.kernel.Kernel;
 import org.geogebra.common.kernel.algos.AlgoIntersectPathLinePolygon;
 import org.geogebra.common.kernel.algos.AlgoIntersectPolyLineConicRegion;
 import org.geogebra.common.kernel.algos.AlgoIntersectSegmentConicRegion;
+import org.geogebra.common.kernel.algos.AlgoPolygonListOperation;
+import org.geogebra.common.kernel.algos.AlgoPolygonOperation.PolyOperation;
 import org.geogebra.common.kernel.arithmetic.Command;
 import org.geogebra.common.kernel.commands.CommandProcessor;
 import org.geogebra.common.kernel.commands.EvalInfo;
@@ -28,6 +30,7 @@ import org.geogebra.common.kernel.geos.GeoConic;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoFunctionNVar;
 import org.geogebra.common.kernel.geos.GeoLine;
+import org.geogebra.common.kernel.geos.GeoList;
 import org.geogebra.common.kernel.geos.GeoPoly;
 import org.geogebra.common.kernel.geos.GeoPolygon;
 import org.geogebra.common.kernel.geos.GeoSegment;
@@ -43,6 +46,8 @@ import org.geogebra.common.main.MyError;
  * 
  * IntersectPath[ &lt;GeoLine&gt;, * &lt;GeoConic&gt; ]
  * 
+ * IntersectPath[ &lt;GeoList&gt; ] for a list of polygons
+ * 
  * // removed IntersectPath[&lt;GeoSegment&gt;, &lt;GeoConic&gt;]
  */
 public class CmdIntersectPath extends CommandProcessor {
@@ -63,6 +68,15 @@ public class CmdIntersectPath extends CommandProcessor {
 		GeoElement[] arg;
 
 		switch (n) {
+		case 1:
+			arg = resArgs(c, info);
+			if (CmdUnion.isPolygonList(arg[0])) {
+				AlgoPolygonListOperation algo = new AlgoPolygonListOperation(
+						cons, c.getLabels(), (GeoList) arg[0],
+						PolyOperation.INTERSECTION, c.getOutputSizes());
+				return algo.getOutput();
+			}
+			throw argErr(c, arg[0]);
 		case 2:
 			arg = resArgs(c, info);
 
@@ -17,6 +17,8 @@
 package org.geogebra.common.kernel.advanced;
 
 import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.algos.AlgoPolygonListOperation;
+import org.geogebra.common.kernel.algos.AlgoPolygonOperation.PolyOperation;
 import org.geogebra.common.kernel.arithmetic.Command;
 import org.geogebra.common.kernel.commands.CommandProcessor;
 import org.geogebra.common.kernel.commands.EvalInfo;
@@ -26,6 +28,7 @@ import org.geogebra.common.kernel.geos.GeoPoly;
 import org.geogebra.common.kernel.geos.GeoPolygon;
 import org.geogebra.common.kernel.kernelND.GeoPolygon3DInterface;
 import org.geogebra.common.main.MyError;
+import org.geogebra.common.plugin.GeoClass;
 
 /**
  * Union
@@ -49,6 +52,14 @@ public class CmdUnion extends CommandProcessor {
 		arg = resArgs(c, info);
 
 		switch (n) {
+		case 1:
+			if (isPolygonList(arg[0])) {
+				AlgoPolygonListOperation algo = new AlgoPolygonListOperation(
+						cons, c.getLabels(), (GeoList) arg[0],
+						PolyOperation.UNION, c.getOutputSizes());
+				return algo.getOutput();
+			}
+			throw argErr(c, arg[0]);
 		case 2:
 
 			if (arg[0].isGeoList() && arg[1].isGeoList()) {
@@ -75,6 +86,16 @@ public class CmdUnion extends CommandProcessor {
 		}
 	}
 
+	/**
+	 * @param arg
+	 *            argument
+	 * @return whether the argument is a list of 2D polygons
+	 */
+	static boolean isPolygonList(GeoElement arg) {
+		return arg.isGeoList()
+				&& ((GeoList) arg).getElementType() == GeoClass.POLYGON;
+	}
+
 	/**
 	 * returns the output polygon after polygon union operation
 	 * 
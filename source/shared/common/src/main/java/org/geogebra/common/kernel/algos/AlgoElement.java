@@ -50,6 +50,7 @@ import org.geogebra.common.kernel.geos.LabelManager;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.plugin.GeoClass;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 
 import com.google.j2objc.annotations.AutoreleasePool;
 
@@ -584,7 +585,12 @@ public abstract class AlgoElement extends ConstructionElement
 
 		updateUnlabeledRandomGeos();
 
-		compute();
+		MetricsRegistry metrics = kernel.getApplication().getMetrics();
+		if (metrics.isEnabled() || cons.isProfiling()) {
+			computeProfiled(metrics);
+		} else {
+			compute();
+		}
 
 		if (!updatedDependentGeos) {
 			updatedDependentGeos = true;
@@ -594,6 +600,24 @@ public abstract class AlgoElement extends ConstructionElement
 		updatedDependentGeos = false;
 	}
 
+	private void computeProfiled(MetricsRegistry metrics) {
+		double start = metrics.now();
+		AlgoProfiler profiler = cons.isProfiling() ? cons.getAlgoProfiler()
+				: null;
+		if (profiler != null) {
+			profiler.start(this);
+		}
+		try {
+			compute();
+		} finally {
+			if (profiler != null) {
+				profiler.stop();
+			}
+			metrics.recordSince(
+					MetricsRegistry.COMPUTE + getClassName().getCommand(), start);
+		}
+	}
+
 	/**
 	 * update input random numbers without label
 	 * @return whether something was updated
@@ -152,19 +152,4 @@ public class AlgoLocus extends AlgoLocusND<MyPoint> {
 		return ((GeoPoint) p1).isEqual(p2, Kernel.MIN_PRECISION);
 	}
 
-	@Override
-	protected MyPoint[] createQCopyCache(int length) {
-		return new MyPoint[length];
-	}
-
-	@Override
-	protected void setQCopyCache(MyPoint copy, GeoPointND point) {
-		copy.setLocation(((GeoPoint) point).inhomX, ((GeoPoint) point).inhomY);
-	}
-
-	@Override
-	protected MyPoint newCache() {
-		return new MyPoint();
-	}
-
 }
@@ -20,7 +20,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.TreeSet;
 
-import org.geogebra.common.awt.GPoint2D;
 import org.geogebra.common.euclidian.EuclidianConstants;
 import org.geogebra.common.geogebra3D.kernel3D.algos.AlgoPoint3DInRegion;
 import org.geogebra.common.geogebra3D.kernel3D.algos.AlgoPoint3DOnPath;
@@ -37,6 +36,7 @@ import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoLocusND;
 import org.geogebra.common.kernel.implicit.GeoImplicit;
 import org.geogebra.common.kernel.kernelND.GeoPointND;
+import org.geogebra.common.kernel.matrix.Coords;
 import org.geogebra.common.util.debug.Log;
 
 /**
@@ -105,10 +105,11 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 	private int views = 1;
 	protected boolean[] visibleEV = { false, false, false };
 
-	// small cache of 3 last parameters and Qcopy positions
-	private double[] paramCache = new double[3];
-	private T[] qcopyCache = createQCopyCache(3);
-	private int cacheIndex = 0;
+	// parameters and Qcopy positions of non-continuous constructions,
+	// kept as long as the input of the locus does not change
+	private final LocusPointCache pointCache = new LocusPointCache();
+	private final double[] cachedPoint = new double[3];
+	private boolean viewChangedOnly;
 
 	// private Updater updater;
 
@@ -449,7 +450,9 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 		updateScreenBordersIfNecessary();
 
 		locus.clearPoints();
-		clearCache();
+		if (!viewChangedOnly) {
+			clearCache();
+		}
 		pointCount = 0;
 		lastX = Double.MAX_VALUE;
 		lastY = Double.MAX_VALUE;
@@ -663,9 +666,8 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 			// Non-continuous construction:
 			// check if the path parameter's resulting Qcopy is already in cache
 			double param = copyP.getPathParameter().t;
-			GPoint2D cachedPoint = getCachedPoint(param);
 
-			if (cachedPoint == null) {
+			if (!pointCache.get(param, cachedPoint)) {
 				// measure time needed for update of construction
 				long startTime = System.currentTimeMillis();
 
@@ -681,11 +683,13 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 				}
 
 				// cache value of Qcopy
-				putCachedPoint(param, copyQ);
+				Coords coords = copyQ.getInhomCoordsInD3();
+				pointCache.put(param, coords.getX(), coords.getY(),
+						coords.getZ());
 			} else {
 				// use cached result to set Qcopy
 				ExpressionNode qDef = copyQ.getDefinition();
-				copyQ.setCoords(cachedPoint.getX(), cachedPoint.getY(), 1.0);
+				setQCopy(cachedPoint[0], cachedPoint[1], cachedPoint[2]);
 				copyQ.setDefinition(qDef);
 			}
 		}
@@ -702,59 +706,27 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 		}
 	}
 
-	private void clearCache() {
-		for (int i = 0; i < paramCache.length; i++) {
-			paramCache[i] = Double.NaN;
-			if (qcopyCache[i] == null) {
-				qcopyCache[i] = newCache();
-			}
-		}
-	}
-
-	private GPoint2D getCachedPoint(double param) {
-		// search for cached parameter
-		for (int i = 0; i < paramCache.length; i++) {
-			if (param == paramCache[i]) {
-				return qcopyCache[i];
-			}
-		}
-
-		return null;
-	}
-
-	private void putCachedPoint(double param, GeoPointND Qcopy0) {
-		cacheIndex++;
-		if (cacheIndex >= paramCache.length) {
-			cacheIndex = 0;
-		}
-
-		paramCache[cacheIndex] = param;
-		setQCopyCache(qcopyCache[cacheIndex], Qcopy0);
-	}
-
 	/**
-	 * 
-	 * @param length
-	 *            number of elements
-	 * @return new q copy cache
+	 * Clears cached locus points, needed whenever the input of the locus
+	 * changes. Changes of the views only need points for new parameters.
 	 */
-	abstract protected T[] createQCopyCache(int length);
-
-	/**
-	 * set point's coords to copy
-	 * 
-	 * @param copy
-	 *            copy
-	 * @param point
-	 *            point
-	 */
-	abstract protected void setQCopyCache(T copy, GeoPointND point);
+	private void clearCache() {
+		pointCache.clear();
+	}
 
 	/**
+	 * Sets the locus point copy to a cached position.
 	 * 
-	 * @return new instance for cache
+	 * @param x
+	 *            x-coord
+	 * @param y
+	 *            y-coord
+	 * @param z
+	 *            z-coord
 	 */
-	abstract protected T newCache();
+	protected void setQCopy(double x, double y, double z) {
+		copyQ.setCoords(x, y, 1.0);
+	}
 
 	/**
 	 * insert point
@@ -889,7 +861,13 @@ public abstract class AlgoLocusND<T extends MyPoint> extends AlgoElement {
 		// if borders changed, update cascade in Construction; if not, do nothing
 		// same if locus itself is hidden but has dependent geos
 		if (updateScreenBorders() || !locus.getAlgoUpdateSet().isEmpty()) {
-			compute();
+			// input is unchanged, so cached points stay valid
+			viewChangedOnly = true;
+			try {
+				compute();
+			} finally {
+				viewChangedOnly = false;
+			}
 			return true;
 		}
 		return false;
@@ -0,0 +1,116 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import java.util.ArrayList;
+
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.commands.Commands;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoPolygon;
+import org.geogebra.common.util.clipper.Paths;
+
+/**
+ * Union or intersection of a list of polygons, computed by a single Clipper
+ * execution.
+ *
+ * Input: list of polygons
+ *
+ * Output: polygons, their vertices and segments
+ */
+public class AlgoPolygonListOperation extends AlgoPolygonOperation {
+
+	private final GeoList polygons;
+	private final ArrayList<PolygonClipperPath> paths = new ArrayList<>();
+	private boolean allPolygons;
+
+	/**
+	 * @param cons
+	 *            construction
+	 * @param labels
+	 *            labels for output
+	 * @param polygons
+	 *            list of polygons
+	 * @param operationType
+	 *            {@link PolyOperation#UNION} or
+	 *            {@link PolyOperation#INTERSECTION}
+	 * @param outputSizes
+	 *            sizes of the results of the operation (polygons, points,
+	 *            segments), null if not loaded from XML
+	 */
+	public AlgoPolygonListOperation(Construction cons, String[] labels,
+			GeoList polygons, PolyOperation operationType, int[] outputSizes) {
+		super(cons, labels, polygons, operationType);
+		this.polygons = polygons;
+		initialize(outputSizes);
+	}
+
+	@Override
+	protected void setInputOutput() {
+		input = new GeoElement[1];
+		input[0] = polygons;
+
+		input[0].addAlgorithm(this);
+		cons.addToAlgorithmList(this);
+
+		setDependencies();
+	}
+
+	@Override
+	protected boolean updatePaths() {
+		int size = polygons.size();
+		boolean changed = paths.size() != size;
+		allPolygons = true;
+		for (int i = 0; i < size; i++) {
+			GeoElement geo = polygons.get(i);
+			if (!(geo instanceof GeoPolygon)) {
+				allPolygons = false;
+				return true;
+			}
+			if (i >= paths.size()) {
+				paths.add(new PolygonClipperPath((GeoPolygon) geo));
+			} else if (paths.get(i).getPolygon() != geo) {
+				paths.set(i, new PolygonClipperPath((GeoPolygon) geo));
+				changed = true;
+			}
+			// update all paths, not only until the first change
+			changed = paths.get(i).update() || changed;
+		}
+		while (paths.size() > size) {
+			paths.remove(paths.size() - 1);
+		}
+		return changed;
+	}
+
+	@Override
+	protected boolean execute(Paths result) {
+		if (!allPolygons) {
+			return false;
+		}
+		if (operationType == PolyOperation.INTERSECTION) {
+			return PolygonClipperPath.intersection(paths, result);
+		}
+		return PolygonClipperPath.union(paths, result);
+	}
+
+	@Override
+	public Commands getClassName() {
+		return operationType == PolyOperation.INTERSECTION
+				? Commands.IntersectPath : Commands.Union;
+	}
+}
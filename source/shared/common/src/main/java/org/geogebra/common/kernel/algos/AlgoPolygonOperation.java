@@ -57,9 +57,13 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 	/** output segments */
 	protected OutputHandler<GeoSegment> outputSegments;
 
-	private Path subject;
-	private Path clip;
-	private Paths solution;
+	// input whose views are used for the output
+	private final GeoElement viewSource;
+	private final PolygonClipperPath subject;
+	private final PolygonClipperPath clip;
+	private final Paths solution;
+	private boolean solutionValid;
+	private boolean computed;
 	/**
 	 * whether labels were suppressed during constructor; in such case never
 	 * label outputs.
@@ -107,8 +111,9 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 
 		this.labels = labels;
 
-		subject = new Path(inPoly0.getPointsLength());
-		clip = new Path(inPoly1.getPointsLength());
+		viewSource = inPoly0;
+		subject = new PolygonClipperPath(inPoly0);
+		clip = new PolygonClipperPath(inPoly1);
 		solution = new Paths();
 		silent = cons.isSuppressLabelsActive();
 
@@ -116,14 +121,44 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 
 	}
 
+	/**
+	 * Constructor for operations with other input than two polygons, the
+	 * subclass has to override {@link #setInputOutput()},
+	 * {@link #updatePaths()} and {@link #execute(Paths)}.
+	 * 
+	 * @param cons
+	 *            construction
+	 * @param labels
+	 *            labels
+	 * @param viewSource
+	 *            input element whose views are used for the output
+	 * @param operationType
+	 *            the enum type of operation
+	 */
+	protected AlgoPolygonOperation(Construction cons, String[] labels,
+			GeoElement viewSource, PolyOperation operationType) {
+		super(cons);
+
+		this.operationType = operationType;
+		this.labels = labels;
+
+		this.viewSource = viewSource;
+		subject = null;
+		clip = null;
+		solution = new Paths();
+		silent = cons.isSuppressLabelsActive();
+
+		createOutput();
+	}
+
 	/**
 	 * @param outputSizes
 	 *            output sizes from XML
 	 */
 	protected void initialize(int[] outputSizes) {
 		setInputOutput();
-		// We do compute() TWICE in the constructor (for some reason)
-		// for this one we don't have the labels set yet, so do it silently
+		// labels are not set yet, so compute silently; the update() below
+		// only assigns labels as the input paths did not change
 		compute(false);
 
 		// set labels
@@ -206,7 +241,7 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 						p.setAllVisualProperties(
 								outputPolygons.getElement(0), false);
 					}
-					p.setViewFlags(inPoly0.getViewSet());
+					p.setViewFlags(viewSource.getViewSet());
 					p.setNotFixedPointsLength(true);
 					return p;
 				});
@@ -219,7 +254,7 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 					newPoint.setCoords(0, 0, 1);
 					newPoint.setParentAlgorithm(this);
 					newPoint.setAuxiliaryObject(true);
-					newPoint.setViewFlags(inPoly0.getViewSet());
+					newPoint.setViewFlags(viewSource.getViewSet());
 
 					return newPoint;
 				});
@@ -233,7 +268,7 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 							.createSegment(cons, outputPoints.getElement(0),
 									outputPoints.getElement(0), true);
 					segment.setAuxiliaryObject(true);
-					segment.setViewFlags(inPoly0.getViewSet());
+					segment.setViewFlags(viewSource.getViewSet());
 					return segment;
 				});
 
@@ -255,56 +290,65 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 		setDependencies();
 	}
 
-	@Override
-	public void compute() {
-		compute(!silent);
+	/**
+	 * Updates the Clipper input paths.
+	 * 
+	 * @return whether any path changed since the last update
+	 */
+	protected boolean updatePaths() {
+		// bitwise or: both paths have to be updated
+		return subject.update() | clip.update();
 	}
 
-	private void compute(boolean updateLabels) {
-
-		// add subject polygon
-		subject.clear();
-		for (int i = 0; i < inPoly0.getPointsLength(); i++) {
-			DoublePoint point = convert(inPoly0.getPoint(i));
-			subject.add(point);
-		}
-
-		// add clip polygon
-		clip.clear();
-		for (int i = 0; i < inPoly1.getPointsLength(); i++) {
-			DoublePoint point = convert(inPoly1.getPoint(i));
-			clip.add(point);
-		}
-
-		// initializing clipper
+	/**
+	 * Runs the operation on the current input paths.
+	 * 
+	 * @param result
+	 *            output paths
+	 * @return whether the operation succeeded
+	 */
+	protected boolean execute(Paths result) {
 		DefaultClipper clipper = new DefaultClipper(Clipper.STRICTLY_SIMPLE);
-		clipper.addPath(clip, PolyType.CLIP, true);
-		clipper.addPath(subject, PolyType.SUBJECT, true);
+		clipper.addPath(clip.getPath(), PolyType.CLIP, true);
+		clipper.addPath(subject.getPath(), PolyType.SUBJECT, true);
 
-		boolean solutionValid = false;
-		solution.clear();
-
-		// calculating output polygons
 		switch (operationType) {
 		default:
 		case INTERSECTION:
-			solutionValid = clipper.execute(ClipType.INTERSECTION, solution,
+			return clipper.execute(ClipType.INTERSECTION, result,
 					PolyFillType.EVEN_ODD, PolyFillType.EVEN_ODD);
-			break;
 		case UNION:
-			solutionValid = clipper.execute(ClipType.UNION, solution,
+			return clipper.execute(ClipType.UNION, result,
 					PolyFillType.EVEN_ODD, PolyFillType.EVEN_ODD);
-			break;
 		case DIFFERENCE:
-			solutionValid = clipper.execute(ClipType.DIFFERENCE, solution,
+			return clipper.execute(ClipType.DIFFERENCE, result,
 					PolyFillType.EVEN_ODD, PolyFillType.EVEN_ODD);
-			break;
 		case XOR:
-			solutionValid = clipper.execute(ClipType.XOR, solution,
+			return clipper.execute(ClipType.XOR, result,
 					PolyFillType.EVEN_ODD, PolyFillType.EVEN_ODD);
-			break;
+		}
+	}
 
+	@Override
+	public void compute() {
+		compute(!silent);
+	}
+
+	private void compute(boolean updateLabels) {
+		boolean changed = updatePaths();
+		if (computed && !changed) {
+			if (updateLabels && solutionValid) {
+				outputPoints.updateLabels();
+				outputSegments.updateLabels();
+				outputPolygons.updateLabels();
+			}
+			return;
 		}
+		computed = true;
+
+		// calculating output polygons
+		solution.clear();
+		solutionValid = execute(solution);
 
 		// assign output calculated using clipper library to appropriately
 
@@ -388,9 +432,4 @@ public abstract class AlgoPolygonOperation extends AlgoElement {
 
 	}
 
-	private static DoublePoint convert(GeoPoint point) {
-		return new DoublePoint(point.getX() / point.getZ(),
-				point.getY() / point.getZ());
-	}
-
 }
\ No newline at end of file
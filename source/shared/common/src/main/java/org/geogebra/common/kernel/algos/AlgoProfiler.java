@@ -0,0 +1,250 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.move.ggtapi.models.json.JSONArray;
+import org.geogebra.common.move.ggtapi.models.json.JSONException;
+import org.geogebra.common.move.ggtapi.models.json.JSONObject;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Exact timing of algorithm computations while profiling of the construction
+ * is on, see {@link org.geogebra.common.kernel.Construction#setProfiling}.
+ * Time and number of computations are attributed to the labeled outputs and
+ * to the command of each algorithm. Computations triggered from within
+ * another computation (e.g. elements of a sequence) are nested, their time
+ * counts as total but not as self time of the outer algorithm. Macro
+ * constructions are not profiled.
+ */
+public class AlgoProfiler {
+
+	private final HashMap<String, Entry> labels = new HashMap<>();
+	private final HashMap<String, Entry> commands = new HashMap<>();
+	// collapsed stack -> self time in ms
+	private final HashMap<String, double[]> stacks = new HashMap<>();
+	private final ArrayList<Frame> frames = new ArrayList<>();
+
+	/**
+	 * Time and number of computations of one label or command.
+	 */
+	public static final class Entry {
+		private final String name;
+		private final String command;
+		private long count;
+		private double total;
+		private double self;
+
+		Entry(String name, String command) {
+			this.name = name;
+			this.command = command;
+		}
+
+		/**
+		 * @return label or command name
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return number of computations
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return total time in milliseconds, including nested computations
+		 */
+		public double getTotal() {
+			return total;
+		}
+
+		/**
+		 * @return time in milliseconds without nested computations
+		 */
+		public double getSelf() {
+			return self;
+		}
+
+		private JSONObject toJSON() throws JSONException {
+			JSONObject json = new JSONObject();
+			json.put("name", name);
+			if (command != null) {
+				json.put("command", command);
+			}
+			json.put("count", count);
+			json.put("total", total);
+			json.put("self", self);
+			return json;
+		}
+	}
+
+	private static final class Frame {
+		private final String label;
+		private final String command;
+		private final String stack;
+		private final double start;
+		private double children;
+
+		Frame(String label, String command, String stack, double start) {
+			this.label = label;
+			this.command = command;
+			this.stack = stack;
+			this.start = start;
+		}
+	}
+
+	/**
+	 * Called before computing.
+	 *
+	 * @param algo
+	 *            algorithm
+	 */
+	public void start(AlgoElement algo) {
+		String label = getLabel(algo);
+		String command = algo.getClassName().getCommand();
+		String name = label == null ? command : command + "(" + label + ")";
+		String stack = frames.isEmpty() ? name
+				: frames.get(frames.size() - 1).stack + ";" + name;
+		frames.add(new Frame(label, command, stack, now()));
+	}
+
+	/**
+	 * Called after computing, must match {@link #start(AlgoElement)}.
+	 */
+	public void stop() {
+		if (frames.isEmpty()) {
+			return;
+		}
+		Frame frame = frames.remove(frames.size() - 1);
+		double total = now() - frame.start;
+		double self = Math.max(0, total - frame.children);
+		if (!frames.isEmpty()) {
+			frames.get(frames.size() - 1).children += total;
+		}
+		add(commands, frame.command, null, total, self);
+		if (frame.label != null) {
+			add(labels, frame.label, frame.command, total, self);
+		}
+		double[] stackTime = stacks.get(frame.stack);
+		if (stackTime == null) {
+			stackTime = new double[1];
+			stacks.put(frame.stack, stackTime);
+		}
+		stackTime[0] += self;
+	}
+
+	private static void add(Map<String, Entry> entries, String name,
+			String command, double total, double self) {
+		Entry entry = entries.get(name);
+		if (entry == null) {
+			entry = new Entry(name, command);
+			entries.put(name, entry);
+		}
+		entry.count++;
+		entry.total += total;
+		entry.self += self;
+	}
+
+	private static String getLabel(AlgoElement algo) {
+		for (int i = 0; i < algo.getOutputLength(); i++) {
+			GeoElement geo = algo.getOutput(i);
+			if (geo != null && geo.isLabelSet()) {
+				return geo.getLabelSimple();
+			}
+		}
+		return null;
+	}
+
+	private static double now() {
+		return UtilFactory.getPrototype().getMillisecondTime();
+	}
+
+	/**
+	 * @param limit
+	 *            maximal number of entries
+	 * @return labeled outputs sorted by self time (descending)
+	 */
+	public List<Entry> getLabels(int limit) {
+		return rank(labels, limit);
+	}
+
+	/**
+	 * @param limit
+	 *            maximal number of entries
+	 * @return commands sorted by self time (descending)
+	 */
+	public List<Entry> getCommands(int limit) {
+		return rank(commands, limit);
+	}
+
+	private static List<Entry> rank(Map<String, Entry> entries, int limit) {
+		List<Entry> ranked = new ArrayList<>(entries.values());
+		ranked.sort((a, b) -> Double.compare(b.self, a.self));
+		return ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+	}
+
+	/**
+	 * @param limit
+	 *            maximal number of labels and commands
+	 * @return JSON object with arrays "labels" and "commands", each sorted by
+	 *         self time; times in milliseconds
+	 */
+	public String getReport(int limit) {
+		JSONObject json = new JSONObject();
+		try {
+			json.put("labels", toJSON(getLabels(limit)));
+			json.put("commands", toJSON(getCommands(limit)));
+		} catch (JSONException e) {
+			Log.debug(e);
+		}
+		return json.toString();
+	}
+
+	private static JSONArray toJSON(List<Entry> entries) throws JSONException {
+		JSONArray array = new JSONArray();
+		for (Entry entry : entries) {
+			array.put(entry.toJSON());
+		}
+		return array;
+	}
+
+	/**
+	 * @return one line per call stack with self time in microseconds, e.g.
+	 *         "Sequence(l1);Intersect 1500", as expected by flame graph tools
+	 */
+	public String getCollapsedStacks() {
+		ArrayList<String> keys = new ArrayList<>(stacks.keySet());
+		keys.sort(null);
+		StringBuilder sb = new StringBuilder();
+		for (String stack : keys) {
+			sb.append(stack);
+			sb.append(' ');
+			sb.append(Math.round(stacks.get(stack)[0] * 1000));
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import java.util.Arrays;
+
+/**
+ * Maps path parameters of the moving point to the resulting positions of the
+ * locus point. Uses open addressing over primitive arrays, so lookups don't
+ * allocate. When the cache is full it starts over.
+ */
+final class LocusPointCache {
+
+	private static final int MAX_SIZE = 1 << 16;
+
+	private long[] keys;
+	private double[] coords;
+	private boolean[] used;
+	private int size;
+	private int hits;
+	private int misses;
+
+	/**
+	 * Creates an empty cache.
+	 */
+	LocusPointCache() {
+		allocate(1024);
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		coords = new double[3 * capacity];
+		used = new boolean[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	void clear() {
+		if (size > 0) {
+			Arrays.fill(used, false);
+			size = 0;
+		}
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * @param param
+	 *            path parameter
+	 * @param result
+	 *            array for x, y, z of the cached point
+	 * @return whether the parameter was found
+	 */
+	boolean get(double param, double[] result) {
+		long key = Double.doubleToLongBits(param);
+		int i = indexOf(key);
+		if (!used[i]) {
+			misses++;
+			return false;
+		}
+		hits++;
+		result[0] = coords[3 * i];
+		result[1] = coords[3 * i + 1];
+		result[2] = coords[3 * i + 2];
+		return true;
+	}
+
+	/**
+	 * @param param
+	 *            path parameter
+	 * @param x
+	 *            x-coord of locus point (NaN if undefined)
+	 * @param y
+	 *            y-coord of locus point (NaN if undefined)
+	 * @param z
+	 *            z-coord of locus point
+	 */
+	void put(double param, double x, double y, double z) {
+		if (2 * (size + 1) > keys.length) {
+			if (keys.length >= MAX_SIZE) {
+				clear();
+			} else {
+				rehash();
+			}
+		}
+		long key = Double.doubleToLongBits(param);
+		int i = indexOf(key);
+		if (!used[i]) {
+			used[i] = true;
+			keys[i] = key;
+			size++;
+		}
+		coords[3 * i] = x;
+		coords[3 * i + 1] = y;
+		coords[3 * i + 2] = z;
+	}
+
+	private int indexOf(long key) {
+		int mask = keys.length - 1;
+		int i = mix(key) & mask;
+		while (used[i] && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	private static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private void rehash() {
+		long[] oldKeys = keys;
+		double[] oldCoords = coords;
+		boolean[] oldUsed = used;
+		allocate(2 * oldKeys.length);
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldUsed[j]) {
+				int i = indexOf(oldKeys[j]);
+				used[i] = true;
+				keys[i] = oldKeys[j];
+				System.arraycopy(oldCoords, 3 * j, coords, 3 * i, 3);
+				size++;
+			}
+		}
+	}
+
+	/**
+	 * @return number of cached parameters
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return number of successful lookups since last clear
+	 */
+	int getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of failed lookups since last clear
+	 */
+	int getMisses() {
+		return misses;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.algos;
+
+import java.util.List;
+
+import org.geogebra.common.kernel.geos.GeoPoint;
+import org.geogebra.common.kernel.geos.GeoPolygon;
+import org.geogebra.common.util.clipper.Clipper;
+import org.geogebra.common.util.clipper.Clipper.ClipType;
+import org.geogebra.common.util.clipper.Clipper.PolyFillType;
+import org.geogebra.common.util.clipper.Clipper.PolyType;
+import org.geogebra.common.util.clipper.DefaultClipper;
+import org.geogebra.common.util.clipper.Path;
+import org.geogebra.common.util.clipper.Paths;
+import org.geogebra.common.util.clipper.Point.DoublePoint;
+
+/**
+ * Clipper input path of a polygon. The path is only rebuilt when a vertex of
+ * the polygon moved, so operations involving a fixed polygon do not convert
+ * it again on every update.
+ */
+public final class PolygonClipperPath {
+
+	private final GeoPolygon polygon;
+	private final Path path;
+	// vertex coords the path was built from, x and y alternating
+	private double[] coords = new double[0];
+
+	/**
+	 * @param polygon
+	 *            polygon
+	 */
+	public PolygonClipperPath(GeoPolygon polygon) {
+		this.polygon = polygon;
+		this.path = new Path(polygon.getPointsLength());
+	}
+
+	/**
+	 * Rebuilds the path if the polygon vertices changed since the last call.
+	 *
+	 * @return whether the path changed
+	 */
+	public boolean update() {
+		int length = polygon.getPointsLength();
+		boolean changed = coords.length != 2 * length;
+		if (changed) {
+			coords = new double[2 * length];
+		}
+		for (int i = 0; i < length; i++) {
+			GeoPoint point = polygon.getPoint(i);
+			double x = point.getX() / point.getZ();
+			double y = point.getY() / point.getZ();
+			// NaN never equals itself, undefined vertices always rebuild
+			if (changed || x != coords[2 * i] || y != coords[2 * i + 1]) {
+				coords[2 * i] = x;
+				coords[2 * i + 1] = y;
+				changed = true;
+			}
+		}
+		if (changed) {
+			path.clear();
+			for (int i = 0; i < length; i++) {
+				path.add(new DoublePoint(coords[2 * i], coords[2 * i + 1]));
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * @return path as of the last {@link #update()}
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * @return polygon
+	 */
+	public GeoPolygon getPolygon() {
+		return polygon;
+	}
+
+	/**
+	 * Union of many polygons using a single Clipper execution. Each polygon
+	 * is treated as simple, i.e. orientation and self intersections are
+	 * ignored.
+	 *
+	 * @param polygons
+	 *            polygon paths, updated if necessary
+	 * @param solution
+	 *            output paths
+	 * @return whether the operation succeeded
+	 */
+	public static boolean union(List<PolygonClipperPath> polygons,
+			Paths solution) {
+		solution.clear();
+		if (polygons.isEmpty()) {
+			return false;
+		}
+		DefaultClipper clipper = new DefaultClipper(Clipper.STRICTLY_SIMPLE);
+		for (PolygonClipperPath polygon : polygons) {
+			polygon.update();
+			clipper.addPath(positive(polygon.path), PolyType.SUBJECT, true);
+		}
+		return clipper.execute(ClipType.UNION, solution,
+				PolyFillType.NON_ZERO, PolyFillType.NON_ZERO);
+	}
+
+	/**
+	 * Intersection of many polygons using a single Clipper execution. Each
+	 * polygon is treated as simple, i.e. orientation and self intersections
+	 * are ignored.
+	 *
+	 * @param polygons
+	 *            polygon paths, updated if necessary
+	 * @param solution
+	 *            output paths
+	 * @return whether the operation succeeded
+	 */
+	public static boolean intersection(List<PolygonClipperPath> polygons,
+			Paths solution) {
+		solution.clear();
+		if (polygons.isEmpty()) {
+			return false;
+		}
+		DefaultClipper clipper = new DefaultClipper(Clipper.STRICTLY_SIMPLE);
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (PolygonClipperPath polygon : polygons) {
+			polygon.update();
+			if (!clipper.addPath(positive(polygon.path), PolyType.SUBJECT,
+					true)) {
+				// degenerate polygon, empty intersection
+				return true;
+			}
+			for (DoublePoint point : polygon.path) {
+				minX = Math.min(minX, point.getX());
+				minY = Math.min(minY, point.getY());
+				maxX = Math.max(maxX, point.getX());
+				maxY = Math.max(maxY, point.getY());
+			}
+		}
+		// winding number inside all n polygons is n; n - 1 negative boxes
+		// around everything make it positive exactly there
+		Path box = new Path(4);
+		box.add(new DoublePoint(minX - 1, minY - 1));
+		box.add(new DoublePoint(minX - 1, maxY + 1));
+		box.add(new DoublePoint(maxX + 1, maxY + 1));
+		box.add(new DoublePoint(maxX + 1, minY - 1));
+		for (int i = 1; i < polygons.size(); i++) {
+			clipper.addPath(box, PolyType.SUBJECT, true);
+		}
+		return clipper.execute(ClipType.UNION, solution,
+				PolyFillType.POSITIVE, PolyFillType.POSITIVE);
+	}
+
+	private static Path positive(Path path) {
+		if (path.orientation()) {
+			return path;
+		}
+		Path reversed = new Path(path.size());
+		for (int i = path.size() - 1; i >= 0; i--) {
+			reversed.add(path.get(i));
+		}
+		return reversed;
+	}
+}
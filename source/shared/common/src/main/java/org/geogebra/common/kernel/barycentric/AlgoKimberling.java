@@ -41,6 +41,8 @@ public class AlgoKimberling extends AlgoElement {
 	private GeoPointND A, B, C; // input
 	private GeoPointND M; // output
 	private GeoNumberValue n;
+	private final KimberlingCenters centers = new KimberlingCenters();
+	private final double[] weights = new double[3];
 
 	/**
 	 * Creates new algo for triangle center
@@ -104,18 +106,14 @@ public class AlgoKimberling extends AlgoElement {
 		double c = A.distance(B);
 		double b = C.distance(A);
 		double a = B.distance(C);
-		double m = Math.min(Math.min(a, b), c);
-		a = a / m;
-		b = b / m;
-		c = c / m;
 		int k = (int) n.getDouble();
 
-		AlgoKimberlingWeights weights = new AlgoKimberlingWeights();
-
-		double wA = weights.weight(k, a, b, c);
-		double wB = weights.weight(k, b, c, a);
-		double wC = weights.weight(k, c, a, b);
-		double w = wA + wB + wC;
+		// power tables are only recomputed when the triangle changes
+		centers.setTriangle(a, b, c);
+		double w = centers.weights(k, weights);
+		double wA = weights[0];
+		double wB = weights[1];
+		double wC = weights[2];
 		if (Double.isNaN(w) || DoubleUtil.isZero(w)) {
 			M.setUndefined();
 		} else {
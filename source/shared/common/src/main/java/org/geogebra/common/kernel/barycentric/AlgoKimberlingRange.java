@@ -0,0 +1,146 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+
+package org.geogebra.common.kernel.barycentric;
+
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.algos.AlgoElement;
+import org.geogebra.common.kernel.commands.Commands;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoList;
+import org.geogebra.common.kernel.geos.GeoNumberValue;
+import org.geogebra.common.kernel.geos.GeoPoint;
+import org.geogebra.common.kernel.kernelND.GeoPointND;
+import org.geogebra.common.util.MyMath;
+
+/**
+ * Computes a range of Kimberling centers of a triangle in one pass, sharing
+ * the power tables of the triangle between all of them.
+ */
+public class AlgoKimberlingRange extends AlgoElement {
+
+	private final GeoPointND A;
+	private final GeoPointND B;
+	private final GeoPointND C;
+	private final GeoNumberValue from;
+	private final GeoNumberValue to;
+	private final GeoList centerList;
+	private final int dim;
+	private final KimberlingCenters centers = new KimberlingCenters();
+	private double[] coords = new double[0];
+
+	/**
+	 * @param cons
+	 *            construction
+	 * @param label
+	 *            label
+	 * @param A
+	 *            first point
+	 * @param B
+	 *            second point
+	 * @param C
+	 *            third point
+	 * @param from
+	 *            first index in ETC
+	 * @param to
+	 *            last index in ETC (inclusive)
+	 */
+	public AlgoKimberlingRange(Construction cons, String label, GeoPointND A,
+			GeoPointND B, GeoPointND C, GeoNumberValue from,
+			GeoNumberValue to) {
+		super(cons);
+		this.A = A;
+		this.B = B;
+		this.C = C;
+		this.from = from;
+		this.to = to;
+		dim = MyMath.max(A.getDimension(), B.getDimension(),
+				C.getDimension());
+		centerList = new GeoList(cons);
+		setInputOutput();
+		compute();
+		centerList.setLabel(label);
+	}
+
+	@Override
+	public Commands getClassName() {
+		return Commands.TriangleCenter;
+	}
+
+	@Override
+	protected void setInputOutput() {
+		input = new GeoElement[5];
+		input[0] = A.toGeoElement();
+		input[1] = B.toGeoElement();
+		input[2] = C.toGeoElement();
+		input[3] = from.toGeoElement();
+		input[4] = to.toGeoElement();
+
+		setOnlyOutput(centerList);
+		setDependencies(); // done by AlgoElement
+	}
+
+	/**
+	 * @return list of the centers
+	 */
+	public GeoList getResult() {
+		return centerList;
+	}
+
+	@Override
+	public final void compute() {
+		if (!from.isDefined() || !to.isDefined()) {
+			centerList.setUndefined();
+			return;
+		}
+		int first = (int) Math.max(1, from.getDouble());
+		int last = (int) Math.min(KimberlingCenters.MAX_INDEX, to.getDouble());
+		if (last < first) {
+			centerList.setUndefined();
+			return;
+		}
+		int size = last - first + 1;
+		if (coords.length < 3 * size) {
+			coords = new double[3 * size];
+		}
+		centers.setTriangle(B.distance(C), C.distance(A), A.distance(B));
+		centers.computeAll(first, last, coords);
+
+		// recycle the points of the last update
+		centerList.setDefined(true);
+		for (int i = centerList.size() - 1; i >= size; i--) {
+			GeoElement extraGeo = centerList.get(i);
+			extraGeo.remove();
+			centerList.remove(extraGeo);
+		}
+		for (int i = 0; i < size; i++) {
+			GeoPointND center;
+			if (i < centerList.size()) {
+				center = (GeoPointND) centerList.get(i);
+			} else {
+				center = kernel.getGeoFactory().newPoint(dim, cons);
+				centerList.add(center.toGeoElement());
+			}
+			if (Double.isNaN(coords[3 * i])) {
+				center.setUndefined();
+			} else {
+				GeoPoint.setBarycentric(A, B, C, coords[3 * i],
+						coords[3 * i + 1], coords[3 * i + 2], 1, center);
+			}
+		}
+	}
+}
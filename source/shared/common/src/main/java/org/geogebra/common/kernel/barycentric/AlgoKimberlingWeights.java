@@ -26,6 +26,7 @@ package org.geogebra.common.kernel.barycentric;
 
 public class AlgoKimberlingWeights {
 
+	private double a, b, c;
 	private double a2, a3, a4, a5, a6, a7, a8, a9, a10;
 	private double b2, b3, b4, b5, b6, b7, b8, b9, b10;
 	private double c2, c3, c4, c5, c6, c7, c8, c9, c10;
@@ -39,7 +40,39 @@ public class AlgoKimberlingWeights {
 		return Math.sqrt(a);
 	}
 
+	/**
+	 * Computes weight of given center for triangle with given sides.
+	 * 
+	 * @param k
+	 *            index in ETC
+	 * @param a
+	 *            side opposite to the vertex
+	 * @param b
+	 *            second side
+	 * @param c
+	 *            third side
+	 * @return barycentric weight of the vertex
+	 */
 	public double weight(int k, double a, double b, double c) {
+		setSides(a, b, c);
+		return weight(k);
+	}
+
+	/**
+	 * Precomputes powers and angles shared by all centers, to be used by
+	 * subsequent calls of {@link #weight(int)}.
+	 * 
+	 * @param a
+	 *            side opposite to the vertex
+	 * @param b
+	 *            second side
+	 * @param c
+	 *            third side
+	 */
+	public void setSides(double a, double b, double c) {
+		this.a = a;
+		this.b = b;
+		this.c = c;
 		a2 = a * a;
 		a3 = a * a2;
 		a4 = a * a3;
@@ -81,7 +114,15 @@ public class AlgoKimberlingWeights {
 
 		// four times the area of the triangle using Heron's formula
 		S = u((a + b + c) * (-a + b + c) * (a - b + c) * (a + b - c));
+	}
 
+	/**
+	 * @param k
+	 *            index in ETC
+	 * @return barycentric weight of the vertex for sides set by
+	 *         {@link #setSides(double, double, double)}
+	 */
+	public double weight(int k) {
 		if (k < 100) {
 			return weight0to99(k, a, b, c);
 		}
@@ -28,6 +28,9 @@ import org.geogebra.common.main.MyError;
 /**
  * TriangleCenter[&lt;Point&gt;,&lt;Point&gt;,&lt;Point&gt;,&lt;Index&gt;]
  * 
+ * TriangleCenter[&lt;Point&gt;,&lt;Point&gt;,&lt;Point&gt;,&lt;Start
+ * Index&gt;,&lt;End Index&gt;]
+ * 
  * @author Zbynek Konecny
  *
  */
@@ -63,6 +66,23 @@ public class CmdKimberling extends CommandProcessor {
 				GeoElement[] ret = { algo.getResult().toGeoElement() };
 				return ret;
 
+			}
+			throw argErr(c, getBadArg(ok, arg));
+		case 5:
+			arg = resArgs(c, info);
+			if ((ok[0] = arg[0].isGeoPoint()) && (ok[1] = arg[1].isGeoPoint())
+					&& (ok[2] = arg[2].isGeoPoint())
+					&& (ok[3] = arg[3] instanceof GeoNumberValue)
+					&& (ok[4] = arg[4] instanceof GeoNumberValue)) {
+
+				AlgoKimberlingRange algo = new AlgoKimberlingRange(cons,
+						c.getLabel(), (GeoPointND) arg[0], (GeoPointND) arg[1],
+						(GeoPointND) arg[2], (GeoNumberValue) arg[3],
+						(GeoNumberValue) arg[4]);
+
+				GeoElement[] ret = { algo.getResult() };
+				return ret;
+
 			}
 			throw argErr(c, getBadArg(ok, arg));
 		default:
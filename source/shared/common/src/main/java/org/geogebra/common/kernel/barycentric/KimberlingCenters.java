@@ -0,0 +1,111 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+
+package org.geogebra.common.kernel.barycentric;
+
+import org.geogebra.common.util.DoubleUtil;
+
+/**
+ * Evaluates Kimberling centers of a single triangle. Powers and angles of the
+ * sides are computed once per triangle (for each of the three vertices) and
+ * shared by all centers evaluated afterwards. Each algorithm keeps its own
+ * instance, so the tables live as long as the algorithm.
+ */
+final class KimberlingCenters {
+
+	/** Largest index in ETC that has a known formula */
+	static final int MAX_INDEX = 3053;
+
+	private final AlgoKimberlingWeights weightsA = new AlgoKimberlingWeights();
+	private final AlgoKimberlingWeights weightsB = new AlgoKimberlingWeights();
+	private final AlgoKimberlingWeights weightsC = new AlgoKimberlingWeights();
+	private double sideA = Double.NaN;
+	private double sideB = Double.NaN;
+	private double sideC = Double.NaN;
+
+	/**
+	 * Sets the triangle; does nothing if the sides did not change since last
+	 * call.
+	 *
+	 * @param a
+	 *            side BC
+	 * @param b
+	 *            side CA
+	 * @param c
+	 *            side AB
+	 */
+	void setTriangle(double a, double b, double c) {
+		if (a == sideA && b == sideB && c == sideC) {
+			return;
+		}
+		sideA = a;
+		sideB = b;
+		sideC = c;
+		double m = Math.min(Math.min(a, b), c);
+		weightsA.setSides(a / m, b / m, c / m);
+		weightsB.setSides(b / m, c / m, a / m);
+		weightsC.setSides(c / m, a / m, b / m);
+	}
+
+	/**
+	 * Computes barycentric weights of a center of current triangle.
+	 *
+	 * @param k
+	 *            index in ETC
+	 * @param result
+	 *            array for weights of A, B and C (length at least 3)
+	 * @return sum of the weights; NaN or zero for undefined center
+	 */
+	double weights(int k, double[] result) {
+		result[0] = weightsA.weight(k);
+		result[1] = weightsB.weight(k);
+		result[2] = weightsC.weight(k);
+		return result[0] + result[1] + result[2];
+	}
+
+	/**
+	 * Computes normalized barycentric coordinates of a range of centers of
+	 * current triangle in one pass.
+	 *
+	 * @param from
+	 *            first index in ETC
+	 * @param to
+	 *            last index in ETC (inclusive)
+	 * @param result
+	 *            array of length at least 3 * (to - from + 1); coordinates of
+	 *            k-th center are stored from position 3 * (k - from), NaN for
+	 *            undefined centers
+	 */
+	void computeAll(int from, int to, double[] result) {
+		for (int k = from; k <= to; k++) {
+			int offset = 3 * (k - from);
+			double wA = weightsA.weight(k);
+			double wB = weightsB.weight(k);
+			double wC = weightsC.weight(k);
+			double w = wA + wB + wC;
+			if (Double.isNaN(w) || DoubleUtil.isZero(w)) {
+				result[offset] = Double.NaN;
+				result[offset + 1] = Double.NaN;
+				result[offset + 2] = Double.NaN;
+			} else {
+				result[offset] = wA / w;
+				result[offset + 1] = wB / w;
+				result[offset + 2] = wC / w;
+			}
+		}
+	}
+}
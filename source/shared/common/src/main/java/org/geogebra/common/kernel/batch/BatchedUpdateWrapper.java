@@ -16,19 +16,14 @@
 
 package org.geogebra.common.kernel.batch;
 
-import java.util.Iterator;
-
 import org.geogebra.common.factories.UtilFactory;
 import org.geogebra.common.kernel.CheckBeforeUpdateView;
 import org.geogebra.common.kernel.ModeSetter;
-import org.geogebra.common.kernel.View;
 import org.geogebra.common.kernel.geos.GProperty;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.util.GTimer;
 import org.geogebra.common.util.GTimerListener;
-import org.geogebra.common.util.Reflection;
-import org.geogebra.common.util.debug.Log;
 
 /**
  * This class can wrap a view, and post the notifications
@@ -40,8 +35,7 @@ public class BatchedUpdateWrapper
 	private static final int DELAY = 80;
 
 	private final CheckBeforeUpdateView wrappedView;
-	private final Reflection reflection;
-	private final EventOptimizedList pendingEvents;
+	private final NotificationBatch pendingEvents;
 	private final GTimer timer;
 
 	/**
@@ -54,30 +48,12 @@ public class BatchedUpdateWrapper
 			UtilFactory factory) {
 		this.wrappedView = wrappedView;
 		wrappedView.setIsWrapped(true);
-		this.reflection = factory.newReflection(View.class);
 
-		pendingEvents = new EventOptimizedList();
+		pendingEvents = new NotificationBatch();
 		timer = factory.newTimer(this, DELAY);
 	}
 
-	private void addEvent(String name) {
-		addEvent(name, new Object[] {});
-	}
-
-	private void addEvent(String name, GeoElement parameter) {
-		if (show(parameter)) {
-			Event event = new Event(name, new Object[] { parameter });
-			addEvent(event);
-		}
-	}
-
-	private void addEvent(String name, Object[] parameters) {
-		Event event = new Event(name, parameters);
-		addEvent(event);
-	}
-
-	private void addEvent(Event event) {
-		pendingEvents.add(event);
+	private void startTimer() {
 		if (!timer.isRunning()) {
 			timer.start();
 		}
@@ -85,44 +61,64 @@ public class BatchedUpdateWrapper
 
 	@Override
 	public void add(GeoElement geo) {
-		addEvent("add", geo);
+		if (show(geo)) {
+			pendingEvents.add(geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void remove(GeoElement geo) {
-		addEvent("remove", geo);
+		if (show(geo)) {
+			pendingEvents.remove(geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void rename(GeoElement geo) {
-		addEvent("rename", geo);
+		if (show(geo)) {
+			pendingEvents.rename(geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void update(GeoElement geo) {
-		addEvent("update", geo);
+		if (show(geo)) {
+			pendingEvents.update(geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void updateVisualStyle(GeoElement geo, GProperty prop) {
 		if (needsUpdateVisualstyle(prop) && show(geo)) {
-			addEvent("updateVisualStyle", new Object[] { geo, prop });
+			pendingEvents.updateVisualStyle(geo, prop);
+			startTimer();
 		}
 	}
 
 	@Override
 	public void updateHighlight(GeoElementND geo) {
-		addEvent("updateHighlight", (GeoElement) geo);
+		if (show((GeoElement) geo)) {
+			pendingEvents.updateHighlight((GeoElement) geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void updateAuxiliaryObject(GeoElement geo) {
-		addEvent("updateAuxiliaryObject", geo);
+		if (show(geo)) {
+			pendingEvents.updateAuxiliaryObject(geo);
+			startTimer();
+		}
 	}
 
 	@Override
 	public void repaintView() {
-		addEvent("repaintView");
+		pendingEvents.repaintView();
+		startTimer();
 	}
 
 	@Override
@@ -168,28 +164,14 @@ public class BatchedUpdateWrapper
 
 	@Override
 	public void updatePreviewFromInputBar(GeoElement[] geos) {
-		addEvent("updatePreviewFromInputBar", new Object[] { geos });
+		wrappedView.updatePreviewFromInputBar(geos);
 	}
 
 	@Override
 	public void onRun() {
-		EventOptimizedList copiedEvents = pendingEvents.copy();
-		pendingEvents.clear();
-
+		NotificationBatch batch = pendingEvents.take();
 		wrappedView.startBatchUpdate();
-
-		Iterator<Event> iterator = copiedEvents.iterator();
-		while (iterator.hasNext()) {
-			Event event = iterator.next();
-			String name = event.getName();
-			Object[] parameters = event.getParameters();
-			try {
-				reflection.call(wrappedView, name, parameters);
-			} catch (Exception e) {
-				Log.debug(e);
-			}
-			iterator.remove();
-		}
+		batch.dispatchTo(wrappedView);
 		wrappedView.endBatchUpdate();
 	}
 
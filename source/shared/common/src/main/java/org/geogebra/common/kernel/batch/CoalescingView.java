@@ -14,20 +14,25 @@
  * See https://www.geogebra.org/license for full licensing details
  */
 
-package org.geogebra.common.util;
+package org.geogebra.common.kernel.batch;
+
+import org.geogebra.common.kernel.View;
 
 /**
- * Reflection class.
+ * View that does not need add, remove, update and style notifications while
+ * a batch update (update cascade, animation step) is running. The kernel
+ * collects them and sends one {@link NotificationBatch} at the end of the
+ * outermost batch.
  */
-public interface Reflection {
+public interface CoalescingView extends View {
 
 	/**
-	 * Calls the method with simple name methodName on object with parameters.
-	 * @param object the object
-	 * @param methodName the simple method name (e.g. call or update)
-	 * @param parameters the parameters
-	 * @throws Exception if the method does not exist, if it is private or protected or
-	 *                   if the underlying method throws an exception
+	 * Handles notifications collected during a batch update.
+	 *
+	 * @param batch
+	 *            collected notifications
 	 */
-	void call(Object object, String methodName, Object[] parameters) throws Exception;
+	default void notifyBatch(NotificationBatch batch) {
+		batch.dispatchTo(this);
+	}
 }
@@ -0,0 +1,274 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.geogebra.common.kernel.View;
+import org.geogebra.common.kernel.geos.GProperty;
+import org.geogebra.common.kernel.geos.GeoElement;
+
+/**
+ * View notifications collected per element. Repeated notifications of the
+ * same kind are merged and removing an element drops everything collected for
+ * it before, so each view gets at most one notification of each kind per
+ * element when the batch is dispatched.
+ */
+public final class NotificationBatch {
+
+	private static final int REMOVE = 1;
+	private static final int ADD = 2;
+	private static final int RENAME = 4;
+	private static final int UPDATE = 8;
+	private static final int AUXILIARY = 16;
+	private static final int HIGHLIGHT = 32;
+
+	private LinkedHashMap<GeoElement, Entry> entries = new LinkedHashMap<>();
+	private boolean repaint;
+
+	private static final class Entry {
+		private int flags;
+		private List<GProperty> properties;
+
+		private boolean has(int flag) {
+			return (flags & flag) != 0;
+		}
+	}
+
+	private Entry entry(GeoElement geo) {
+		Entry entry = entries.get(geo);
+		if (entry == null) {
+			entry = new Entry();
+			entries.put(geo, entry);
+		}
+		return entry;
+	}
+
+	private void set(GeoElement geo, int flag) {
+		Entry entry = entry(geo);
+		// nothing but add makes sense after remove
+		if (!entry.has(REMOVE) || entry.has(ADD)) {
+			entry.flags |= flag;
+		}
+	}
+
+	/**
+	 * @param geo
+	 *            added element
+	 */
+	public void add(GeoElement geo) {
+		entry(geo).flags |= ADD;
+	}
+
+	/**
+	 * Drops all notifications collected for the element so far. Elements
+	 * added in this batch are dropped completely, views never heard of them.
+	 *
+	 * @param geo
+	 *            removed element
+	 */
+	public void remove(GeoElement geo) {
+		Entry entry = entry(geo);
+		if (entry.has(ADD) && !entry.has(REMOVE)) {
+			entries.remove(geo);
+			return;
+		}
+		entry.flags = REMOVE;
+		entry.properties = null;
+	}
+
+	/**
+	 * @param geo
+	 *            renamed element
+	 */
+	public void rename(GeoElement geo) {
+		set(geo, RENAME);
+	}
+
+	/**
+	 * @param geo
+	 *            updated element
+	 */
+	public void update(GeoElement geo) {
+		set(geo, UPDATE);
+	}
+
+	/**
+	 * @param geo
+	 *            element
+	 * @param prop
+	 *            changed property
+	 */
+	public void updateVisualStyle(GeoElement geo, GProperty prop) {
+		Entry entry = entry(geo);
+		if (entry.has(REMOVE) && !entry.has(ADD)) {
+			return;
+		}
+		if (entry.properties == null) {
+			entry.properties = new ArrayList<>(2);
+		}
+		if (!entry.properties.contains(prop)) {
+			entry.properties.add(prop);
+		}
+	}
+
+	/**
+	 * @param geo
+	 *            element with changed auxiliary flag
+	 */
+	public void updateAuxiliaryObject(GeoElement geo) {
+		set(geo, AUXILIARY);
+	}
+
+	/**
+	 * @param geo
+	 *            (un)highlighted element
+	 */
+	public void updateHighlight(GeoElement geo) {
+		set(geo, HIGHLIGHT);
+	}
+
+	/**
+	 * Request repaint after the element notifications.
+	 */
+	public void repaintView() {
+		repaint = true;
+	}
+
+	/**
+	 * @return whether no notification was collected
+	 */
+	public boolean isEmpty() {
+		return entries.isEmpty() && !repaint;
+	}
+
+	/**
+	 * Drops all collected notifications.
+	 */
+	public void clear() {
+		entries.clear();
+		repaint = false;
+	}
+
+	/**
+	 * @return elements with collected notifications, in order of their first
+	 *         notification
+	 */
+	public List<GeoElement> getElements() {
+		return new ArrayList<>(entries.keySet());
+	}
+
+	/**
+	 * @param geo
+	 *            element
+	 * @return whether the element was removed (and not added again)
+	 */
+	public boolean isRemoved(GeoElement geo) {
+		Entry entry = entries.get(geo);
+		return entry != null && entry.has(REMOVE) && !entry.has(ADD);
+	}
+
+	/**
+	 * @param geo
+	 *            element
+	 * @return whether the element was added
+	 */
+	public boolean isAdded(GeoElement geo) {
+		Entry entry = entries.get(geo);
+		return entry != null && entry.has(ADD);
+	}
+
+	/**
+	 * @param geo
+	 *            element
+	 * @return whether the element was updated
+	 */
+	public boolean isUpdated(GeoElement geo) {
+		Entry entry = entries.get(geo);
+		return entry != null && entry.has(UPDATE);
+	}
+
+	/**
+	 * @param geo
+	 *            element
+	 * @return changed visual properties of the element
+	 */
+	public List<GProperty> getVisualStyleChanges(GeoElement geo) {
+		Entry entry = entries.get(geo);
+		return entry == null || entry.properties == null
+				? Collections.emptyList()
+				: Collections.unmodifiableList(entry.properties);
+	}
+
+	/**
+	 * Moves the collected notifications to a new batch, so that notifications
+	 * triggered while dispatching are collected separately.
+	 *
+	 * @return batch with all collected notifications
+	 */
+	public NotificationBatch take() {
+		NotificationBatch taken = new NotificationBatch();
+		taken.entries = entries;
+		taken.repaint = repaint;
+		entries = new LinkedHashMap<>();
+		repaint = false;
+		return taken;
+	}
+
+	/**
+	 * Calls the view methods for the collected notifications.
+	 *
+	 * @param view
+	 *            view
+	 */
+	public void dispatchTo(View view) {
+		for (Map.Entry<GeoElement, Entry> mapEntry : entries.entrySet()) {
+			GeoElement geo = mapEntry.getKey();
+			Entry entry = mapEntry.getValue();
+			if (entry.has(REMOVE)) {
+				view.remove(geo);
+			}
+			if (entry.has(ADD)) {
+				view.add(geo);
+			}
+			if (entry.has(RENAME)) {
+				view.rename(geo);
+			}
+			if (entry.has(UPDATE)) {
+				view.update(geo);
+			}
+			if (entry.properties != null) {
+				for (GProperty prop : entry.properties) {
+					view.updateVisualStyle(geo, prop);
+				}
+			}
+			if (entry.has(AUXILIARY)) {
+				view.updateAuxiliaryObject(geo);
+			}
+			if (entry.has(HIGHLIGHT)) {
+				view.updateHighlight(geo);
+			}
+		}
+		if (repaint) {
+			view.repaintView();
+		}
+	}
+}
@@ -129,6 +129,8 @@ import org.geogebra.common.kernel.kernelND.GeoPointND;
 import org.geogebra.common.kernel.kernelND.GeoQuadric3DInterface;
 import org.geogebra.common.kernel.kernelND.GeoVectorND;
 import org.geogebra.common.kernel.parser.ParseException;
+import org.geogebra.common.kernel.parser.ParsedExpressionCache;
+import org.geogebra.common.kernel.parser.ParsedExpressionCache.Mode;
 import org.geogebra.common.kernel.parser.ParserInterface;
 import org.geogebra.common.main.App;
 import org.geogebra.common.main.Localization;
@@ -180,6 +182,7 @@ public class AlgebraProcessor {
 	protected final App app;
 	private final Localization loc;
 	private final ParserInterface parser;
+	private final ParsedExpressionCache parseCache;
 	/** command dispatcher */
 	protected final CommandDispatcher cmdDispatcher;
 
@@ -226,6 +229,8 @@ public class AlgebraProcessor {
 		app = kernel.getApplication();
 		loc = app.getLocalization();
 		parser = kernel.getParser();
+		parseCache = new ParsedExpressionCache(kernel, parser,
+				ParsedExpressionCache.DEFAULT_CAPACITY);
 		setEnableStructures(app.getConfig().isEnableStructures());
 		sqrtMinusOneReplacer = new SqrtMinusOneReplacer(kernel);
 	}
@@ -267,6 +272,29 @@ public class AlgebraProcessor {
 		return cmdDispatcher.isCommandAvailable(cmd);
 	}
 
+	/**
+	 * Checks a parsed command against the input expression filters and the
+	 * command filters. Command argument filters need processed arguments, so
+	 * no command is allowed while one of them is active.
+	 *
+	 * @param command
+	 *            parsed command
+	 * @return whether the command may be executed without processing it
+	 */
+	public boolean isAllowedWithoutProcessing(Command command) {
+		if (cmdDispatcher.hasCommandArgumentFilters()
+				|| !isExpressionAllowed(command, inputExpressionFilters)) {
+			return false;
+		}
+		try {
+			return cmdDispatcher.isAllowedByCommandFilters(
+					Commands.valueOf(command.getName()));
+		} catch (IllegalArgumentException e) {
+			// macro
+			return false;
+		}
+	}
+
 	/**
 	 * Add an input expression filter (used for dynamically filtering valid input expressions).
 	 * @param filter An input expression filter.
@@ -509,13 +537,13 @@ public class AlgebraProcessor {
 			ValidExpression ve;
 
 			if (info.isMultipleUnassignedAllowed()) {
-				ve = parser.parseInputBoxExpression(newValue);
+				ve = parseCache.parse(newValue, Mode.INPUT_BOX);
 				if (ve.getLabel() != null && !ve.getLabel().equals(geo.getLabelSimple())) {
 					handler.showError(getIllegalAssignmentError());
 					return;
 				}
 			} else {
-				ve = parser.parseGeoGebraExpression(newValue);
+				ve = parseCache.parse(newValue, Mode.GEOGEBRA);
 			}
 
 			if (ve.isOperation(Operation.MULTIPLY)
@@ -922,7 +950,7 @@ public class AlgebraProcessor {
 				}
 				return new GeoElement[0];
 			}
-			ValidExpression ve = parser.parseGeoGebraExpression(cmd);
+			ValidExpression ve = parseCache.parse(cmd, Mode.GEOGEBRA);
 			return processAlgebraCommandNoExceptionHandling(ve, storeUndo,
 					handler, callback0, info);
 
@@ -3919,6 +3947,13 @@ public class AlgebraProcessor {
 		return cmdDispatcher;
 	}
 
+	/**
+	 * @return cache of parsed input
+	 */
+	public ParsedExpressionCache getParsedExpressionCache() {
+		return parseCache;
+	}
+
 	private void maybeLogCommandValidatedEvent(Command command, EvalInfo info, boolean validated) {
 		if (kernel.isSilentMode() || info == null || !info.useAnalytics()) {
 			return;
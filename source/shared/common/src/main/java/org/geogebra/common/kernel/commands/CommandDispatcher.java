@@ -221,6 +221,13 @@ public abstract class CommandDispatcher {
 		return true;
 	}
 
+	/**
+	 * @return whether any command argument filter is active
+	 */
+	public boolean hasCommandArgumentFilters() {
+		return !commandArgumentFilters.isEmpty();
+	}
+
 	/**
 	 * Checks if command is allowed by the set of command argument filters. Throws an error
 	 * if the command with its arguments is not allowed.
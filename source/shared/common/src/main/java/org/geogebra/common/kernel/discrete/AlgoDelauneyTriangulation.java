@@ -17,6 +17,7 @@
 package org.geogebra.common.kernel.discrete;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.TreeSet;
@@ -40,6 +41,7 @@ import org.geogebra.common.util.debug.Log;
  */
 public class AlgoDelauneyTriangulation extends AlgoDiscrete {
 	private static Comparator<MyLine> lineComparator;
+	private final IncrementalDelaunay triangulation = new IncrementalDelaunay();
 
 	/**
 	 * @param cons
@@ -59,6 +61,16 @@ public class AlgoDelauneyTriangulation extends AlgoDiscrete {
 		return Commands.DelauneyTriangulation;
 	}
 
+	// the triangulation has always stopped at the first undefined point
+	private static PointDt[] definedPrefix(PointDt[] points) {
+		for (int i = 0; i < points.length; i++) {
+			if (points[i] == null) {
+				return Arrays.copyOf(points, i);
+			}
+		}
+		return points;
+	}
+
 	@Override
 	public final void compute() {
 		try {
@@ -83,7 +95,8 @@ public class AlgoDelauneyTriangulation extends AlgoDiscrete {
 				}
 			}
 
-			DelaunayTriangulation dt = new DelaunayTriangulation(points);
+			DelaunayTriangulation dt = triangulation.update(
+					definedPrefix(points));
 
 			if (dt.allCollinear) {
 				locus.setUndefined();
@@ -138,6 +151,8 @@ public class AlgoDelauneyTriangulation extends AlgoDiscrete {
 			locus.setDefined(true);
 		} catch (Exception e) {
 			Log.error(e.getMessage());
+			// a failed update may leave the triangulation half patched
+			triangulation.reset();
 			locus.setUndefined();
 		}
 	}
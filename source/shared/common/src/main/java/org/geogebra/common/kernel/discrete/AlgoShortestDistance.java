@@ -16,16 +16,14 @@
 
 package org.geogebra.common.kernel.discrete;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
-import java.util.function.Function;
 
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.GraphAlgo;
 import org.geogebra.common.kernel.MyPoint;
 import org.geogebra.common.kernel.algos.AlgoElement;
 import org.geogebra.common.kernel.commands.Commands;
-import org.geogebra.common.kernel.discrete.AlgoMinimumSpanningTree.TreeLink;
 import org.geogebra.common.kernel.geos.GeoBoolean;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.geos.GeoList;
@@ -33,10 +31,6 @@ import org.geogebra.common.kernel.geos.GeoLocusND;
 import org.geogebra.common.kernel.kernelND.GeoPointND;
 import org.geogebra.common.kernel.kernelND.GeoSegmentND;
 
-import edu.uci.ics.jung.algorithms.shortestpath.DijkstraShortestPath;
-import edu.uci.ics.jung.graph.SparseMultigraph;
-import edu.uci.ics.jung.graph.util.EdgeType;
-
 /**
  * Shortest path in graph
  */
@@ -46,10 +40,9 @@ public class AlgoShortestDistance extends AlgoElement implements GraphAlgo {
 	private GeoList inputList;
 	private GeoLocusND<? extends MyPoint> locus;
 	private GeoBoolean weighted;
-	private int edgeCount = 0;
-	// weighted Shortest Path
-	// use length of segments to weight
-	private Function<TreeLink, Double> wtTransformer = link -> link.weight;
+	private CompactGraph graph;
+	/** points of graph nodes */
+	private GeoPointND[] nodePoints;
 
 	/**
 	 * @param cons
@@ -110,115 +103,120 @@ public class AlgoShortestDistance extends AlgoElement implements GraphAlgo {
 			return;
 		}
 
-		edgeCount = 0;
-
-		HashMap<GeoPointND, TreeNode> nodes = new HashMap<>();
-
-		SparseMultigraph<TreeNode, TreeLink> g = new SparseMultigraph<>();
+		// the graph only needs to be rebuilt when the segments change,
+		// moving points just changes the weights
+		if (!updateWeights()) {
+			buildGraph();
+		}
 
-		TreeNode node1, node2;
 		NodeMatcher startNode = new NodeMatcher(start);
 		NodeMatcher endNode = new NodeMatcher(end);
-
-		for (int i = 0; i < size; i++) {
-			GeoElement geo = inputList.get(i);
-			if (geo.isDefined() && geo.isGeoSegment()) {
-				GeoSegmentND seg = (GeoSegmentND) geo;
-				GeoPointND p1 = seg.getStartPoint();
-				GeoPointND p2 = seg.getEndPoint();
-				node1 = nodes.get(p1);
-				node2 = nodes.get(p2);
-				if (node1 == null) {
-					node1 = new TreeNode(p1);
-					nodes.put(p1, node1);
-				}
-				if (node2 == null) {
-					node2 = new TreeNode(p2);
-					nodes.put(p2, node2);
-				}
-
-				// take note of start and end points
-				startNode.check(p1, node1);
-				startNode.check(p2, node2);
-				endNode.check(p1, node1);
-				endNode.check(p2, node2);
-
-				// add edge to graph
-				g.addEdge(
-						new TreeLink(seg.getLength(), node1, node2, edgeCount++),
-						node1,
-						node2, EdgeType.UNDIRECTED);
-
-			}
+		for (int i = 0; i < nodePoints.length; i++) {
+			startNode.check(nodePoints[i], i);
+			endNode.check(nodePoints[i], i);
 		}
 
 		locus.clearPoints();
-		if (startNode.node == null || endNode.node == null) {
+		if (startNode.node < 0 || endNode.node < 0) {
 			locus.setDefined(false);
 			return;
 		}
-		double[] inhomLast = new double[3];
+		double[] inhom = new double[3];
 		if (startNode.node == endNode.node) {
-			start.getInhomCoords(inhomLast);
-			locus.insertPoint(inhomLast[0], inhomLast[1], inhomLast[2], false);
+			start.getInhomCoords(inhom);
+			locus.insertPoint(inhom[0], inhom[1], inhom[2], false);
 			locus.setDefined(true);
 			return;
 		}
 
-		DijkstraShortestPath<TreeNode, TreeLink> alg;
+		int[] path = graph.shortestPath(startNode.node, endNode.node,
+				weighted.getBoolean());
 
-		if (weighted.getBoolean()) {
-			alg = new DijkstraShortestPath<>(g, wtTransformer);
-		} else {
-			// Unweighted Shortest Path
-			alg = new DijkstraShortestPath<>(g);
+		if (path != null) {
+			for (int i = 0; i < path.length; i++) {
+				nodePoints[path[i]].getInhomCoords(inhom);
+				locus.insertPoint(inhom[0], inhom[1], inhom[2], i > 0);
+			}
 		}
 
-		List<TreeLink> list = alg.getPath(startNode.node, endNode.node);
-
-		TreeNode n1, n2;
-		if (!list.isEmpty()) {
-			TreeLink link = list.get(0);
-			n1 = link.n1;
-			n2 = link.n2;
+		locus.setDefined(true);
+	}
 
-			// nodes may not be in the right order, might need n1 or n2
-			if (n1 == startNode.node || n1 == endNode.node) {
-				n1.id.getInhomCoords(inhomLast);
-			} else if (n2 == startNode.node || n2 == endNode.node) {
-				n2.id.getInhomCoords(inhomLast);
+	/**
+	 * Updates edge weights if the input still consists of the same segments.
+	 * 
+	 * @return whether the graph is still valid
+	 */
+	private boolean updateWeights() {
+		if (graph == null) {
+			return false;
+		}
+		int edge = 0;
+		int edgeCount = graph.getEdgeCount();
+		for (int i = 0; i < inputList.size(); i++) {
+			GeoElement geo = inputList.get(i);
+			if (geo.isDefined() && geo.isGeoSegment()) {
+				GeoSegmentND seg = (GeoSegmentND) geo;
+				if (edge >= edgeCount
+						|| nodePoints[graph.getEdgeStart(edge)] != seg.getStartPoint()
+						|| nodePoints[graph.getEdgeEnd(edge)] != seg.getEndPoint()) {
+					return false;
+				}
+				graph.setWeight(edge, seg.getLength());
+				edge++;
 			}
-			locus.insertPoint(inhomLast[0], inhomLast[1], inhomLast[2],
-					false);
 		}
-		double[] inhom1 = new double[3];
-		double[] inhom2 = new double[3];
-		for (TreeLink link : list) {
-			link.n1.id.getInhomCoords(inhom1);
-			link.n2.id.getInhomCoords(inhom2);
-			// nodes may not be in the right order, might need n1 or n2
-			if (inhom1[1] == inhomLast[1] && inhom1[0] == inhomLast[0]) {
-				System.arraycopy(inhom2, 0, inhomLast, 0, 3);
-			} else {
-				System.arraycopy(inhom1, 0, inhomLast, 0, 3);
+		return edge == edgeCount;
+	}
+
+	private void buildGraph() {
+		int size = inputList.size();
+		HashMap<GeoPointND, Integer> nodes = new HashMap<>();
+		ArrayList<GeoPointND> points = new ArrayList<>();
+		int[] edgeStart = new int[size];
+		int[] edgeEnd = new int[size];
+		double[] lengths = new double[size];
+		int edgeCount = 0;
+
+		for (int i = 0; i < size; i++) {
+			GeoElement geo = inputList.get(i);
+			if (geo.isDefined() && geo.isGeoSegment()) {
+				GeoSegmentND seg = (GeoSegmentND) geo;
+				edgeStart[edgeCount] = getNodeId(seg.getStartPoint(), nodes, points);
+				edgeEnd[edgeCount] = getNodeId(seg.getEndPoint(), nodes, points);
+				lengths[edgeCount] = seg.getLength();
+				edgeCount++;
 			}
+		}
 
-			locus.insertPoint(inhomLast[0], inhomLast[1], inhomLast[2], true);
+		nodePoints = points.toArray(new GeoPointND[0]);
+		graph = new CompactGraph(nodePoints.length, edgeStart, edgeEnd, edgeCount);
+		for (int e = 0; e < edgeCount; e++) {
+			graph.setWeight(e, lengths[e]);
 		}
+	}
 
-		locus.setDefined(true);
+	private static int getNodeId(GeoPointND point, HashMap<GeoPointND, Integer> nodes,
+			ArrayList<GeoPointND> points) {
+		Integer id = nodes.get(point);
+		if (id == null) {
+			id = points.size();
+			nodes.put(point, id);
+			points.add(point);
+		}
+		return id;
 	}
 
 	private static class NodeMatcher {
 		private final GeoPointND target;
-		public TreeNode node;
+		public int node = -1;
 		private boolean exactMatch;
 
 		public NodeMatcher(GeoPointND target) {
 			this.target = target;
 		}
 
-		public void check(GeoPointND p1, TreeNode node2) {
+		public void check(GeoPointND p1, int node2) {
 			if (p1 == target) {
 				exactMatch = true;
 				node = node2;
@@ -32,6 +32,10 @@ import org.geogebra.common.kernel.kernelND.GeoPointND;
  *
  */
 public class AlgoTravelingSalesman extends AlgoDiscrete {
+
+	// keeps the last tour to start from when points are dragged
+	private final TSPSolver tsp = new TSPSolver();
+
 	/**
 	 * @param cons
 	 *            construction
@@ -76,8 +80,6 @@ public class AlgoTravelingSalesman extends AlgoDiscrete {
 			}
 		}
 
-		final TSPSolver tsp = new TSPSolver();
-
 		tsp.solve(nodes);
 
 		if (al == null) {
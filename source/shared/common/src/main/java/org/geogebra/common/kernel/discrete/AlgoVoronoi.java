@@ -18,6 +18,7 @@ package org.geogebra.common.kernel.discrete;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.TreeSet;
 
@@ -39,6 +40,7 @@ import org.geogebra.common.util.DoubleUtil;
  */
 public class AlgoVoronoi extends AlgoDiscrete {
 	private static Comparator<GPoint2D> pointComparator;
+	private final IncrementalDelaunay triangulation = new IncrementalDelaunay();
 
 	/**
 	 * @param cons
@@ -68,8 +70,8 @@ public class AlgoVoronoi extends AlgoDiscrete {
 
 		double[] inhom = new double[2];
 
-		ArrayList<Double> xcoords = new ArrayList<>();
-		ArrayList<Double> ycoords = new ArrayList<>();
+		HashSet<Double> xcoords = new HashSet<>();
+		HashSet<Double> ycoords = new HashSet<>();
 
 		final double delta = 0.0000001;
 
@@ -114,7 +116,7 @@ public class AlgoVoronoi extends AlgoDiscrete {
 
 		}
 
-		DelaunayTriangulation dt = new DelaunayTriangulation(points);
+		DelaunayTriangulation dt = triangulation.update(points);
 
 		if (dt.allCollinear) {
 			locus.setUndefined();
@@ -0,0 +1,296 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete;
+
+import java.util.Arrays;
+
+/**
+ * Undirected graph in compressed sparse row (CSR) form: nodes and edges are
+ * identified by int indices, adjacency and weights are kept in primitive arrays.
+ * Edge weights can be changed without rebuilding the adjacency.
+ */
+public class CompactGraph {
+
+	private final int nodeCount;
+	private final int[] edgeStart;
+	private final int[] edgeEnd;
+	private final double[] weights;
+	/** adjacency of node i is stored at positions offsets[i] to offsets[i+1]-1 */
+	private final int[] offsets;
+	private final int[] neighbors;
+	private final int[] neighborEdges;
+
+	/**
+	 * @param nodeCount
+	 *            number of nodes
+	 * @param edgeStart
+	 *            first node of each edge
+	 * @param edgeEnd
+	 *            second node of each edge
+	 * @param edgeCount
+	 *            number of edges (arrays may be longer)
+	 */
+	public CompactGraph(int nodeCount, int[] edgeStart, int[] edgeEnd,
+			int edgeCount) {
+		this.nodeCount = nodeCount;
+		this.edgeStart = Arrays.copyOf(edgeStart, edgeCount);
+		this.edgeEnd = Arrays.copyOf(edgeEnd, edgeCount);
+		this.weights = new double[edgeCount];
+		Arrays.fill(weights, 1);
+		offsets = new int[nodeCount + 1];
+		for (int e = 0; e < edgeCount; e++) {
+			offsets[edgeStart[e] + 1]++;
+			offsets[edgeEnd[e] + 1]++;
+		}
+		for (int i = 0; i < nodeCount; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		neighbors = new int[2 * edgeCount];
+		neighborEdges = new int[2 * edgeCount];
+		int[] fill = Arrays.copyOf(offsets, nodeCount);
+		for (int e = 0; e < edgeCount; e++) {
+			int a = edgeStart[e];
+			int b = edgeEnd[e];
+			neighbors[fill[a]] = b;
+			neighborEdges[fill[a]++] = e;
+			neighbors[fill[b]] = a;
+			neighborEdges[fill[b]++] = e;
+		}
+	}
+
+	/**
+	 * @return number of edges
+	 */
+	public int getEdgeCount() {
+		return weights.length;
+	}
+
+	/**
+	 * @param edge
+	 *            edge index
+	 * @param weight
+	 *            new weight (non-negative)
+	 */
+	public void setWeight(int edge, double weight) {
+		weights[edge] = weight;
+	}
+
+	/**
+	 * @param edge
+	 *            edge index
+	 * @return first node of the edge
+	 */
+	public int getEdgeStart(int edge) {
+		return edgeStart[edge];
+	}
+
+	/**
+	 * @param edge
+	 *            edge index
+	 * @return second node of the edge
+	 */
+	public int getEdgeEnd(int edge) {
+		return edgeEnd[edge];
+	}
+
+	/**
+	 * Dijkstra's algorithm with a binary heap, stops as soon as the target is
+	 * reached.
+	 *
+	 * @param source
+	 *            start node
+	 * @param target
+	 *            end node
+	 * @param weighted
+	 *            whether to use edge weights (otherwise every edge counts 1)
+	 * @return nodes of a shortest path from source to target (both
+	 *         included), null if target is not reachable
+	 */
+	public int[] shortestPath(int source, int target, boolean weighted) {
+		double[] dist = new double[nodeCount];
+		Arrays.fill(dist, Double.POSITIVE_INFINITY);
+		int[] previous = new int[nodeCount];
+		Arrays.fill(previous, -1);
+		NodeHeap heap = new NodeHeap(nodeCount, dist);
+		dist[source] = 0;
+		heap.update(source);
+		while (!heap.isEmpty()) {
+			int node = heap.poll();
+			if (node == target) {
+				return pathTo(target, previous);
+			}
+			for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+				int next = neighbors[i];
+				double candidate = dist[node]
+						+ (weighted ? weights[neighborEdges[i]] : 1);
+				if (candidate < dist[next]) {
+					dist[next] = candidate;
+					previous[next] = node;
+					heap.update(next);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static int[] pathTo(int target, int[] previous) {
+		int length = 1;
+		for (int node = target; previous[node] >= 0; node = previous[node]) {
+			length++;
+		}
+		int[] path = new int[length];
+		int node = target;
+		for (int i = length - 1; i >= 0; i--) {
+			path[i] = node;
+			node = previous[node];
+		}
+		return path;
+	}
+
+	/**
+	 * Minimum spanning tree of the complete graph on given points with
+	 * Euclidean distances as weights. Uses the O(n^2) array variant of Prim's
+	 * algorithm, which needs neither the n^2 edges nor a heap.
+	 *
+	 * @param coords
+	 *            coordinates, dim values per point
+	 * @param dim
+	 *            dimension
+	 * @return parent of each point in the tree, -1 for the root
+	 */
+	public static int[] completeGraphSpanningTree(double[] coords, int dim) {
+		int n = coords.length / dim;
+		int[] parent = new int[n];
+		Arrays.fill(parent, -1);
+		if (n == 0) {
+			return parent;
+		}
+		double[] best = new double[n];
+		Arrays.fill(best, Double.POSITIVE_INFINITY);
+		boolean[] done = new boolean[n];
+		int current = 0;
+		for (int added = 1; added < n; added++) {
+			done[current] = true;
+			int next = -1;
+			for (int j = 0; j < n; j++) {
+				if (done[j]) {
+					continue;
+				}
+				double d = 0;
+				for (int k = 0; k < dim; k++) {
+					double diff = coords[current * dim + k] - coords[j * dim + k];
+					d += diff * diff;
+				}
+				if (d < best[j]) {
+					best[j] = d;
+					parent[j] = current;
+				}
+				if (next < 0 || best[j] < best[next]) {
+					next = j;
+				}
+			}
+			current = next;
+		}
+		return parent;
+	}
+
+	/**
+	 * Binary min-heap of node indices ordered by an external key array,
+	 * supporting decrease-key.
+	 */
+	private static class NodeHeap {
+		private final int[] heap;
+		private final int[] position;
+		private final double[] key;
+		private int size;
+
+		NodeHeap(int capacity, double[] key) {
+			heap = new int[capacity];
+			position = new int[capacity];
+			Arrays.fill(position, -1);
+			this.key = key;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Inserts the node or moves it up after its key decreased.
+		 */
+		void update(int node) {
+			int i = position[node];
+			if (i < 0) {
+				i = size++;
+				heap[i] = node;
+				position[node] = i;
+			}
+			siftUp(i);
+		}
+
+		int poll() {
+			int top = heap[0];
+			position[top] = -1;
+			size--;
+			if (size > 0) {
+				heap[0] = heap[size];
+				position[heap[0]] = 0;
+				siftDown(0);
+			}
+			return top;
+		}
+
+		private void siftUp(int start) {
+			int i = start;
+			int node = heap[i];
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (key[heap[parent]] <= key[node]) {
+					break;
+				}
+				move(heap[parent], i);
+				i = parent;
+			}
+			move(node, i);
+		}
+
+		private void siftDown(int start) {
+			int i = start;
+			int node = heap[i];
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) {
+					child++;
+				}
+				if (key[node] <= key[heap[child]]) {
+					break;
+				}
+				move(heap[child], i);
+				i = child;
+			}
+			move(node, i);
+		}
+
+		private void move(int node, int index) {
+			heap[index] = node;
+			position[node] = index;
+		}
+	}
+}
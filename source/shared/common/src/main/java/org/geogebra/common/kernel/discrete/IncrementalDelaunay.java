@@ -0,0 +1,153 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.discrete.delaunay.DelaunayTriangulation;
+import org.geogebra.common.kernel.discrete.delaunay.PointDt;
+import org.geogebra.common.util.DoubleUtil;
+
+/**
+ * Keeps a Delaunay triangulation between updates of its point set. When only a
+ * few points changed (e.g. one point is dragged), the old positions are deleted
+ * and the new ones inserted locally; otherwise the triangulation is rebuilt.
+ * Point location for the local updates starts from the most recently changed
+ * triangle, so a dragged point is found after a short walk.
+ */
+public class IncrementalDelaunay {
+
+	/** below this size rebuilding is as fast as patching */
+	private static final int MIN_PATCHED_SIZE = 256;
+
+	private static final Comparator<PointDt> EXACT_ORDER = (p1, p2) -> {
+		int cmp = Double.compare(p1.x(), p2.x());
+		return cmp != 0 ? cmp : Double.compare(p1.y(), p2.y());
+	};
+
+	private DelaunayTriangulation triangulation;
+	/** points of the triangulation, in EXACT_ORDER */
+	private PointDt[] sortedPoints;
+	private boolean patched;
+
+	/**
+	 * @param points
+	 *            new point set (no null entries)
+	 * @return triangulation of the points
+	 */
+	public DelaunayTriangulation update(PointDt[] points) {
+		PointDt[] sorted = Arrays.copyOf(points, points.length);
+		Arrays.sort(sorted, EXACT_ORDER);
+		patched = triangulation != null && !triangulation.allCollinear
+				&& points.length >= MIN_PATCHED_SIZE && patch(sorted);
+		if (!patched) {
+			triangulation = new DelaunayTriangulation(points);
+		}
+		sortedPoints = sorted;
+		return triangulation;
+	}
+
+	/**
+	 * @return whether the last update patched the old triangulation instead
+	 *         of rebuilding it
+	 */
+	boolean wasPatched() {
+		return patched;
+	}
+
+	/**
+	 * Forgets the triangulation.
+	 */
+	public void reset() {
+		triangulation = null;
+		sortedPoints = null;
+		patched = false;
+	}
+
+	private boolean patch(PointDt[] sorted) {
+		ArrayList<PointDt> removed = new ArrayList<>();
+		ArrayList<PointDt> added = new ArrayList<>();
+		int maxChanges = sorted.length / 16;
+		int i = 0;
+		int j = 0;
+		while (i < sortedPoints.length || j < sorted.length) {
+			int cmp = i == sortedPoints.length ? 1
+					: j == sorted.length ? -1
+					: EXACT_ORDER.compare(sortedPoints[i], sorted[j]);
+			if (cmp < 0) {
+				removed.add(sortedPoints[i++]);
+			} else if (cmp > 0) {
+				added.add(sorted[j++]);
+			} else {
+				i++;
+				j++;
+			}
+			if (removed.size() + added.size() > maxChanges) {
+				return false;
+			}
+		}
+		// the triangulation ignores (almost) duplicate points, so
+		// deleting or inserting one of them needs a rebuild
+		for (PointDt p : removed) {
+			if (hasNearPoint(sorted, p)) {
+				return false;
+			}
+		}
+		for (PointDt p : added) {
+			if (hasNearPoint(sortedPoints, p)) {
+				return false;
+			}
+		}
+		int expectedSize = triangulation.size() - removed.size() + added.size();
+		for (PointDt p : removed) {
+			if (!triangulation.deletePoint(p)) {
+				return false;
+			}
+		}
+		for (PointDt p : added) {
+			triangulation.insertPoint(p);
+		}
+		// a triangulation of n points in general position has 2n - 2 faces
+		// including the infinite ones
+		return !triangulation.allCollinear && triangulation.size() == expectedSize
+				&& triangulation.trianglesSize() == 2 * expectedSize - 2;
+	}
+
+	private static boolean hasNearPoint(PointDt[] sorted, PointDt p) {
+		int low = 0;
+		int high = sorted.length;
+		double minX = p.x() - Kernel.STANDARD_PRECISION;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid].x() < minX) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		for (int k = low; k < sorted.length
+				&& sorted[k].x() <= p.x() + Kernel.STANDARD_PRECISION; k++) {
+			if (DoubleUtil.isEqual(sorted[k].y(), p.y())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -16,7 +16,6 @@
 
 package org.geogebra.common.kernel.discrete.delaunay;
 
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
@@ -82,11 +81,6 @@ public class DelaunayTriangulation {
 	private Set<PointDt> _vertices;
 	private Vector<TriangleDt> _triangles;
 
-	// The triangles that were deleted in the last deletePoint iteration.
-	private Vector<TriangleDt> deletedTriangles;
-	// The triangles that were added in the last deletePoint iteration.
-	private Vector<TriangleDt> addedTriangles;
-
 	private int _modCount = 0;
 	private int _modCount2 = 0;
 
@@ -115,8 +109,6 @@ public class DelaunayTriangulation {
 		_bb_max = null;
 		this._vertices = new TreeSet<>(PointDt.getComparator());
 		_triangles = new Vector<>();
-		deletedTriangles = null;
-		addedTriangles = new Vector<>();
 		allCollinear = true;
 		for (int i = 0; ps != null && i < ps.length && ps[i] != null; i++) {
 			this.insertPoint(ps[i]);
@@ -180,53 +172,232 @@ public class DelaunayTriangulation {
 	}
 
 	/**
-	 * Deletes the given point from this.
+	 * Deletes the given point from this triangulation. The triangles around
+	 * the point are replaced by a Delaunay triangulation of the polygon formed
+	 * by its neighbors, built by cutting off ears whose circumcircle contains
+	 * no other vertex of the polygon.
 	 * 
 	 * @param pointToDelete
 	 *            The given point to delete.
-	 * 
-	 *            Implementation of the Mostafavia, Gold &amp; Dakowicz
-	 *            algorithm (2002).
-	 * 
-	 *            By Eyal Roth &amp; Doron Ganel (2009).
+	 * @return whether the point was deleted (points on the convex hull can't
+	 *         be deleted)
 	 */
-	public void deletePoint(PointDt pointToDelete) {
-
-		// Finding the triangles to delete.
-		Vector<PointDt> pointsVec = findConnectedVertices(pointToDelete, true);
-		if (pointsVec == null) {
-			return;
+	public boolean deletePoint(PointDt pointToDelete) {
+		TriangleDt first = find(pointToDelete);
+		PointDt vertex = first == null || first.isHalfplane() ? null
+				: findCorner(first, pointToDelete);
+		if (vertex == null) {
+			return false;
+		}
+		Vector<TriangleDt> star = findTriangleNeighborhood(first, vertex);
+		if (star == null) {
+			Log.debug("can't delete a point on the perimeter");
+			return false;
+		}
+		int k = star.size();
+		// polygon around the vertex in counterclockwise order; edge i goes
+		// from polygon[i] to polygon[i + 1], star[i] is the triangle inside
+		// and outer[i] the one outside of it
+		PointDt[] polygon = new PointDt[k];
+		TriangleDt[] inner = new TriangleDt[k];
+		TriangleDt[] outer = new TriangleDt[k];
+		for (int i = 0; i < k; i++) {
+			TriangleDt t = star.elementAt(i);
+			if (t.p1() == vertex) {
+				polygon[i] = t.p2();
+				outer[i] = t.bcnext;
+			} else if (t.p2() == vertex) {
+				polygon[i] = t.p3();
+				outer[i] = t.canext;
+			} else if (t.p3() == vertex) {
+				polygon[i] = t.p1();
+				outer[i] = t.abnext;
+			} else {
+				return false;
+			}
+			inner[i] = t;
+		}
+		if (!sortCounterClockwise(polygon, inner, outer, vertex)) {
+			return false;
+		}
+		int[] ears = findDelaunayEars(polygon);
+		if (ears == null) {
+			return false;
 		}
 
-		while (pointsVec.size() >= 3) {
-			// Getting a triangle to add, and saving it.
-			TriangleDt triangle = findTriangle(pointsVec, pointToDelete);
-			addedTriangles.add(triangle);
+		// nothing was changed so far, now replace the triangles
+		int[] next = new int[k];
+		for (int i = 0; i < k; i++) {
+			next[i] = (i + 1) % k;
+		}
+		TriangleDt[] created = new TriangleDt[k - 2];
+		for (int e = 0; e < ears.length; e++) {
+			int i = ears[e];
+			int j = next[i];
+			int l = next[j];
+			TriangleDt t = new TriangleDt(polygon[i], polygon[j], polygon[l]);
+			created[e] = t;
+			link(t, polygon[i], polygon[j], outer[i], inner[i]);
+			link(t, polygon[j], polygon[l], outer[j], inner[j]);
+			if (e == ears.length - 1) {
+				link(t, polygon[l], polygon[i], outer[l], inner[l]);
+			}
+			// the diagonal becomes an edge of the remaining polygon
+			next[i] = l;
+			outer[i] = t;
+			inner[i] = null;
+		}
+		for (TriangleDt t : star) {
+			if (t == startTriangle || t == currT) {
+				startTriangle = created[0];
+				currT = created[0];
+			}
+		}
+		_vertices.remove(vertex);
+		nPoints--;
+		_modCount++;
+		return true;
+	}
 
-			// Finding the point on the diagonal (pointToDelete,p)
-			PointDt p = findDiagonal(triangle, pointToDelete);
+	private static PointDt findCorner(TriangleDt t, PointDt p) {
+		if (t.p1().equals(p)) {
+			return t.p1();
+		}
+		if (t.p2().equals(p)) {
+			return t.p2();
+		}
+		return t.p3().equals(p) ? t.p3() : null;
+	}
 
-			for (PointDt tmpP : pointsVec) {
-				if (tmpP.equals(p)) {
-					pointsVec.removeElement(tmpP);
-					break;
+	// reorders the edges of the polygon around vertex so that each edge starts
+	// where the previous one ended
+	private static boolean sortCounterClockwise(PointDt[] polygon,
+			TriangleDt[] inner, TriangleDt[] outer, PointDt vertex) {
+		for (int i = 0; i < polygon.length - 1; i++) {
+			PointDt end = polygonEdgeEnd(inner[i], vertex);
+			int found = -1;
+			for (int j = i + 1; j < polygon.length && found < 0; j++) {
+				if (polygon[j] == end) {
+					found = j;
 				}
 			}
+			if (found < 0) {
+				return false;
+			}
+			swap(polygon, i + 1, found);
+			swap(inner, i + 1, found);
+			swap(outer, i + 1, found);
+		}
+		return polygonEdgeEnd(inner[polygon.length - 1], vertex) == polygon[0];
+	}
+
+	private static PointDt polygonEdgeEnd(TriangleDt t, PointDt vertex) {
+		if (t.p1() == vertex) {
+			return t.p3();
+		}
+		return t.p2() == vertex ? t.p1() : t.p2();
+	}
+
+	private static <T> void swap(T[] array, int i, int j) {
+		T tmp = array[i];
+		array[i] = array[j];
+		array[j] = tmp;
+	}
+
+	/**
+	 * @param polygon
+	 *            star shaped polygon in counterclockwise order
+	 * @return for each ear the index of its first vertex (in the polygon
+	 *         remaining after cutting off the previous ears), null if the
+	 *         polygon is degenerate
+	 */
+	private static int[] findDelaunayEars(PointDt[] polygon) {
+		int k = polygon.length;
+		int[] next = new int[k];
+		for (int i = 0; i < k; i++) {
+			next[i] = (i + 1) % k;
+		}
+		int[] ears = new int[k - 2];
+		int remaining = k;
+		int i = 0;
+		int tested = 0;
+		while (remaining > 3) {
+			int j = next[i];
+			int l = next[j];
+			if (isDelaunayEar(polygon, next, i, j, l)) {
+				ears[k - remaining] = i;
+				next[i] = l;
+				remaining--;
+				tested = 0;
+			} else if (++tested > remaining) {
+				return null;
+			} else {
+				i = j;
+			}
+		}
+		ears[k - 3] = i;
+		return ears;
+	}
+
+	private static boolean isDelaunayEar(PointDt[] polygon, int[] next, int i,
+			int j, int l) {
+		PointDt a = polygon[i];
+		PointDt b = polygon[j];
+		PointDt c = polygon[l];
+		if ((b.x() - a.x()) * (c.y() - a.y())
+				- (b.y() - a.y()) * (c.x() - a.x()) <= 0) {
+			return false;
 		}
-		// updating the triangulation
-		deleteUpdate(pointToDelete);
-		for (TriangleDt t : deletedTriangles) {
-			if (t == startTriangle) {
-				startTriangle = addedTriangles.elementAt(0);
-				break;
+		for (int m = next[l]; m != i; m = next[m]) {
+			if (inCircumcircle(a, b, c, polygon[m])) {
+				return false;
 			}
 		}
-		_triangles.removeAll(deletedTriangles);
-		_triangles.addAll(addedTriangles);
-		_vertices.remove(pointToDelete);
-		nPoints = nPoints + addedTriangles.size() - deletedTriangles.size();
-		addedTriangles.removeAllElements();
-		deletedTriangles.removeAllElements();
+		return true;
+	}
+
+	// a, b, c in counterclockwise order
+	private static boolean inCircumcircle(PointDt a, PointDt b, PointDt c,
+			PointDt p) {
+		double adx = a.x() - p.x();
+		double ady = a.y() - p.y();
+		double bdx = b.x() - p.x();
+		double bdy = b.y() - p.y();
+		double cdx = c.x() - p.x();
+		double cdy = c.y() - p.y();
+		return (adx * adx + ady * ady) * (bdx * cdy - cdx * bdy)
+				+ (bdx * bdx + bdy * bdy) * (cdx * ady - adx * cdy)
+				+ (cdx * cdx + cdy * cdy) * (adx * bdy - bdx * ady) > 0;
+	}
+
+	/**
+	 * Connects a new triangle with its neighbor across edge (p, q).
+	 * 
+	 * @param old
+	 *            the deleted triangle that was the neighbor's neighbor, null
+	 *            if the neighbor is a new triangle itself
+	 */
+	private static void link(TriangleDt t, PointDt p, PointDt q,
+			TriangleDt neighbor, TriangleDt old) {
+		setNeighbor(t, p, q, neighbor);
+		if (old != null) {
+			neighbor.switchneighbors(old, t);
+		} else {
+			setNeighbor(neighbor, p, q, t);
+		}
+	}
+
+	private static void setNeighbor(TriangleDt t, PointDt p, PointDt q,
+			TriangleDt neighbor) {
+		PointDt a = t.p1();
+		PointDt b = t.p2();
+		if ((a == p && b == q) || (a == q && b == p)) {
+			t.abnext = neighbor;
+		} else if (a == p || a == q) {
+			t.canext = neighbor;
+		} else {
+			t.bcnext = neighbor;
+		}
 	}
 
 	/**
@@ -261,389 +432,6 @@ public class DelaunayTriangulation {
 		}
 	}
 
-	// updates the triangulation after the triangles to be deleted and
-	// the triangles to be added were found
-	// by Doron Ganel & Eyal Roth(2009)
-	private void deleteUpdate(PointDt pointToDelete) {
-		for (TriangleDt addedTriangle1 : addedTriangles) {
-			// update between added triangles and deleted triangles
-			for (TriangleDt deletedTriangle : deletedTriangles) {
-				if (shareSegment(addedTriangle1, deletedTriangle)) {
-					updateNeighbor(addedTriangle1, deletedTriangle,
-							pointToDelete);
-				}
-			}
-		}
-		for (TriangleDt addedTriangle1 : addedTriangles) {
-			// update between added triangles
-			for (TriangleDt addedTriangle2 : addedTriangles) {
-				if ((addedTriangle1 != addedTriangle2)
-						&& shareSegment(addedTriangle1, addedTriangle2)) {
-					updateNeighbor(addedTriangle1, addedTriangle2);
-				}
-			}
-		}
-
-	}
-
-	// checks if the 2 triangles shares a segment
-	// by Doron Ganel & Eyal Roth(2009)
-	private static boolean shareSegment(TriangleDt t1, TriangleDt t2) {
-		int counter = 0;
-		PointDt t1P1 = t1.p1();
-		PointDt t1P2 = t1.p2();
-		PointDt t1P3 = t1.p3();
-		PointDt t2P1 = t2.p1();
-		PointDt t2P2 = t2.p2();
-		PointDt t2P3 = t2.p3();
-
-		if (t1P1.equals(t2P1)) {
-			counter++;
-		}
-		if (t1P1.equals(t2P2)) {
-			counter++;
-		}
-		if (t1P1.equals(t2P3)) {
-			counter++;
-		}
-		if (t1P2.equals(t2P1)) {
-			counter++;
-		}
-		if (t1P2.equals(t2P2)) {
-			counter++;
-		}
-		if (t1P2.equals(t2P3)) {
-			counter++;
-		}
-		if (t1P3.equals(t2P1)) {
-			counter++;
-		}
-		if (t1P3.equals(t2P2)) {
-			counter++;
-		}
-		if (t1P3.equals(t2P3)) {
-			counter++;
-		}
-		return counter >= 2;
-	}
-
-	// update the neighbors of the addedTriangle and deletedTriangle
-	// we assume the 2 triangles share a segment
-	// by Doron Ganel & Eyal Roth(2009)
-	private static void updateNeighbor(TriangleDt addedTriangle,
-			TriangleDt deletedTriangle, PointDt pointToDelete) {
-		PointDt delA = deletedTriangle.p1();
-		PointDt delB = deletedTriangle.p2();
-		PointDt delC = deletedTriangle.p3();
-		PointDt addA = addedTriangle.p1();
-		PointDt addB = addedTriangle.p2();
-		PointDt addC = addedTriangle.p3();
-
-		// updates the neighbor of the deleted triangle to point to the added
-		// triangle
-		// setting the neighbor of the added triangle
-		if (pointToDelete.equals(delA)) {
-			deletedTriangle.next_23().switchneighbors(deletedTriangle,
-					addedTriangle);
-			// AB-BC || BA-BC
-			if ((addA.equals(delB) && addB.equals(delC))
-					|| (addB.equals(delB) && addA.equals(delC))) {
-				addedTriangle.abnext = deletedTriangle.next_23();
-			}
-			// AC-BC || CA-BC
-			else if ((addA.equals(delB) && addC.equals(delC))
-					|| (addC.equals(delB) && addA.equals(delC))) {
-				addedTriangle.canext = deletedTriangle.next_23();
-			}
-			// BC-BC || CB-BC
-			else {
-				addedTriangle.bcnext = deletedTriangle.next_23();
-			}
-		} else if (pointToDelete.equals(delB)) {
-			deletedTriangle.next_31().switchneighbors(deletedTriangle,
-					addedTriangle);
-			// AB-AC || BA-AC
-			if ((addA.equals(delA) && addB.equals(delC))
-					|| (addB.equals(delA) && addA.equals(delC))) {
-				addedTriangle.abnext = deletedTriangle.next_31();
-			}
-			// AC-AC || CA-AC
-			else if ((addA.equals(delA) && addC.equals(delC))
-					|| (addC.equals(delA) && addA.equals(delC))) {
-				addedTriangle.canext = deletedTriangle.next_31();
-			}
-			// BC-AC || CB-AC
-			else {
-				addedTriangle.bcnext = deletedTriangle.next_31();
-			}
-		}
-		// equals c
-		else {
-			deletedTriangle.next_12().switchneighbors(deletedTriangle,
-					addedTriangle);
-			// AB-AB || BA-AB
-			if ((addA.equals(delA) && addB.equals(delB))
-					|| (addB.equals(delA) && addA.equals(delB))) {
-				addedTriangle.abnext = deletedTriangle.next_12();
-			}
-			// AC-AB || CA-AB
-			else if ((addA.equals(delA) && addC.equals(delB))
-					|| (addC.equals(delA) && addA.equals(delB))) {
-				addedTriangle.canext = deletedTriangle.next_12();
-			}
-			// BC-AB || CB-AB
-			else {
-				addedTriangle.bcnext = deletedTriangle.next_12();
-			}
-		}
-	}
-
-	// update the neighbors of the 2 added Triangle s
-	// we assume the 2 triangles share a segment
-	// by Doron Ganel & Eyal Roth(2009)
-	private static void updateNeighbor(TriangleDt addedTriangle1,
-			TriangleDt addedTriangle2) {
-		PointDt A1 = addedTriangle1.p1();
-		PointDt B1 = addedTriangle1.p2();
-		PointDt C1 = addedTriangle1.p3();
-		PointDt A2 = addedTriangle2.p1();
-		PointDt B2 = addedTriangle2.p2();
-		PointDt C2 = addedTriangle2.p3();
-
-		// A1-A2
-		if (A1.equals(A2)) {
-			// A1B1-A2B2
-			if (B1.equals(B2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// A1B1-A2C2
-			else if (B1.equals(C2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// A1C1-A2B2
-			else if (C1.equals(B2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// A1C1-A2C2
-			else {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-		}
-		// A1-B2
-		else if (A1.equals(B2)) {
-			// A1B1-B2A2
-			if (B1.equals(A2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// A1B1-B2C2
-			else if (B1.equals(C2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// A1C1-B2A2
-			else if (C1.equals(A2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// A1C1-B2C2
-			else {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-		// A1-C2
-		else if (A1.equals(C2)) {
-			// A1B1-C2A2
-			if (B1.equals(A2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// A1B1-C2B2
-			if (B1.equals(B2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// A1C1-C2A2
-			if (C1.equals(A2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// A1C1-C2B2
-			else {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-		// B1-A2
-		else if (B1.equals(A2)) {
-			// B1A1-A2B2
-			if (A1.equals(B2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// B1A1-A2C2
-			else if (A1.equals(C2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// B1C1-A2B2
-			else if (C1.equals(B2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// B1C1-A2C2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-		}
-		// B1-B2
-		else if (B1.equals(B2)) {
-			// B1A1-B2A2
-			if (A1.equals(A2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// B1A1-B2C2
-			else if (A1.equals(C2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// B1C1-B2A2
-			else if (C1.equals(A2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// B1C1-B2C2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-		// B1-C2
-		else if (B1.equals(C2)) {
-			// B1A1-C2A2
-			if (A1.equals(A2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// B1A1-C2B2
-			if (A1.equals(B2)) {
-				addedTriangle1.abnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// B1C1-C2A2
-			if (C1.equals(A2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// B1C1-C2B2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-		// C1-A2
-		else if (C1.equals(A2)) {
-			// C1A1-A2B2
-			if (A1.equals(B2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// C1A1-A2C2
-			else if (A1.equals(C2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// C1B1-A2B2
-			else if (B1.equals(B2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// C1B1-A2C2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-		}
-		// C1-B2
-		else if (C1.equals(B2)) {
-			// C1A1-B2A2
-			if (A1.equals(A2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// C1A1-B2C2
-			else if (A1.equals(C2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// C1B1-B2A2
-			else if (B1.equals(A2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.abnext = addedTriangle1;
-			}
-			// C1B1-B2C2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-		// C1-C2
-		else if (C1.equals(C2)) {
-			// C1A1-C2A2
-			if (A1.equals(A2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// C1A1-C2B2
-			if (A1.equals(B2)) {
-				addedTriangle1.canext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-			// C1B1-C2A2
-			if (B1.equals(A2)) {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.canext = addedTriangle1;
-			}
-			// C1B1-C2B2
-			else {
-				addedTriangle1.bcnext = addedTriangle2;
-				addedTriangle2.bcnext = addedTriangle1;
-			}
-		}
-	}
-
-	// finds the a point on the triangle that if connect it to "point" (creating
-	// a segment)
-	// the other two points of the triangle will be to the left and to the right
-	// of the segment
-	// by Doron Ganel & Eyal Roth(2009)
-	private static PointDt findDiagonal(TriangleDt triangle, PointDt point) {
-		PointDt p1 = triangle.p1();
-		PointDt p2 = triangle.p2();
-		PointDt p3 = triangle.p3();
-
-		if ((p1.pointLineTest(point, p3) == PointDt.LEFT)
-				&& (p2.pointLineTest(point, p3) == PointDt.RIGHT)) {
-			return p3;
-		}
-		if ((p3.pointLineTest(point, p2) == PointDt.LEFT)
-				&& (p1.pointLineTest(point, p2) == PointDt.RIGHT)) {
-			return p2;
-		}
-		if ((p2.pointLineTest(point, p1) == PointDt.LEFT)
-				&& (p3.pointLineTest(point, p1) == PointDt.RIGHT)) {
-			return p1;
-		}
-		return null;
-	}
-
 	/**
 	 * Calculates a Voronoi cell for a given neighborhood in this triangulation.
 	 * A neighborhood is defined by a triangle and one of its corner points.
@@ -1197,63 +985,6 @@ public class DelaunayTriangulation {
 		return null;
 	}
 
-	/*
-	 * Receives a point and returns all the points of the triangles that shares
-	 * point as a corner (Connected vertices to this point).
-	 * 
-	 * Set saveTriangles to true if you wish to save the triangles that were
-	 * found.
-	 * 
-	 * By Doron Ganel & Eyal Roth
-	 */
-	private Vector<PointDt> findConnectedVertices(PointDt point,
-			boolean saveTriangles) {
-		Set<PointDt> pointsSet = new HashSet<>();
-		Vector<PointDt> pointsVec = new Vector<>();
-		// Getting one of the neigh
-		TriangleDt triangle = find(point);
-
-		// Validating find result.
-		if (!triangle.isCorner(point)) {
-			Log.error(
-					"findConnectedVertices: Could not find connected vertices since"
-							+ " the first found triangle doesn't share the given point.");
-			return null;
-		}
-
-		Vector<TriangleDt> triangles = findTriangleNeighborhood(triangle, point);
-		if (triangles == null) {
-			Log.error("Error: can't delete a point on the perimeter");
-			return null;
-		}
-		if (saveTriangles) {
-			deletedTriangles = triangles;
-		}
-
-		for (TriangleDt tmpTriangle : triangles) {
-			PointDt point1 = tmpTriangle.p1();
-			PointDt point2 = tmpTriangle.p2();
-			PointDt point3 = tmpTriangle.p3();
-
-			if (point1.equals(point) && !pointsSet.contains(point2)) {
-				pointsSet.add(point2);
-				pointsVec.add(point2);
-			}
-
-			if (point2.equals(point) && !pointsSet.contains(point3)) {
-				pointsSet.add(point3);
-				pointsVec.add(point3);
-			}
-
-			if (point3.equals(point) && !pointsSet.contains(point1)) {
-				pointsSet.add(point1);
-				pointsVec.add(point1);
-			}
-		}
-
-		return pointsVec;
-	}
-
 	/**
 	 * Walks on a consistent side of triangles until a cycle is achieved.
 	 * 
@@ -1289,67 +1020,6 @@ public class DelaunayTriangulation {
 		return triangles;
 	}
 
-	/*
-	 * find triangle to be added to the triangulation
-	 * 
-	 * By: Doron Ganel & Eyal Roth
-	 * 
-	 */
-	private static TriangleDt findTriangle(Vector<PointDt> pointsVec,
-			PointDt p) {
-		PointDt[] arrayPoints = new PointDt[pointsVec.size()];
-		pointsVec.toArray(arrayPoints);
-
-		int size = arrayPoints.length;
-		if (size < 3) {
-			return null;
-		}
-		// if we left with 3 points we return the triangle
-		else if (size == 3) {
-			return new TriangleDt(arrayPoints[0], arrayPoints[1],
-					arrayPoints[2]);
-		} else {
-			for (int i = 0; i <= size - 1; i++) {
-				PointDt p1 = arrayPoints[i];
-				int j = i + 1;
-				int k = i + 2;
-				if (j >= size) {
-					j = 0;
-					k = 1;
-				}
-				// check IndexOutOfBound
-				else if (k >= size) {
-					k = 0;
-				}
-				PointDt p2 = arrayPoints[j];
-				PointDt p3 = arrayPoints[k];
-				// check if the triangle is not re-entrant and not encloses p
-				TriangleDt t = new TriangleDt(p1, p2, p3);
-				if ((calcDet(p1, p2, p3) >= 0) && !t.contains(p)) {
-					if (!t.fallInsideCircumcircle(arrayPoints)) {
-						return t;
-					}
-				}
-				// if there are only 4 points use contains that refers to point
-				// on boundary as outside
-				if (size == 4 && (calcDet(p1, p2, p3) >= 0)
-						&& !t.contains_BoundaryIsOutside(p)) {
-					if (!t.fallInsideCircumcircle(arrayPoints)) {
-						return t;
-					}
-				}
-			}
-		}
-		return null;
-	}
-
-	// TODO: Move this to triangle.
-	// checks if the triangle is not re-entrant
-	private static double calcDet(PointDt A, PointDt B, PointDt P) {
-		return (A.x() * (B.y() - P.y())) - (A.y() * (B.x() - P.x()))
-				+ (B.x() * P.y() - B.y() * P.x());
-	}
-
 	/**
 	 *
 	 * @param p
@@ -1474,24 +1144,14 @@ public class DelaunayTriangulation {
 		}
 		if (this.size() > 2) {
 			_modCount2 = _modCount;
-			Vector<TriangleDt> front = new Vector<>();
 			_triangles = new Vector<>();
-			front.add(this.startTriangle);
-			while (front.size() > 0) {
-				TriangleDt t = front.remove(0);
-				if (!t._mark) {
-					t._mark = true;
-					_triangles.add(t);
-					if (t.abnext != null && !t.abnext._mark) {
-						front.add(t.abnext);
-					}
-					if (t.bcnext != null && !t.bcnext._mark) {
-						front.add(t.bcnext);
-					}
-					if (t.canext != null && !t.canext._mark) {
-						front.add(t.canext);
-					}
-				}
+			// breadth first search, _triangles is used as the queue
+			visit(this.startTriangle);
+			for (int i = 0; i < _triangles.size(); i++) {
+				TriangleDt t = _triangles.elementAt(i);
+				visit(t.abnext);
+				visit(t.bcnext);
+				visit(t.canext);
 			}
 			// _triNum = _triangles.size();
 			for (int i = 0; i < _triangles.size(); i++) {
@@ -1500,4 +1160,11 @@ public class DelaunayTriangulation {
 		}
 	}
 
+	private void visit(TriangleDt t) {
+		if (t != null && !t._mark) {
+			t._mark = true;
+			_triangles.add(t);
+		}
+	}
+
 }
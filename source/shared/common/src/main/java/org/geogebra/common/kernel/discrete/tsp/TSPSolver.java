@@ -2,7 +2,7 @@
  * GeoGebra - Dynamic Mathematics for Everyone
  * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
  * https://www.geogebra.org
- * 
+ *
  * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
  * may be used under the EUPL 1.2 in compatible projects (see Article 5
  * and the Appendix of EUPL 1.2 for details).
@@ -16,19 +16,83 @@
 
 package org.geogebra.common.kernel.discrete.tsp;
 
+import java.util.Arrays;
+
 import org.geogebra.common.kernel.MyPoint;
-import org.geogebra.common.kernel.discrete.tsp.impl.FLS;
+import org.geogebra.common.kernel.discrete.tsp.impl.HilbertOrder;
+import org.geogebra.common.kernel.discrete.tsp.impl.LinKernighan;
 
 /**
  * Travelling salesman problem solver.
+ *
+ * The tour of the last call is used as start tour of the next call with the
+ * same number of points, and only the points that moved are looked at first,
+ * so that dragging a point only needs a few local moves.
  */
 public final class TSPSolver {
 
 	/**
+	 * maximal number of cities looked at by the local search, per city of
+	 * the tour; bounds the running time without making the result depend on
+	 * machine speed
+	 */
+	static final int STEPS_PER_CITY = 50;
+
+	private int[] lastTour;
+	private double[] lastX;
+	private double[] lastY;
+
+	/**
+	 * Forgets the last tour.
+	 */
+	public void reset() {
+		lastTour = null;
+		lastX = null;
+		lastY = null;
+	}
+
+	/**
+	 * Reorders the points to a short tour.
+	 *
 	 * @param points points
 	 * @return minimal distance
 	 */
 	public double solve(final MyPoint[] points) {
-		return FLS.optimise(points);
+		int n = points.length;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = points[i].x;
+			y[i] = points[i].y;
+		}
+		LinKernighan search;
+		double length;
+		if (lastTour != null && lastTour.length == n) {
+			search = new LinKernighan(x, y, lastTour);
+			length = search.optimise(STEPS_PER_CITY, getMovedPoints(x, y));
+		} else {
+			search = new LinKernighan(x, y, HilbertOrder.order(x, y));
+			length = search.optimise(STEPS_PER_CITY);
+		}
+		lastTour = search.getTour();
+		lastX = x;
+		lastY = y;
+
+		MyPoint[] original = points.clone();
+		for (int i = 0; i < n; i++) {
+			points[i] = original[lastTour[i]];
+		}
+		return length;
+	}
+
+	private int[] getMovedPoints(double[] x, double[] y) {
+		int count = 0;
+		int[] moved = new int[x.length];
+		for (int i = 0; i < x.length; i++) {
+			if (x[i] != lastX[i] || y[i] != lastY[i]) {
+				moved[count++] = i;
+			}
+		}
+		return Arrays.copyOf(moved, count);
 	}
 }
@@ -0,0 +1,95 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete.tsp.impl;
+
+import java.util.Arrays;
+
+/**
+ * Orders points along a Hilbert curve; gives a start tour in O(n log n) that
+ * local search can improve quickly.
+ */
+public final class HilbertOrder {
+
+	// resolution of the curve: 2^16 x 2^16 cells
+	private static final int SIDE = 1 << 16;
+
+	private HilbertOrder() {
+		// utility class
+	}
+
+	/**
+	 * @param x
+	 *            x-coords
+	 * @param y
+	 *            y-coords
+	 * @return permutation of point indices along the curve
+	 */
+	public static int[] order(double[] x, double[] y) {
+		int n = x.length;
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < n; i++) {
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+		double size = Math.max(maxX - minX, maxY - minY);
+		double scale = size > 0 ? (SIDE - 1) / size : 0;
+
+		// curve index in the high bits, point index in the low 31 bits
+		long[] keys = new long[n];
+		for (int i = 0; i < n; i++) {
+			int cx = (int) ((x[i] - minX) * scale);
+			int cy = (int) ((y[i] - minY) * scale);
+			keys[i] = (index(cx, cy) << 31) | i;
+		}
+		Arrays.sort(keys);
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = (int) (keys[i] & Integer.MAX_VALUE);
+		}
+		return order;
+	}
+
+	/**
+	 * @return distance of cell (x, y) along the curve
+	 */
+	private static long index(int x0, int y0) {
+		int x = x0;
+		int y = y0;
+		long d = 0;
+		for (int s = SIDE / 2; s > 0; s /= 2) {
+			int rx = (x & s) > 0 ? 1 : 0;
+			int ry = (y & s) > 0 ? 1 : 0;
+			d += (long) s * s * ((3 * rx) ^ ry);
+			// rotate quadrant
+			if (ry == 0) {
+				if (rx == 1) {
+					x = SIDE - 1 - x;
+					y = SIDE - 1 - y;
+				}
+				int t = x;
+				x = y;
+				y = t;
+			}
+		}
+		return d;
+	}
+}
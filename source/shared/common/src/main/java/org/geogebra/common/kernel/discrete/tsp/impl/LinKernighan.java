@@ -0,0 +1,369 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.discrete.tsp.impl;
+
+import java.util.Arrays;
+
+/**
+ * Local search for euclidean tours using Lin-Kernighan style moves (chains of
+ * up to {@link #MAX_DEPTH} sequential 2-opt moves) and Or-opt moves
+ * (segments of up to {@link #MAX_SEGMENT} cities moved elsewhere), both
+ * restricted to candidates from k-nearest-neighbour lists. Cities whose
+ * edges did not change are not looked at again ("don't look bits").
+ *
+ * <p>
+ * The tour is an array of city indices plus the inverse permutation; a 2-opt
+ * move reverses the shorter of the two paths it creates.
+ * </p>
+ */
+public final class LinKernighan {
+
+	/** number of candidate neighbours per city */
+	static final int NEIGHBOURS = 8;
+	/** maximal number of 2-opt moves in one Lin-Kernighan step */
+	static final int MAX_DEPTH = 3;
+	/** maximal length of segments moved by Or-opt */
+	static final int MAX_SEGMENT = 3;
+
+	private static final double EPSILON = 1E-10;
+
+	private final double[] x;
+	private final double[] y;
+	private final int n;
+	private final int[] tour;
+	private final int[] pos;
+	private int[] neighbours;
+	private int neighbourCount;
+
+	// cities waiting to be looked at
+	private final int[] queue;
+	private final boolean[] queued;
+	private int queueStart;
+	private int queueSize;
+
+	// moves of the current Lin-Kernighan step, 4 cities each
+	private final int[] moves = new int[4 * MAX_DEPTH];
+
+	/**
+	 * @param x
+	 *            x-coords of the cities
+	 * @param y
+	 *            y-coords of the cities
+	 * @param initialTour
+	 *            permutation of city indices to start from
+	 */
+	public LinKernighan(double[] x, double[] y, int[] initialTour) {
+		this.x = x;
+		this.y = y;
+		this.n = x.length;
+		this.tour = Arrays.copyOf(initialTour, n);
+		this.pos = new int[n];
+		for (int i = 0; i < n; i++) {
+			pos[tour[i]] = i;
+		}
+		queue = new int[n];
+		queued = new boolean[n];
+	}
+
+	/**
+	 * Improves the tour until no improving move is found or the step limit
+	 * is reached.
+	 *
+	 * @param stepsPerCity
+	 *            maximal number of cities looked at, per city of the tour
+	 * @return tour length
+	 */
+	public double optimise(int stepsPerCity) {
+		return optimise(stepsPerCity, null);
+	}
+
+	/**
+	 * Improves the tour starting from given cities, e.g. the ones that moved
+	 * since the start tour was computed.
+	 *
+	 * @param stepsPerCity
+	 *            maximal number of cities looked at, per city of the tour
+	 * @param startCities
+	 *            cities to look at first, null for all
+	 * @return tour length
+	 */
+	public double optimise(int stepsPerCity, int[] startCities) {
+		if (n < 5) {
+			return length();
+		}
+		// the limit does not depend on machine speed, so the same input
+		// always gives the same tour
+		long maxSteps = (long) stepsPerCity * n;
+		neighbours = NeighbourTree.nearest(x, y, NEIGHBOURS);
+		neighbourCount = neighbours.length / n;
+		if (startCities == null) {
+			for (int i = 0; i < n; i++) {
+				push(tour[i]);
+			}
+		} else {
+			for (int city : startCities) {
+				push(prev(city));
+				push(city);
+				push(next(city));
+			}
+		}
+		long steps = 0;
+		while (queueSize > 0 && steps++ < maxSteps) {
+			int city = pop();
+			boolean improved = improveLinKernighan(city, next(city))
+					|| improveLinKernighan(city, prev(city))
+					|| improveOrOpt(city);
+			if (improved) {
+				push(city);
+			}
+		}
+		return length();
+	}
+
+	/**
+	 * @return the tour as permutation of city indices
+	 */
+	public int[] getTour() {
+		return tour;
+	}
+
+	/**
+	 * @return tour length
+	 */
+	public double length() {
+		double length = 0;
+		for (int i = 0; i < n; i++) {
+			length += dist(tour[i], tour[(i + 1) % n]);
+		}
+		return length;
+	}
+
+	private boolean improveLinKernighan(int t1, int firstT2) {
+		int t2 = firstT2;
+		// removed minus added edge lengths, not counting the closing edge
+		double gain = dist(t1, t2);
+		double bestGain = 0;
+		int bestDepth = 0;
+		int depth = 0;
+		while (depth < MAX_DEPTH) {
+			boolean forward = next(t1) == t2;
+			int bestT3 = -1;
+			int bestT4 = -1;
+			double bestLookahead = Double.NEGATIVE_INFINITY;
+			for (int k = 0; k < neighbourCount; k++) {
+				int t3 = neighbours[t2 * neighbourCount + k];
+				double partialGain = gain - dist(t2, t3);
+				if (partialGain <= EPSILON) {
+					// neighbours are sorted by distance
+					break;
+				}
+				if (t3 == t1 || t3 == next(t2) || t3 == prev(t2)) {
+					continue;
+				}
+				int t4 = forward ? prev(t3) : next(t3);
+				double lookahead = partialGain + dist(t3, t4);
+				if (lookahead > bestLookahead) {
+					bestLookahead = lookahead;
+					bestT3 = t3;
+					bestT4 = t4;
+				}
+			}
+			if (bestT3 < 0) {
+				break;
+			}
+			make2OptMove(t1, t2, bestT3, bestT4);
+			moves[4 * depth] = t1;
+			moves[4 * depth + 1] = t2;
+			moves[4 * depth + 2] = bestT3;
+			moves[4 * depth + 3] = bestT4;
+			depth++;
+			gain = bestLookahead;
+			double closedGain = gain - dist(bestT4, t1);
+			if (closedGain > bestGain + EPSILON) {
+				bestGain = closedGain;
+				bestDepth = depth;
+			}
+			t2 = bestT4;
+		}
+		// undo the moves after the best closed tour
+		for (int d = depth - 1; d >= bestDepth; d--) {
+			make2OptMove(moves[4 * d], moves[4 * d + 3], moves[4 * d + 2],
+					moves[4 * d + 1]);
+		}
+		for (int i = 0; i < 4 * bestDepth; i++) {
+			push(moves[i]);
+		}
+		return bestDepth > 0;
+	}
+
+	private boolean improveOrOpt(int s1) {
+		int s2 = s1;
+		for (int length = 1; length <= MAX_SEGMENT && length + 3 <= n;
+				length++) {
+			if (length > 1) {
+				s2 = next(s2);
+			}
+			int p = prev(s1);
+			int nx = next(s2);
+			double removeGain = dist(p, s1) + dist(s2, nx) - dist(p, nx);
+			if (removeGain <= EPSILON) {
+				continue;
+			}
+			if (tryInsert(s1, s2, p, nx, s1, removeGain)
+					|| tryInsert(s1, s2, p, nx, s2, removeGain)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tries to move segment s1..s2 next to a neighbour of end.
+	 */
+	private boolean tryInsert(int s1, int s2, int p, int nx, int end,
+			double removeGain) {
+		for (int k = 0; k < neighbourCount; k++) {
+			int candidate = neighbours[end * neighbourCount + k];
+			if (dist(end, candidate) >= removeGain) {
+				break;
+			}
+			for (int side = 0; side < 2; side++) {
+				int c = side == 0 ? candidate : prev(candidate);
+				int d = next(c);
+				if (inSegment(c, s1, s2) || inSegment(d, s1, s2) || d == p) {
+					continue;
+				}
+				double edge = dist(c, d);
+				double forwardCost = dist(c, s1) + dist(s2, d) - edge;
+				double reversedCost = dist(c, s2) + dist(s1, d) - edge;
+				boolean reversed = reversedCost < forwardCost;
+				if (removeGain - Math.min(forwardCost, reversedCost) > EPSILON) {
+					moveSegment(s1, s2, p, nx, c, d, reversed);
+					push(p);
+					push(nx);
+					push(c);
+					push(d);
+					push(s2);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Moves segment s1..s2 (between p and nx) between c and d as three 2-opt
+	 * moves: p S nx..c d -> p c..nx S' d -> p nx..c S' d -> p nx..c S d.
+	 */
+	private void moveSegment(int s1, int s2, int p, int nx, int c, int d,
+			boolean reversed) {
+		make2OptMove(p, s1, d, c);
+		if (c != nx) {
+			make2OptMove(p, c, s2, nx);
+		}
+		if (!reversed && s1 != s2) {
+			make2OptMove(c, s2, d, s1);
+		}
+	}
+
+	private boolean inSegment(int city, int s1, int s2) {
+		int offset = pos[city] - pos[s1];
+		if (offset < 0) {
+			offset += n;
+		}
+		int length = pos[s2] - pos[s1];
+		if (length < 0) {
+			length += n;
+		}
+		return offset <= length;
+	}
+
+	/**
+	 * Replaces edges (t1,t2), (t3,t4) by (t2,t3), (t4,t1); t4 has to be the
+	 * neighbour of t3 on the side of t2 when walking from t1 through t2.
+	 */
+	private void make2OptMove(int t1, int t2, int t3, int t4) {
+		if (next(t1) == t2) {
+			reverse(t2, t4);
+		} else {
+			reverse(t1, t3);
+		}
+	}
+
+	/**
+	 * Reverses the path from city from to city to (in tour direction), or
+	 * the rest of the tour if that is shorter.
+	 */
+	private void reverse(int from, int to) {
+		int i = pos[from];
+		int j = pos[to];
+		int length = j - i;
+		if (length < 0) {
+			length += n;
+		}
+		length++;
+		if (2 * length > n) {
+			int start = j + 1 == n ? 0 : j + 1;
+			j = i == 0 ? n - 1 : i - 1;
+			i = start;
+			length = n - length;
+		}
+		for (int k = length / 2; k > 0; k--) {
+			int ci = tour[i];
+			int cj = tour[j];
+			tour[i] = cj;
+			pos[cj] = i;
+			tour[j] = ci;
+			pos[ci] = j;
+			i = i + 1 == n ? 0 : i + 1;
+			j = j == 0 ? n - 1 : j - 1;
+		}
+	}
+
+	private int next(int city) {
+		int i = pos[city] + 1;
+		return tour[i == n ? 0 : i];
+	}
+
+	private int prev(int city) {
+		int i = pos[city];
+		return tour[i == 0 ? n - 1 : i - 1];
+	}
+
+	private double dist(int a, int b) {
+		double dx = x[a] - x[b];
+		double dy = y[a] - y[b];
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	private void push(int city) {
+		if (!queued[city]) {
+			queued[city] = true;
+			int end = queueStart + queueSize;
+			queue[end >= n ? end - n : end] = city;
+			queueSize++;
+		}
+	}
+
+	private int pop() {
+		int city = queue[queueStart];
+		queueStart = queueStart + 1 == n ? 0 : queueStart + 1;
+		queueSize--;
+		queued[city] = false;
+		return city;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+
+package org.geogebra.common.kernel.discrete.tsp.impl;
+
+/**
+ * Static 2d tree over a point set to find the k nearest neighbours of every
+ * point without comparing all pairs. Cells are split at the median, so the
+ * running time is O(n log n) for any distribution of the points, including
+ * clusters with far outliers.
+ */
+public final class NeighbourTree {
+
+	// maximal number of points in a leaf
+	private static final int LEAF_SIZE = 8;
+
+	private final double[] x;
+	private final double[] y;
+	// point indices, ordered such that every cell is a contiguous range
+	private final int[] points;
+	// split dimension of the cell (lo, hi) stored at its median (lo + hi) / 2
+	private final boolean[] splitX;
+
+	private final int[] best;
+	private final double[] bestDist;
+	private int found;
+
+	private NeighbourTree(double[] x, double[] y, int count) {
+		this.x = x;
+		this.y = y;
+		int n = x.length;
+		points = new int[n];
+		for (int i = 0; i < n; i++) {
+			points[i] = i;
+		}
+		splitX = new boolean[n];
+		best = new int[count];
+		bestDist = new double[count];
+		build(0, n);
+	}
+
+	/**
+	 * @param x
+	 *            x-coords
+	 * @param y
+	 *            y-coords
+	 * @param k
+	 *            number of neighbours per point
+	 * @return neighbour lists: the neighbours of point i are stored at
+	 *         positions i * k' .. (i + 1) * k' - 1 sorted by distance, where
+	 *         k' = min(k, n - 1)
+	 */
+	public static int[] nearest(double[] x, double[] y, int k) {
+		int n = x.length;
+		int count = Math.min(k, n - 1);
+		int[] neighbours = new int[n * Math.max(count, 0)];
+		if (count <= 0) {
+			return neighbours;
+		}
+		NeighbourTree tree = new NeighbourTree(x, y, count);
+		for (int i = 0; i < n; i++) {
+			tree.found = 0;
+			tree.search(i, 0, n);
+			System.arraycopy(tree.best, 0, neighbours, i * count, count);
+		}
+		return neighbours;
+	}
+
+	private void build(int lo, int hi) {
+		if (hi - lo <= LEAF_SIZE) {
+			return;
+		}
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int p = lo; p < hi; p++) {
+			int i = points[p];
+			minX = Math.min(minX, x[i]);
+			minY = Math.min(minY, y[i]);
+			maxX = Math.max(maxX, x[i]);
+			maxY = Math.max(maxY, y[i]);
+		}
+		boolean byX = maxX - minX >= maxY - minY;
+		double[] coords = byX ? x : y;
+		int mid = (lo + hi) >>> 1;
+		select(coords, lo, hi - 1, mid);
+		splitX[mid] = byX;
+		build(lo, mid);
+		build(mid + 1, hi);
+	}
+
+	/**
+	 * Partially sorts points[lo..hi] such that position k holds the median
+	 * and no point before (after) it has a bigger (smaller) coordinate.
+	 */
+	private void select(double[] coords, int lo0, int hi0, int k) {
+		int lo = lo0;
+		int hi = hi0;
+		while (lo < hi) {
+			double pivot = coords[points[(lo + hi) >>> 1]];
+			// three way partition, so that equal coordinates terminate
+			int lt = lo;
+			int gt = hi;
+			int p = lo;
+			while (p <= gt) {
+				double c = coords[points[p]];
+				if (c < pivot) {
+					swap(lt++, p++);
+				} else if (c > pivot) {
+					swap(p, gt--);
+				} else {
+					p++;
+				}
+			}
+			if (k < lt) {
+				hi = lt - 1;
+			} else if (k > gt) {
+				lo = gt + 1;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void swap(int p, int q) {
+		int tmp = points[p];
+		points[p] = points[q];
+		points[q] = tmp;
+	}
+
+	private void search(int i, int lo, int hi) {
+		if (hi - lo <= LEAF_SIZE) {
+			for (int p = lo; p < hi; p++) {
+				consider(i, points[p]);
+			}
+			return;
+		}
+		int mid = (lo + hi) >>> 1;
+		int median = points[mid];
+		double diff = splitX[mid] ? x[i] - x[median] : y[i] - y[median];
+		consider(i, median);
+		if (diff < 0) {
+			search(i, lo, mid);
+			if (isOpen(diff)) {
+				search(i, mid + 1, hi);
+			}
+		} else {
+			search(i, mid + 1, hi);
+			if (isOpen(diff)) {
+				search(i, lo, mid);
+			}
+		}
+	}
+
+	/**
+	 * @return whether the other side of a split at given distance may still
+	 *         contain one of the nearest neighbours
+	 */
+	private boolean isOpen(double diff) {
+		return found < best.length || diff * diff < bestDist[found - 1];
+	}
+
+	private void consider(int i, int j) {
+		if (j == i) {
+			return;
+		}
+		double dx = x[j] - x[i];
+		double dy = y[j] - y[i];
+		found = insert(best, bestDist, found, j, dx * dx + dy * dy);
+	}
+
+	/**
+	 * Inserts a candidate into the sorted list of the best candidates.
+	 *
+	 * @return new number of candidates in the list
+	 */
+	private static int insert(int[] best, double[] bestDist, int found,
+			int candidate, double dist) {
+		int count = best.length;
+		if (found == count && dist >= bestDist[count - 1]) {
+			return found;
+		}
+		int pos = found == count ? count - 1 : found;
+		while (pos > 0 && bestDist[pos - 1] > dist) {
+			best[pos] = best[pos - 1];
+			bestDist[pos] = bestDist[pos - 1];
+			pos--;
+		}
+		best[pos] = candidate;
+		bestDist[pos] = dist;
+		return found == count ? found : found + 1;
+	}
+}
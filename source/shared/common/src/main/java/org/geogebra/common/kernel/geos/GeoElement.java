@@ -113,9 +113,9 @@ import org.geogebra.common.util.LaTeXCache;
 import org.geogebra.common.util.MyMath;
 import org.geogebra.common.util.SpreadsheetTraceSettings;
 import org.geogebra.common.util.StringUtil;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.common.util.lang.Language;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.editor.share.util.Greek;
 import org.geogebra.editor.share.util.Unicode;
 
@@ -139,6 +139,11 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 
 	// maximum label offset distance
 	private static final int MAX_LABEL_OFFSET = 80;
+	// per element, see getValueStringCached
+	private static final int MAX_CACHED_TEMPLATES = 8;
+	private static final int CACHED_VALUE = 0;
+	private static final int CACHED_DEFINITION = 1;
+	private static final int CACHED_TO_STRING = 2;
 	/** maximal line width */
 	public static final int MAX_LINE_WIDTH = 13;
 
@@ -245,6 +250,10 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 	private boolean strLabelTextOrHTMLUpdate = true;
 	/** true if strLaTex is out of sync */
 	protected boolean strLaTeXneedsUpdate = true;
+	// kernel string settings the cached strings were rendered with
+	private int strSettingsVersion = -1;
+	// strings per template (indexed by CACHED_*), created on first use
+	private HashMap<StringTemplate, String[]> cachedStrings;
 
 	// line thickness and line type: s
 	/**
@@ -3172,6 +3181,106 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 		strAlgebraDescriptionNeedsUpdate = true;
 		strLabelTextOrHTMLUpdate = true;
 		strLaTeXneedsUpdate = true;
+		if (cachedStrings != null) {
+			cachedStrings.clear();
+		}
+	}
+
+	/**
+	 * Invalidates cached strings if settings affecting them (e.g. rounding or
+	 * language) changed since they were rendered.
+	 */
+	protected final void checkStringSettings() {
+		int version = kernel.getStringSettingsVersion();
+		if (version != strSettingsVersion) {
+			strSettingsVersion = version;
+			algebraStringsNeedUpdate();
+		}
+	}
+
+	private boolean hasCachedStrings() {
+		// input boxes show the value of the linked element, which is updated
+		// without them
+		return isLabelSet() && !isGeoInputBox();
+	}
+
+	private String[] getCachedStrings(StringTemplate tpl) {
+		checkStringSettings();
+		if (cachedStrings == null) {
+			cachedStrings = new HashMap<>(4);
+		}
+		String[] strings = cachedStrings.get(tpl);
+		if (strings == null) {
+			// templates derived on the fly would only fill the cache
+			if (cachedStrings.size() >= MAX_CACHED_TEMPLATES) {
+				cachedStrings.clear();
+			}
+			strings = new String[3];
+			cachedStrings.put(tpl, strings);
+		}
+		return strings;
+	}
+
+	/**
+	 * Same as {@link #toValueString(StringTemplate)}, but the result is cached
+	 * per template until this element is updated or settings affecting
+	 * strings change. Should only be used with shared templates like
+	 * {@link StringTemplate#defaultTemplate}.
+	 *
+	 * @param tpl
+	 *            string template
+	 * @return value string
+	 */
+	public String getValueStringCached(StringTemplate tpl) {
+		if (!hasCachedStrings()) {
+			return toValueString(tpl);
+		}
+		String[] strings = getCachedStrings(tpl);
+		if (strings[CACHED_VALUE] == null) {
+			strings[CACHED_VALUE] = toValueString(tpl);
+		}
+		return strings[CACHED_VALUE];
+	}
+
+	/**
+	 * Same as {@link #getDefinition(StringTemplate)}, but cached like
+	 * {@link #getValueStringCached(StringTemplate)}.
+	 *
+	 * @param tpl
+	 *            string template
+	 * @return definition
+	 */
+	public String getDefinitionCached(StringTemplate tpl) {
+		if (!hasCachedStrings()) {
+			return getDefinition(tpl);
+		}
+		String[] strings = getCachedStrings(tpl);
+		if (strings[CACHED_DEFINITION] == null) {
+			strings[CACHED_DEFINITION] = getDefinition(tpl);
+		}
+		return strings[CACHED_DEFINITION];
+	}
+
+	/**
+	 * Same as {@link #getAlgebraDescriptionPublic(StringTemplate)}, but cached
+	 * like {@link #getValueStringCached(StringTemplate)}.
+	 *
+	 * @param tpl
+	 *            string template
+	 * @return algebraic representation (e.g. coordinates, equation)
+	 */
+	public String getAlgebraDescriptionCached(StringTemplate tpl) {
+		if (!hasVisibleLabel()) {
+			return getValueStringCached(tpl);
+		}
+		if (!hasCachedStrings()) {
+			return toString(tpl);
+		}
+		String[] strings = getCachedStrings(tpl);
+		if (strings[CACHED_TO_STRING] == null) {
+			strings[CACHED_TO_STRING] = toString(tpl);
+		}
+		return strings[CACHED_TO_STRING];
 	}
 
 	/**
@@ -3182,12 +3291,16 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 	 *            whether this was triggered by drag
 	 */
 	public void updateCascade(boolean dragging) {
-		long l = System.currentTimeMillis();
+		MetricsRegistry metrics = app.getMetrics();
+		double start = metrics.now();
 		kernel.notifyBatchUpdate();
-		update(dragging);
-		updateDependentObjects();
-		GeoGebraProfiler.addUpdateCascade(System.currentTimeMillis() - l);
-		kernel.notifyEndBatchUpdate();
+		try {
+			update(dragging);
+			updateDependentObjects();
+			metrics.recordSince(MetricsRegistry.UPDATE_CASCADE, start);
+		} finally {
+			kernel.notifyEndBatchUpdate();
+		}
 	}
 
 	@Override
@@ -3380,6 +3493,8 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 
 	@Override
 	public void updateVisualStyle(GProperty prop) {
+		// style may affect strings, e.g. equation form or point coordinates
+		algebraStringsNeedUpdate();
 		kernel.notifyUpdateVisualStyle(this, prop);
 	}
 
@@ -4072,6 +4187,7 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 	 * @return algebraic representation (e.g. coordinates, equation)
 	 */
 	public String getAlgebraDescriptionDefault() {
+		checkStringSettings();
 		if (strAlgebraDescriptionNeedsUpdate) {
 			strAlgebraDescription = getAlgebraDescriptionPublic(kernel.getAlgebraTemplate());
 			strAlgebraDescriptionNeedsUpdate = false;
@@ -4120,13 +4236,14 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 
 	@Override
 	public String getLaTeXdescription() {
+		checkStringSettings();
 		if (strLaTeXneedsUpdate) {
 			if (isDefined() && !isInfinite()) {
 				strLaTeX = toLaTeXString(false, StringTemplate.latexTemplate);
 			} else {
 				strLaTeX = "?";
-
 			}
+			strLaTeXneedsUpdate = false;
 		}
 
 		return strLaTeX;
@@ -6582,6 +6699,9 @@ public abstract class GeoElement extends ConstructionElement implements GeoEleme
 			return;
 		}
 		this.definition = root;
+		if (cachedStrings != null) {
+			cachedStrings.clear();
+		}
 	}
 
 	/**
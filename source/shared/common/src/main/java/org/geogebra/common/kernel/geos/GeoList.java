@@ -777,6 +777,24 @@ public class GeoList extends GeoElement
 		}
 	}
 
+	/**
+	 * Inserts a geo at given position of this list
+	 *
+	 * @param index
+	 *            position of the new element
+	 * @param geo
+	 *            geo to be added
+	 */
+	public final void add(final int index, final GeoElementND geo) {
+		add(geo);
+		int last = elements.size() - 1;
+		if (index < last) {
+			elements.add(index, elements.remove(last));
+			// keep cached geos aligned with their positions
+			cacheList.add(index, cacheList.remove(last));
+		}
+	}
+
 	private void updateDrawableFlag(GeoElementND geo) {
 		isDrawable = isDrawable && geo.isDrawable() && !geo.isGeoButton()
 				&& !(geo instanceof GeoBoolean) && !(geo instanceof GeoNumeric
@@ -791,7 +809,10 @@ public class GeoList extends GeoElement
 	 *            element to be removed
 	 */
 	public final void remove(final GeoElement geo) {
-		elements.remove(geo);
+		int index = elements.indexOf(geo);
+		if (index >= 0) {
+			remove(index);
+		}
 	}
 
 	/**
@@ -805,8 +826,8 @@ public class GeoList extends GeoElement
 		if (oldIndex == -1) {
 			return;
 		}
-		elements.remove(oldIndex);
-		elements.add(oldIndex, newGeo);
+		elements.set(oldIndex, newGeo);
+		cacheList.set(oldIndex, newGeo);
 	}
 
 	/**
@@ -832,6 +853,9 @@ public class GeoList extends GeoElement
 	 */
 	public final void remove(final int index) {
 		elements.remove(index);
+		// keep cached geos aligned with their positions, the removed one
+		// stays in the cache so that clearCache() can still free it
+		cacheList.add(cacheList.remove(index));
 	}
 
 	/**
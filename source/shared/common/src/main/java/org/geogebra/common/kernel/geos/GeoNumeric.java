@@ -463,6 +463,7 @@ public class GeoNumeric extends GeoElement
 
 	@Override
 	public String getLaTeXdescription() {
+		checkStringSettings();
 		if (strLaTeXneedsUpdate) {
 			if (!isDefined()) {
 				strLaTeX = "?";
@@ -475,6 +476,7 @@ public class GeoNumeric extends GeoElement
 			} else {
 				strLaTeX = toLaTeXString(false, StringTemplate.latexTemplate);
 			}
+			strLaTeXneedsUpdate = false;
 		}
 		return strLaTeX;
 	}
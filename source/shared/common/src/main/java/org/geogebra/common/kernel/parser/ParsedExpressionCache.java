@@ -0,0 +1,259 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.kernel.parser;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.geogebra.common.kernel.Construction;
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.MyBoolean;
+import org.geogebra.common.kernel.arithmetic.MyDouble;
+import org.geogebra.common.kernel.arithmetic.MyList;
+import org.geogebra.common.kernel.arithmetic.MyStringBuffer;
+import org.geogebra.common.kernel.arithmetic.MyVecNode;
+import org.geogebra.common.kernel.arithmetic.SymbolicMode;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.arithmetic.variable.Variable;
+import org.geogebra.common.main.Localization;
+import org.geogebra.common.util.LRUMap;
+import org.geogebra.common.util.lang.Language;
+
+/**
+ * Bounded cache of parser results, so that input sent many times (API,
+ * scripts, input boxes) is only parsed once. Each call returns a fresh deep
+ * copy of the cached expression.
+ *
+ * <p>
+ * The parser looks up labels, so each entry remembers which labels were
+ * looked up and whether they existed; the entry is only reused while that is
+ * still the case. The cache is cleared when macros, language or other
+ * settings the parser depends on change. Expressions that contain objects or
+ * function variables, and input parsed while function variables are
+ * registered or a file is loading, are never cached.
+ * </p>
+ */
+public final class ParsedExpressionCache {
+
+	/** default number of cached expressions */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/** parser entry point */
+	public enum Mode {
+		/** {@link ParserInterface#parseGeoGebraExpression(String)} */
+		GEOGEBRA,
+		/** {@link ParserInterface#parseInputBoxExpression(String)} */
+		INPUT_BOX
+	}
+
+	private final Kernel kernel;
+	private final Construction cons;
+	private final ParserInterface parser;
+	private final LRUMap<String, Entry> templates;
+
+	// state the cached expressions were parsed in
+	private int macroNumber;
+	private Language language;
+	private boolean decimalComma;
+	private SymbolicMode symbolicMode;
+	private int angleUnit;
+	private boolean structures;
+
+	private long hits;
+	private long misses;
+
+	/**
+	 * @param kernel
+	 *            kernel
+	 * @param parser
+	 *            parser
+	 * @param capacity
+	 *            maximal number of cached expressions
+	 */
+	public ParsedExpressionCache(Kernel kernel, ParserInterface parser,
+			int capacity) {
+		this.kernel = kernel;
+		this.cons = kernel.getConstruction();
+		this.parser = parser;
+		this.templates = new LRUMap<>(capacity);
+	}
+
+	/**
+	 * Parses the input or returns a copy of a cached result.
+	 *
+	 * @param input
+	 *            input
+	 * @param mode
+	 *            parser entry point
+	 * @return parsed expression, not shared with the cache
+	 * @throws ParseException
+	 *             when input is invalid
+	 */
+	public ValidExpression parse(String input, Mode mode)
+			throws ParseException {
+		if (cons.isFileLoading() || kernel.getLoadingMode()
+				|| cons.hasRegisteredFunctionVariable()) {
+			return parseUncached(input, mode);
+		}
+		checkState();
+		String key = mode.ordinal() + input;
+		Entry entry = templates.get(key);
+		if (entry != null && entry.isValid()) {
+			hits++;
+			return copy(entry.template);
+		}
+		misses++;
+		Set<String> outerLookups = kernel.getLabelLookupRecorder();
+		Set<String> lookups = new HashSet<>();
+		kernel.setLabelLookupRecorder(lookups);
+		ValidExpression parsed;
+		try {
+			parsed = parseUncached(input, mode);
+		} finally {
+			kernel.setLabelLookupRecorder(outerLookups);
+			if (outerLookups != null) {
+				outerLookups.addAll(lookups);
+			}
+		}
+		if (!cons.hasRegisteredFunctionVariable() && isCopyable(parsed)) {
+			templates.put(key, new Entry(copy(parsed), lookups));
+		} else if (entry != null) {
+			templates.remove(key);
+		}
+		return parsed;
+	}
+
+	private ValidExpression parseUncached(String input, Mode mode)
+			throws ParseException {
+		return mode == Mode.INPUT_BOX ? parser.parseInputBoxExpression(input)
+				: parser.parseGeoGebraExpression(input);
+	}
+
+	private void checkState() {
+		Localization loc = kernel.getLocalization();
+		if (macroNumber != kernel.getMacroNumber()
+				|| language != loc.getLanguage()
+				|| decimalComma != loc.isUsingDecimalComma()
+				|| symbolicMode != kernel.getSymbolicMode()
+				|| angleUnit != kernel.getAngleUnit()
+				|| structures != kernel.getAlgebraProcessor()
+						.enableStructures()) {
+			templates.clear();
+			macroNumber = kernel.getMacroNumber();
+			language = loc.getLanguage();
+			decimalComma = loc.isUsingDecimalComma();
+			symbolicMode = kernel.getSymbolicMode();
+			angleUnit = kernel.getAngleUnit();
+			structures = kernel.getAlgebraProcessor().enableStructures();
+		}
+	}
+
+	private ValidExpression copy(ValidExpression template) {
+		ValidExpression copy = template.deepCopy(kernel);
+		copy.setLabels(template.getLabels());
+		copy.setImprecise(template.isImprecise());
+		return copy;
+	}
+
+	/**
+	 * Only trees whose deep copy does not share mutable leaves (objects,
+	 * function variables) with the original are cached.
+	 */
+	private static boolean isCopyable(ValidExpression parsed) {
+		return parsed.getLocalVariables().isEmpty()
+				&& !parsed.any(ParsedExpressionCache::isNotCopyable);
+	}
+
+	private static boolean isNotCopyable(ExpressionValue value) {
+		return !(value instanceof ExpressionNode || value instanceof Command
+				|| value instanceof MyDouble || value instanceof MyBoolean
+				|| value instanceof Variable || value instanceof MyVecNode
+				|| value instanceof MyList || value instanceof MyStringBuffer);
+	}
+
+	/**
+	 * @return bit 0: whether an object, bit 1: whether a CAS cell with given
+	 *         label exists
+	 */
+	private int getLabelState(String label) {
+		return (cons.lookupLabel(label) != null ? 1 : 0)
+				| (cons.lookupCasCellLabel(label) != null ? 2 : 0);
+	}
+
+	/**
+	 * Cached parser result with the labels the parser looked up.
+	 */
+	private final class Entry {
+		private final ValidExpression template;
+		private final String[] labels;
+		private final int[] labelStates;
+
+		Entry(ValidExpression template, Set<String> lookups) {
+			this.template = template;
+			labels = lookups.toArray(new String[0]);
+			labelStates = new int[labels.length];
+			for (int i = 0; i < labels.length; i++) {
+				labelStates[i] = getLabelState(labels[i]);
+			}
+		}
+
+		/**
+		 * @return whether the labels the parser looked up still exist (or
+		 *         not) as they did when the input was parsed
+		 */
+		boolean isValid() {
+			for (int i = 0; i < labels.length; i++) {
+				if (getLabelState(labels[i]) != labelStates[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Removes all cached expressions.
+	 */
+	public void clear() {
+		templates.clear();
+	}
+
+	/**
+	 * @return number of inputs answered from the cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return number of inputs that had to be parsed
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return fraction of inputs answered from the cache
+	 */
+	public double getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+}
@@ -17,11 +17,12 @@
 package org.geogebra.common.kernel.prover;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.TreeSet;
 
 import org.geogebra.common.factories.UtilFactory;
@@ -233,163 +234,218 @@ public abstract class AbstractProverReciosMethod {
 
 	}
 
-	private static ProofResult compute0d(HashMap<PVariable, BigInteger> values,
+	private ProofResult compute0d(HashMap<PVariable, BigInteger> values,
 			SymbolicParameters s, AlgebraicStatement as) {
-		if (as != null) {
-			// use Botana's method
-			HashMap<PVariable, BigInteger> substitutions = new HashMap<>();
-			for (Entry<PVariable, BigInteger> entry : values.entrySet()) {
-				PVariable v = entry.getKey();
-				// FIXME: Change Long in Variable to BigInteger
-				substitutions.put(v, entry.getValue());
-			}
-			ProverSettings proverSettings = ProverSettings.get();
-			ExtendedBoolean solvable = PPolynomial.solvable(
-					as.getPolynomials().toArray(
-							new PPolynomial[as.getPolynomials().size()]),
-					substitutions, as.geoStatement.getKernel(),
-					proverSettings.transcext, as.freeVariables);
-			Log.debug("Recio meets Botana:" + substitutions);
-			if (solvable.boolVal()) {
-				return ProofResult.FALSE;
-			}
-		} else {
-			try {
-				BigInteger[] exactCoordinates = s.getExactCoordinates(values);
-				for (BigInteger result : exactCoordinates) {
-					if (!result.equals(BigInteger.ZERO)) {
-						return ProofResult.FALSE;
-					}
-				}
-			} catch (NoSymbolicParametersException e) {
-				return ProofResult.UNKNOWN;
-			}
-		}
-		return ProofResult.TRUE;
+		List<BigInteger[]> instances = new ArrayList<>();
+		instances.add(new BigInteger[0]);
+		return checkInstances(instances.iterator(), new PVariable[0], values,
+				s, as);
 	}
 
-	private static ProofResult compute1d(final HashSet<PVariable> freeVariables,
+	private ProofResult compute1d(final HashSet<PVariable> freeVariables,
 			final HashMap<PVariable, BigInteger> values, final int deg,
 			final SymbolicParameters s, AlgebraicStatement as) {
-		PVariable variable = freeVariables.iterator().next();
+		PVariable[] variables = toArray(freeVariables);
+		List<BigInteger[]> instances = new ArrayList<>();
 		for (int i = 1; i <= deg + 2; i++) {
-			values.put(variable, BigInteger.valueOf(i));
-			if (as != null) {
-				// use Botana's method
-				HashMap<PVariable, BigInteger> substitutions = new HashMap<>();
-				for (Entry<PVariable, BigInteger> entry : values.entrySet()) {
-					PVariable v = entry.getKey();
-					// FIXME: Change Long in Variable to BigInteger
-					substitutions.put(v, entry.getValue());
-				}
-				ProverSettings proverSettings = ProverSettings.get();
-				ExtendedBoolean solvable = PPolynomial.solvable(
-						as.getPolynomials().toArray(
-								new PPolynomial[as.getPolynomials().size()]),
-						substitutions, as.geoStatement.getKernel(),
-						proverSettings.transcext, as.freeVariables);
-				Log.debug("Recio meets Botana: #" + i + " " + substitutions);
-				if (solvable.boolVal()) {
-					return ProofResult.FALSE;
-				}
-			} else {
-				try {
-					BigInteger[] exactCoordinates = s
-							.getExactCoordinates(values);
-					for (BigInteger result : exactCoordinates) {
-						if (!result.equals(BigInteger.ZERO)) {
-							return ProofResult.FALSE;
-						}
-					}
-				} catch (NoSymbolicParametersException e) {
-					return ProofResult.UNKNOWN;
-				}
-			}
+			instances.add(new BigInteger[] { BigInteger.valueOf(i) });
 		}
-		return ProofResult.TRUE;
+		return checkInstances(instances.iterator(), variables, values, s, as);
 	}
 
-	private static ProofResult compute2d(final HashSet<PVariable> freeVariables,
+	private ProofResult compute2d(final HashSet<PVariable> freeVariables,
 			final HashMap<PVariable, BigInteger> values, final int deg,
 			final SymbolicParameters s, AlgebraicStatement as) {
-		PVariable[] variables = new PVariable[freeVariables.size()];
-		Iterator<PVariable> it = freeVariables.iterator();
-		for (int i = 0; i < variables.length; i++) {
-			variables[i] = it.next();
-		}
-
-		int nrOfTests = (deg + 2) * (deg + 1) / 2;
-		Log.debug("nr of tests: " + nrOfTests);
-		int caseno = 0;
+		PVariable[] variables = toArray(freeVariables);
+		List<BigInteger[]> instances = new ArrayList<>();
 		for (int i = 1; i < /* = */deg + 2; i++) {
 			for (int j = 1; j <= i; j++) {
-				caseno++;
-				values.put(variables[0],
-						BigInteger.valueOf((long) (deg + 2 - i) * (deg + 2 - j)));
-				values.put(variables[1], BigInteger.valueOf((long) i * j));
-
-				if (as != null) {
-					// use Botana's method
-					HashMap<PVariable, BigInteger> substitutions = new HashMap<>();
-					for (Entry<PVariable, BigInteger> entry : values
-							.entrySet()) {
-						PVariable v = entry.getKey();
-						// FIXME: Change Long in Variable to BigInteger
-						substitutions.put(v, entry.getValue());
-					}
-					ExtendedBoolean solvable = PPolynomial.solvable(
-							as.getPolynomials()
-									.toArray(new PPolynomial[as.getPolynomials()
-											.size()]),
-							substitutions, as.geoStatement.getKernel(),
-							ProverSettings.get().transcext, as.freeVariables);
-					Log.debug("Recio meets Botana: #" + caseno + " "
-							+ substitutions);
-					if (solvable.boolVal()) {
-						return ProofResult.FALSE;
-					}
+				instances.add(new BigInteger[] {
+						BigInteger.valueOf((long) (deg + 2 - i) * (deg + 2 - j)),
+						BigInteger.valueOf((long) i * j) });
+			}
+		}
+		Log.debug("nr of tests: " + instances.size());
+		return checkInstances(instances.iterator(), variables, values, s, as);
+	}
+
+	private ProofResult computeNd(HashSet<PVariable> freeVariables,
+			HashMap<PVariable, BigInteger> values, int deg,
+			SymbolicParameters s, AlgebraicStatement as) {
+		PVariable[] variables = toArray(freeVariables);
+		Log.debug("n: " + variables.length + ", deg: " + deg);
+		return checkInstances(new TestInstancesNd(variables.length, deg),
+				variables, values, s, as);
+	}
+
+	/**
+	 * Test instances for n free variables, created one at a time so that the
+	 * check can stop at the first counterexample without creating the rest.
+	 */
+	private static final class TestInstancesNd
+			implements Iterator<BigInteger[]> {
+		private final int n;
+		private final int deg;
+		private final int[] indices;
+		private final BigInteger[][] cache;
+		private int changedIndex;
+		private boolean hasNext = true;
+
+		TestInstancesNd(int n, int deg) {
+			this.n = n;
+			this.deg = deg;
+			indices = new int[n];
+			for (int i = 0; i < n; i++) {
+				indices[i] = n - i;
+			}
+			changedIndex = n - 1;
+			cache = new BigInteger[n][n];
+		}
+
+		@Override
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		@Override
+		public BigInteger[] next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			BigInteger[] coordinates = new BigInteger[n];
+			for (int i = 0; i < n; i++) {
+				BigInteger result;
+
+				if (changedIndex == n - 1) {
+					result = BigInteger.ONE;
 				} else {
-					try {
-						BigInteger[] exactCoordinates = s
-								.getExactCoordinates(values);
-						for (BigInteger result : exactCoordinates) {
-							if (!result.equals(BigInteger.ZERO)) {
-								return ProofResult.FALSE;
-							}
-						}
-					} catch (NoSymbolicParametersException e) {
-						return ProofResult.UNKNOWN;
+					result = cache[i][changedIndex + 1];
+				}
+
+				for (int j = changedIndex; j >= 0; j--) {
+					result = result.multiply(BigInteger.valueOf(n)
+							.multiply(BigInteger.valueOf(indices[j]))
+							.subtract(BigInteger.valueOf(i)));
+					cache[i][j] = result;
+				}
+				coordinates[i] = result;
+			}
+
+			// the created indices sequence is:
+			// [n n-1 n-2 ... 1]
+			// [n+1 n-1 n-2 ... 1]
+			// ...
+			// [n+d n-1 n-2 ... 1]
+			// [n+1 n n-2 ... 1]
+			// [n+2 n n-2 ... 1]
+			// ...
+			// [n+d n+d-1 ... d]
+			hasNext = false;
+			for (int i = 0; i < n; i++) {
+				if (indices[i] < (deg - i + n)) {
+					indices[i]++;
+					for (int j = 0; j < i; j++) {
+						indices[j] = indices[i] + i - j;
 					}
+					changedIndex = i;
+					hasNext = true;
+					break;
 				}
 			}
+			return coordinates;
 		}
-		return ProofResult.TRUE;
+	}
+
+	private static PVariable[] toArray(HashSet<PVariable> freeVariables) {
+		return freeVariables.toArray(new PVariable[0]);
 	}
 
 	/**
-	 * More complicated calculations are done by multiple threads in desktop
+	 * Checks the statement in the given test instances, stops at the first
+	 * one where it does not hold. Platforms with threads may override this to
+	 * check the instances in parallel.
 	 * 
-	 * @param freeVariables
-	 *            The free variables ruling the construction
+	 * @param instances
+	 *            values of the free variables, one array per test; may be
+	 *            created lazily, so only take as many as are checked
+	 * @param variables
+	 *            the free variables ruling the construction
 	 * @param values
-	 *            The values for the fixed variables (If e.g. one point gets
+	 *            the values for the fixed variables (If e.g. one point gets
 	 *            fixed coordinates (0,0) and another (0,1)
-	 * @param deg
-	 *            The bound for the degree of the statement
 	 * @param s
-	 *            The Symbolic parameters class that is used to test the
+	 *            the Symbolic parameters class that is used to test the
 	 *            statement for a fixed point
 	 * @param as
-	 *            The algebraic translation of the statement, if null, use
+	 *            the algebraic translation of the statement, if null, use
 	 *            native computations (by Weitzhofer), otherwise use the Botana
 	 *            equations (by Kovacs/Solyom-Gecse)
 	 * @return the result of the proof
 	 */
+	protected ProofResult checkInstances(Iterator<BigInteger[]> instances,
+			PVariable[] variables, HashMap<PVariable, BigInteger> values,
+			SymbolicParameters s, AlgebraicStatement as) {
+		// the polynomials don't depend on the instance, build them only once
+		PPolynomial[] polynomials = as == null ? null
+				: as.getPolynomials()
+						.toArray(new PPolynomial[as.getPolynomials().size()]);
+		while (instances.hasNext()) {
+			ProofResult result = checkInstance(instances.next(), variables,
+					values, s, as, polynomials);
+			if (result != ProofResult.TRUE) {
+				return result;
+			}
+		}
+		return ProofResult.TRUE;
+	}
 
-	protected abstract ProofResult computeNd(
-			HashSet<PVariable> freeVariables,
-			HashMap<PVariable, BigInteger> values, int deg,
-			SymbolicParameters s, AlgebraicStatement as);
+	/**
+	 * Checks the statement in one test instance.
+	 * 
+	 * @param instance
+	 *            values of the free variables
+	 * @param variables
+	 *            the free variables
+	 * @param values
+	 *            the values for the fixed variables, the free variables are
+	 *            added
+	 * @param s
+	 *            symbolic parameters of the statement
+	 * @param as
+	 *            the algebraic translation of the statement or null
+	 * @param polynomials
+	 *            polynomials of the algebraic translation (if not null)
+	 * @return TRUE if the statement holds, FALSE if not, UNKNOWN if it can't
+	 *         be checked
+	 */
+	protected static ProofResult checkInstance(BigInteger[] instance,
+			PVariable[] variables, HashMap<PVariable, BigInteger> values,
+			SymbolicParameters s, AlgebraicStatement as,
+			PPolynomial[] polynomials) {
+		for (int i = 0; i < variables.length; i++) {
+			values.put(variables[i], instance[i]);
+		}
+		if (as != null) {
+			// use Botana's method
+			HashMap<PVariable, BigInteger> substitutions = new HashMap<>(values);
+			ExtendedBoolean solvable = PPolynomial.solvable(polynomials,
+					substitutions, as.geoStatement.getKernel(),
+					ProverSettings.get().transcext, as.getFreeVariables());
+			Log.debug("Recio meets Botana: " + substitutions);
+			return solvable.boolVal() ? ProofResult.FALSE : ProofResult.TRUE;
+		}
+		try {
+			BigInteger[] exactCoordinates = s.getExactCoordinates(values);
+			for (BigInteger result : exactCoordinates) {
+				if (!result.equals(BigInteger.ZERO)) {
+					return ProofResult.FALSE;
+				}
+			}
+		} catch (NoSymbolicParametersException e) {
+			return ProofResult.UNKNOWN;
+		}
+		return ProofResult.TRUE;
+	}
 
 	/**
 	 * Returns the elements which are fixed by Recio's method prover
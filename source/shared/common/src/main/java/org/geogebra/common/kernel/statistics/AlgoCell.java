@@ -22,8 +22,8 @@ import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.algos.AlgoElement;
 import org.geogebra.common.kernel.commands.Commands;
 import org.geogebra.common.kernel.geos.GeoElement;
-import org.geogebra.common.kernel.geos.GeoElementSpreadsheet;
 import org.geogebra.common.kernel.geos.GeoNumberValue;
+import org.geogebra.common.spreadsheet.core.Spreadsheet;
 
 /**
  * Returns the GeoElement from an object's coordinates in the spreadsheet.
@@ -36,7 +36,6 @@ public class AlgoCell extends AlgoElement {
 	private GeoNumberValue a; // input
 	private GeoNumberValue b; // input
 
-	private String currentLabel;
 	private GeoElement refObject; // referenced object
 	private GeoElement[] inputForUpdateSetPropagation;
 
@@ -132,8 +131,8 @@ public class AlgoCell extends AlgoElement {
 
 	private void updateReferencedObject() {
 		// get new object
-		currentLabel = GeoElementSpreadsheet.getSpreadsheetCellName(
-				(int) a.getDouble() - 1, (int) b.getDouble() - 1);
+		int column = (int) a.getDouble() - 1;
+		int row = (int) b.getDouble() - 1;
 
 		/*
 		 * Do not remove this algorithm from update set of old referenced
@@ -144,8 +143,9 @@ public class AlgoCell extends AlgoElement {
 		 * if (refObject != null) { refObject.getAlgoUpdateSet().remove(this); }
 		 */
 
-		// lookup new object for new label
-		refObject = kernel.lookupLabel(currentLabel);
+		// lookup new object for new coordinates
+		refObject = column < Spreadsheet.MAX_COLUMNS && row < Spreadsheet.MAX_ROWS
+				? kernel.getConstruction().lookupSpreadsheetCell(row, column) : null;
 		inputForUpdateSetPropagation[2] = refObject;
 
 		// change dependencies for this newly referenced object
@@ -45,6 +45,8 @@ public class AlgoCellRange extends AlgoElement {
 	private String endCell; // end cell name
 	private String toStringOutput;
 
+	private static final int UNSORTED = Integer.MIN_VALUE;
+
 	private TabularRange tabularRange;
 	private ArrayList<GeoElement> listItems;
 	private SpreadsheetCoords startCoords;
@@ -107,29 +109,116 @@ public class AlgoCellRange extends AlgoElement {
 	}
 
 	/**
-	 * update list (add/remove geo)
+	 * Update list (add/remove geo) by patching only the affected position.
 	 * 
 	 * @param geo
 	 *            geo to add/remove
+	 * @param location
+	 *            location of the geo (previous location for removed or
+	 *            renamed cells)
 	 * @param isRemoveAction
 	 *            true if remove, false if add
 	 */
-	public void updateList(GeoElement geo, boolean isRemoveAction) {
+	public void updateList(GeoElement geo, SpreadsheetCoords location,
+			boolean isRemoveAction) {
+		boolean changed = isRemoveAction ? removeItem(geo, location)
+				: insertItem(geo, location);
+		if (!changed) {
+			return;
+		}
+		update();
+		geoList.updateRepaint();
+	}
 
-		if (listItems.contains(geo)) {
-			// exit if geo is already in the list
-			if (!isRemoveAction) {
-				return;
-			}
-			listItems.remove(geo);
+	private boolean removeItem(GeoElement geo, SpreadsheetCoords location) {
+		int index = location == null ? -1
+				: findPosition(location.row, location.column);
+		if (index < 0 || listItems.get(index) != geo) {
+			index = listItems.indexOf(geo);
+		}
+		if (index < 0) {
+			return false;
+		}
+		listItems.remove(index);
+		geoList.remove(index);
+		updateMaxExisting();
+		return true;
+	}
 
-		} else {
+	private boolean insertItem(GeoElement geo, SpreadsheetCoords location) {
+		if (location == null || geo.isEmptySpreadsheetCell()) {
+			return false;
+		}
+		int index = findPosition(location.row, location.column);
+		if (index == UNSORTED) {
+			// should not happen, rebuild from scratch to be safe
 			listItems = initCellRangeList(startCoords, endCoords);
+			updateList();
+			return true;
+		}
+		if (index >= 0) {
+			if (listItems.get(index) == geo) {
+				// exit if geo is already in the list
+				return false;
+			}
+			// stale element at the same location
+			listItems.set(index, geo);
+			geoList.replace(geoList.get(index), geo);
+			addToUpdateSets(geo);
+		} else {
+			index = -index - 1;
+			listItems.add(index, geo);
+			geoList.add(index, geo);
+			addToUpdateSets(geo);
 		}
+		updateMaxExisting();
+		return true;
+	}
 
-		updateList();
-		update();
-		geoList.updateRepaint();
+	/**
+	 * Binary search over the list items, which are ordered by column, then row.
+	 * 
+	 * @param row
+	 *            row
+	 * @param column
+	 *            column
+	 * @return index of the item at given location; (-(insertion point) - 1) if
+	 *         there is none; UNSORTED if an item has no cell coordinates
+	 */
+	private int findPosition(int row, int column) {
+		int low = 0;
+		int high = listItems.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			SpreadsheetCoords coords = listItems.get(mid).getSpreadsheetCoords();
+			if (coords == null) {
+				return UNSORTED;
+			}
+			int cmp = coords.column != column ? Integer.compare(coords.column, column)
+					: Integer.compare(coords.row, row);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	private void updateMaxExisting() {
+		if (listItems.isEmpty()) {
+			maxExistingCol = tabularRange.getMinColumn() - 1;
+			maxExistingRow = tabularRange.getMinRow() - 1;
+			return;
+		}
+		SpreadsheetCoords last = listItems.get(listItems.size() - 1)
+				.getSpreadsheetCoords();
+		if (last != null) {
+			maxExistingCol = last.column;
+			maxExistingRow = last.row;
+		}
 	}
 
 	private void updateList() {
@@ -144,6 +233,10 @@ public class AlgoCellRange extends AlgoElement {
 		// add to geo list
 		geoList.add(geo);
 
+		addToUpdateSets(geo);
+	}
+
+	private void addToUpdateSets(GeoElement geo) {
 		// add this to geo update set
 		geo.addToUpdateSetOnly(this);
 
@@ -170,8 +263,8 @@ public class AlgoCellRange extends AlgoElement {
 			maxExistingCol = loc.column;
 			maxExistingRow = loc.row;
 			addToList(geo);
-		} else { // recompute the list
-			updateList(geo, false);
+		} else { // insert at the right position
+			updateList(geo, loc, false);
 		}
 	}
 
@@ -245,6 +338,8 @@ public class AlgoCellRange extends AlgoElement {
 			return listItems1;
 		}
 
+		Construction mainCons = kernel.getConstruction();
+
 		// min and max column and row of range
 		int minCol = Math.min(rangeStart.column, rangeEnd.column);
 		int maxCol = Math.max(rangeStart.column, rangeEnd.column);
@@ -258,9 +353,7 @@ public class AlgoCellRange extends AlgoElement {
 		for (int colIndex = minCol; colIndex <= maxCol; colIndex++) {
 			for (int rowIndex = minRow; rowIndex <= maxRow; rowIndex++) {
 				// get cell object for col, row
-				String cellLabel = GeoElementSpreadsheet
-						.getSpreadsheetCellName(colIndex, rowIndex);
-				GeoElement geo = kernel.lookupLabel(cellLabel);
+				GeoElement geo = mainCons.lookupSpreadsheetCell(rowIndex, colIndex);
 
 				// create missing object in cell range
 				if (geo == null || geo.isEmptySpreadsheetCell()) {
@@ -75,7 +75,7 @@ public class AlgoCellRangeManager {
 
 		for (AlgoCellRange algo : algos.values()) {
 			if (algo.getRange().contains(location)) {
-				algo.updateList(geo, isRemoveAction);
+				algo.updateList(geo, location, isRemoveAction);
 			}
 		}
 	}
@@ -167,6 +167,7 @@ import org.geogebra.common.util.SyntaxAdapterImpl;
 import org.geogebra.common.util.ToStringConverter;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.common.util.profiler.FpsProfiler;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.editor.share.editor.EditorFeatures;
 import org.geogebra.editor.share.util.Unicode;
 
@@ -418,6 +419,7 @@ public abstract class App implements UpdateSelection, AppInterface, EuclidianHos
 	// array of dictionaries corresponding to the sub command tables
 	private LowerCaseDictionary[] subCommandDict;
 	private final Object commandDictLock = new Object();
+	private final MetricsRegistry metrics = new MetricsRegistry();
 	/**
 	 * flag for current state
 	 */
@@ -4774,6 +4776,20 @@ public abstract class App implements UpdateSelection, AppInterface, EuclidianHos
 		// needs to be implemented in subclasses
 	}
 
+	/**
+	 * Saves the result of a 3D export.
+	 *
+	 * @param format 3D format
+	 * @param export text produced by the export, empty for binary formats
+	 *            that stream their output
+	 * @param showDialog whether should show dialog
+	 */
+	public void export3DToFile(Format format, StringBuilder export,
+			boolean showDialog) {
+		exportStringToFile(format.getExtension(), export.toString(),
+				showDialog);
+	}
+
 	/**
 	 * handle image as appropriate
 	 * web: show in lightbox
@@ -4974,6 +4990,13 @@ public abstract class App implements UpdateSelection, AppInterface, EuclidianHos
 		return null;
 	}
 
+	/**
+	 * @return durations of kernel and view operations
+	 */
+	public MetricsRegistry getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Autonomously draws from the coords.json file.
 	 */
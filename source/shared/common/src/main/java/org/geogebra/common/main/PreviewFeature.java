@@ -52,7 +52,11 @@ public enum PreviewFeature {
 	/**
 	 * APPS-7232
 	 */
-	TEXT_DIALOG;
+	TEXT_DIALOG,
+	/**
+	 * Reuse function samples when the view is panned horizontally
+	 */
+	CURVE_SAMPLE_CACHE;
 
 	/**
 	 * Global flag to activate preview features.
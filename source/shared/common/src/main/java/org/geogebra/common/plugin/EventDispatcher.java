@@ -31,7 +31,7 @@ import org.geogebra.common.kernel.geos.GProperty;
 import org.geogebra.common.kernel.geos.GeoElement;
 import org.geogebra.common.kernel.kernelND.GeoElementND;
 import org.geogebra.common.main.App;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 
 import com.google.j2objc.annotations.Weak;
 
@@ -216,9 +216,10 @@ public class EventDispatcher implements ClientView {
 
 	@Override
 	public void update(GeoElement geo) {
-		long start = System.currentTimeMillis();
+		MetricsRegistry metrics = app.getMetrics();
+		double start = metrics.now();
 		dispatchEvent(EventType.UPDATE, geo);
-		GeoGebraProfiler.addEvent(System.currentTimeMillis() - start);
+		metrics.recordSince(MetricsRegistry.EVENT, start);
 	}
 
 	@Override
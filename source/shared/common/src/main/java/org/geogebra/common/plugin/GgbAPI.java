@@ -50,6 +50,7 @@ import org.geogebra.common.kernel.LinearEquationRepresentable;
 import org.geogebra.common.kernel.QuadraticEquationRepresentable;
 import org.geogebra.common.kernel.StringTemplate;
 import org.geogebra.common.kernel.algos.AlgoElement;
+import org.geogebra.common.kernel.algos.AlgoProfiler;
 import org.geogebra.common.kernel.arithmetic.ExpressionNodeConstants;
 import org.geogebra.common.kernel.arithmetic.ValidExpression;
 import org.geogebra.common.kernel.commands.AlgebraProcessor;
@@ -81,6 +82,7 @@ import org.geogebra.common.main.settings.AlgebraSettings;
 import org.geogebra.common.main.settings.EuclidianSettings;
 import org.geogebra.common.ownership.GlobalScope;
 import org.geogebra.common.util.AsyncOperation;
+import org.geogebra.common.util.ProverStatistics;
 import org.geogebra.common.util.StringUtil;
 import org.geogebra.common.util.debug.Log;
 import org.geogebra.editor.share.util.Unicode;
@@ -1045,14 +1047,14 @@ public abstract class GgbAPI implements JavaScriptAPI {
 		}
 
 		if (geo.isGeoText() || geo.isGeoInputBox()) {
-			return geo.toValueString(StringTemplate.defaultTemplate);
+			return geo.getValueStringCached(StringTemplate.defaultTemplate);
 		}
 
 		if (geo.isGeoCasCell()) {
 			return ((GeoCasCell) geo).getOutput(StringTemplate.numericDefault);
 		}
 		StringTemplate template = getOutputTemplate(localized);
-		return geo.getAlgebraDescriptionPublic(template);
+		return geo.getAlgebraDescriptionCached(template);
 	}
 
 	/**
@@ -1082,7 +1084,7 @@ public abstract class GgbAPI implements JavaScriptAPI {
 		if (geo == null) {
 			return "";
 		}
-		return geo.toValueString(StringTemplate.latexTemplate);
+		return geo.getValueStringCached(StringTemplate.latexTemplate);
 	}
 
 	@Override
@@ -2352,6 +2354,58 @@ public abstract class GgbAPI implements JavaScriptAPI {
 		app.getFpsProfiler().setEnabled(false);
 	}
 
+	@Override
+	public void enableMetrics() {
+		app.getMetrics().setEnabled(true);
+	}
+
+	@Override
+	public void disableMetrics() {
+		app.getMetrics().setEnabled(false);
+	}
+
+	@Override
+	public String getMetrics() {
+		return app.getMetrics().toJSON();
+	}
+
+	@Override
+	public void resetMetrics() {
+		app.getMetrics().reset();
+	}
+
+	@Override
+	public void enableAlgoProfiling() {
+		construction.setProfiling(true);
+	}
+
+	@Override
+	public void disableAlgoProfiling() {
+		construction.setProfiling(false);
+	}
+
+	@Override
+	public String getAlgoProfile(int limit) {
+		AlgoProfiler profiler = construction.getAlgoProfiler();
+		return profiler == null ? "{}" : profiler.getReport(limit);
+	}
+
+	@Override
+	public String getAlgoProfileCollapsed() {
+		AlgoProfiler profiler = construction.getAlgoProfiler();
+		return profiler == null ? "" : profiler.getCollapsedStacks();
+	}
+
+	@Override
+	public String getProverStatistics() {
+		return ProverStatistics.get().toJSON();
+	}
+
+	@Override
+	public void resetProverStatistics() {
+		ProverStatistics.get().reset();
+	}
+
 	@Override
 	public void testDraw() {
 		app.testDraw();
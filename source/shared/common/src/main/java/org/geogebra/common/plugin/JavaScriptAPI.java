@@ -1248,6 +1248,68 @@ public interface JavaScriptAPI {
 	 */
 	void disableFpsMeasurement();
 
+	/**
+	 * Starts recording durations of updates, algorithms, CAS, repaints and
+	 * file loading.
+	 */
+	void enableMetrics();
+
+	/**
+	 * Stops recording durations, recorded data are kept.
+	 */
+	void disableMetrics();
+
+	/**
+	 * @return JSON object mapping metric names (e.g. "updateCascade",
+	 *         "compute.Intersect", "repaint.1") to count, sum, min, max, mean
+	 *         and percentiles of durations in milliseconds
+	 */
+	String getMetrics();
+
+	/**
+	 * Drops all recorded durations.
+	 */
+	void resetMetrics();
+
+	/**
+	 * Starts timing computations of all algorithms in the construction;
+	 * previous profiling results are dropped.
+	 */
+	void enableAlgoProfiling();
+
+	/**
+	 * Stops timing computations of algorithms, results are kept.
+	 */
+	void disableAlgoProfiling();
+
+	/**
+	 * @param limit
+	 *            maximal number of labels and commands
+	 * @return JSON object with arrays "labels" and "commands" of the most
+	 *         expensive objects and commands (name, command, count, total and
+	 *         self time in milliseconds), empty if profiling was never enabled
+	 */
+	String getAlgoProfile(int limit);
+
+	/**
+	 * @return profiled algorithm computations in collapsed stack format (one
+	 *         line per call stack with self time in microseconds) for flame
+	 *         graph tools
+	 */
+	String getAlgoProfileCollapsed();
+
+	/**
+	 * @return JSON object mapping prover engines (e.g. "RECIOS_PROVER") to
+	 *         number of runs, number of decisive runs and average time in
+	 *         milliseconds, collected since the start or the last reset
+	 */
+	String getProverStatistics();
+
+	/**
+	 * Drops the collected prover engine statistics.
+	 */
+	void resetProverStatistics();
+
 	/**
 	 * Autonomously draws from the coords.json file.
 	 */
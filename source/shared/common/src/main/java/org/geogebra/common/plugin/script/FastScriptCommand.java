@@ -0,0 +1,163 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.plugin.script;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.ExpressionNode;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.SymbolicMode;
+import org.geogebra.common.kernel.arithmetic.variable.Variable;
+import org.geogebra.common.kernel.commands.Commands;
+import org.geogebra.common.kernel.commands.EvalInfo;
+import org.geogebra.common.kernel.geos.GeoElement;
+import org.geogebra.common.kernel.geos.GeoNumeric;
+import org.geogebra.common.kernel.scripting.CmdSetCoords;
+import org.geogebra.common.kernel.scripting.CmdSetValue;
+import org.geogebra.common.main.MyError;
+
+/**
+ * SetValue(number, expression) or SetCoords(object, expression, expression)
+ * with arguments resolved once, so that running it again only evaluates the
+ * numeric arguments.
+ */
+final class FastScriptCommand {
+
+	private final Kernel kernel;
+	private final Command command;
+	private final Commands name;
+	private final GeoElement target;
+	private final ExpressionNode[] arguments;
+	// objects the command depends on, with the labels they had when resolved
+	private final GeoElement[] references;
+	private final String[] labels;
+	// argument passed to SetValue
+	private GeoNumeric value;
+
+	private FastScriptCommand(Kernel kernel, Command command, Commands name,
+			GeoElement target, ExpressionNode[] arguments,
+			GeoElement[] references) {
+		this.kernel = kernel;
+		this.command = command;
+		this.name = name;
+		this.target = target;
+		this.arguments = arguments;
+		this.references = references;
+		this.labels = new String[references.length];
+		for (int i = 0; i < references.length; i++) {
+			labels[i] = references[i].getLabelSimple();
+		}
+	}
+
+	/**
+	 * @param kernel
+	 *            kernel
+	 * @param command
+	 *            parsed command, arguments are resolved in place
+	 * @return fast command or null if the command is not supported
+	 */
+	static FastScriptCommand compile(Kernel kernel, Command command) {
+		Commands name;
+		if (Commands.SetValue.name().equals(command.getName())
+				&& command.getArgumentNumber() == 2) {
+			name = Commands.SetValue;
+		} else if (Commands.SetCoords.name().equals(command.getName())
+				&& command.getArgumentNumber() == 3) {
+			name = Commands.SetCoords;
+		} else {
+			return null;
+		}
+		ExpressionValue first = command.getArgument(0).unwrap();
+		if (!(first instanceof Variable)) {
+			return null;
+		}
+		GeoElement target = kernel.lookupLabel(((Variable) first).getName());
+		if (target == null
+				|| (name == Commands.SetValue && !target.isGeoNumeric())) {
+			return null;
+		}
+		Set<GeoElement> references = new HashSet<>();
+		references.add(target);
+		ExpressionNode[] arguments = new ExpressionNode[command
+				.getArgumentNumber() - 1];
+		EvalInfo info = new EvalInfo(false).withAutocreate(false);
+		for (int i = 0; i < arguments.length; i++) {
+			ExpressionNode argument = command.getArgument(i + 1);
+			// commands would create new objects during resolution
+			if (argument.any(v -> v instanceof Command)) {
+				return null;
+			}
+			try {
+				argument.resolveVariables(info);
+			} catch (MyError | RuntimeException e) {
+				return null;
+			}
+			if (!argument.evaluatesToNumber(false)) {
+				return null;
+			}
+			argument.getVariables(references, SymbolicMode.NONE);
+			arguments[i] = argument;
+		}
+		for (GeoElement reference : references) {
+			if (!reference.isLabelSet()) {
+				return null;
+			}
+		}
+		return new FastScriptCommand(kernel, command, name, target,
+				arguments, references.toArray(new GeoElement[0]));
+	}
+
+	/**
+	 * @return compiled command
+	 */
+	Command getCommand() {
+		return command;
+	}
+
+	/**
+	 * @return whether all objects used by the command still exist under the
+	 *         same label
+	 */
+	boolean isValid() {
+		for (int i = 0; i < references.length; i++) {
+			if (kernel.lookupLabel(labels[i]) != references[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether the command was executed; if not, it has to be
+	 *         processed the usual way to report the error
+	 */
+	boolean run() {
+		if (name == Commands.SetValue) {
+			if (value == null) {
+				value = new GeoNumeric(kernel.getConstruction());
+			}
+			value.setValue(arguments[0].evaluateDouble());
+			CmdSetValue.setValue2(target, value);
+			return true;
+		}
+		return CmdSetCoords.setCoords(target, arguments[0].evaluateDouble(),
+				arguments[1].evaluateDouble());
+	}
+}
@@ -37,6 +37,8 @@ import org.geogebra.common.util.StringUtil;
 public class GgbScript extends Script {
 
 	private AlgebraProcessor proc;
+	// lines of the last run, reused while the text does not change
+	private GgbScriptPlan plan;
 
 	/**
 	 * @param app
@@ -64,18 +66,22 @@ public class GgbScript extends Script {
 		CommandLookupStrategy lookupStrategy = app.getKernel().getCommandLookupStrategy();
 		app.getKernel().setCommandLookupStrategy(CommandLookupStrategy.SCRIPT);
 		scriptText = substitutePlaceholders(text, evt);
-		String[] lines = scriptText.split("\n");
+		if (plan == null || !plan.getSource().equals(scriptText)) {
+			plan = new GgbScriptPlan(app.getKernel(), scriptText);
+		}
 		boolean success = true;
-		for (int i = 0; i < lines.length; i++) {
-			String line = lines[i].trim();
-			if ("".equals(line) || line.charAt(0) == '#') {
-				continue;
-			}
+		for (GgbScriptPlan.Line line : plan.getLines()) {
 			try {
+				if (plan.runFast(line)) {
+					continue;
+				}
 				GeoElementND[] res = proc
-						.processAlgebraCommandNoExceptionHandling(line, false,
-								new ScriptErrorHandler(app, evt, i), false,
-								null);
+						.processAlgebraCommandNoExceptionHandling(line.command,
+								false, new ScriptErrorHandler(app, evt,
+										line.index), false, null);
+				if (res != null) {
+					plan.compile(line);
+				}
 				success = success && res != null;
 			} catch (Throwable e) {
 				// error handler should actually catch it
@@ -393,6 +399,9 @@ public class GgbScript extends Script {
 			}
 		}
 		text = StringUtil.joinTokens(work, null);
+		if (ret) {
+			plan = null;
+		}
 		return ret;
 	}
 }
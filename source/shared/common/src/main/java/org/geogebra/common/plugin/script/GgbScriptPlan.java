@@ -0,0 +1,145 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.plugin.script;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.geogebra.common.kernel.Kernel;
+import org.geogebra.common.kernel.arithmetic.Command;
+import org.geogebra.common.kernel.arithmetic.ExpressionValue;
+import org.geogebra.common.kernel.arithmetic.ValidExpression;
+import org.geogebra.common.kernel.commands.AlgebraProcessor;
+import org.geogebra.common.kernel.parser.ParseException;
+import org.geogebra.common.main.MyError;
+
+/**
+ * Lines of a GgbScript split once, with SetValue and SetCoords commands
+ * compiled to {@link FastScriptCommand}s on their first successful run.
+ */
+final class GgbScriptPlan {
+
+	private final Kernel kernel;
+	private final AlgebraProcessor proc;
+	private final String source;
+	private final List<Line> lines = new ArrayList<>();
+
+	/**
+	 * Single command of the script.
+	 */
+	static final class Line {
+		/** index of the line in the script, for error messages */
+		final int index;
+		/** trimmed command */
+		final String command;
+		private FastScriptCommand fast;
+		// null: not compiled yet, false: has to be processed every time
+		private Boolean compilable;
+
+		Line(int index, String command) {
+			this.index = index;
+			this.command = command;
+		}
+	}
+
+	/**
+	 * @param kernel
+	 *            kernel
+	 * @param source
+	 *            script text with placeholders substituted
+	 */
+	GgbScriptPlan(Kernel kernel, String source) {
+		this.kernel = kernel;
+		this.proc = kernel.getAlgebraProcessor();
+		this.source = source;
+		String[] split = source.split("\n");
+		for (int i = 0; i < split.length; i++) {
+			String line = split[i].trim();
+			if (!"".equals(line) && line.charAt(0) != '#') {
+				lines.add(new Line(i, line));
+			}
+		}
+	}
+
+	/**
+	 * @return script text this plan was made for
+	 */
+	String getSource() {
+		return source;
+	}
+
+	/**
+	 * @return non-empty lines that are not comments
+	 */
+	List<Line> getLines() {
+		return lines;
+	}
+
+	/**
+	 * Runs the line without going through the algebra processor if possible.
+	 *
+	 * @param line
+	 *            line of this plan
+	 * @return whether the line was executed
+	 */
+	boolean runFast(Line line) {
+		if (line.fast != null && !line.fast.isValid()) {
+			// an object was renamed, deleted or redefined
+			line.fast = null;
+			line.compilable = null;
+		}
+		if (line.fast == null) {
+			return false;
+		}
+		// command filters may change (e.g. exam start)
+		return proc.isAllowedWithoutProcessing(line.fast.getCommand())
+				&& line.fast.run();
+	}
+
+	/**
+	 * Compiles the line after it was processed successfully.
+	 *
+	 * @param line
+	 *            line of this plan
+	 */
+	void compile(Line line) {
+		if (line.compilable != null) {
+			return;
+		}
+		Command command = parseCommand(line.command);
+		if (command != null && proc.isAllowedWithoutProcessing(command)) {
+			line.fast = FastScriptCommand.compile(kernel, command);
+		}
+		line.compilable = line.fast != null;
+	}
+
+	private Command parseCommand(String line) {
+		// cheap check before parsing
+		if (!line.startsWith("SetValue") && !line.startsWith("SetCoords")) {
+			return null;
+		}
+		try {
+			ValidExpression ve = kernel.getParser()
+					.parseGeoGebraExpression(line);
+			ExpressionValue unwrapped = ve.unwrap();
+			return unwrapped instanceof Command && ve.getLabel() == null
+					? (Command) unwrapped : null;
+		} catch (ParseException | MyError | RuntimeException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.spreadsheet.core;
+
+import javax.annotation.CheckForNull;
+
+/**
+ * Sparse map from (row, column) to cell content.
+ * <p>
+ * Coordinates are packed into a single {@code long} key and stored in an open-addressing
+ * table with linear probing, so lookups neither box the coordinates nor build cell labels.
+ * </p>
+ * @param <T> cell content type
+ */
+public final class SparseCellMap<T> {
+
+	private static final int MIN_CAPACITY = 16;
+	private static final long EMPTY = -1L;
+
+	private long[] keys;
+	private Object[] values;
+	private int size;
+	private int mask;
+	private int resizeThreshold;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public SparseCellMap() {
+		allocate(MIN_CAPACITY);
+	}
+
+	/**
+	 * @param row row (0 based)
+	 * @param column column (0 based)
+	 * @return content of the cell, null if empty
+	 */
+	@SuppressWarnings("unchecked")
+	public @CheckForNull T get(int row, int column) {
+		if (row < 0 || column < 0) {
+			return null;
+		}
+		long key = pack(row, column);
+		int slot = hash(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				return (T) values[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Sets the content of a cell; null content removes the cell.
+	 * @param row row (0 based)
+	 * @param column column (0 based)
+	 * @param value new content
+	 * @return previous content, null if the cell was empty
+	 */
+	@SuppressWarnings("unchecked")
+	public @CheckForNull T put(int row, int column, @CheckForNull T value) {
+		if (value == null) {
+			return remove(row, column);
+		}
+		if (row < 0 || column < 0) {
+			return null;
+		}
+		long key = pack(row, column);
+		int slot = hash(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				T old = (T) values[slot];
+				values[slot] = value;
+				return old;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		size++;
+		if (size > resizeThreshold) {
+			rehash(keys.length * 2);
+		}
+		return null;
+	}
+
+	/**
+	 * @param row row (0 based)
+	 * @param column column (0 based)
+	 * @return removed content, null if the cell was empty
+	 */
+	@SuppressWarnings("unchecked")
+	public @CheckForNull T remove(int row, int column) {
+		if (row < 0 || column < 0) {
+			return null;
+		}
+		long key = pack(row, column);
+		int slot = hash(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				T old = (T) values[slot];
+				deleteSlot(slot);
+				size--;
+				return old;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the cell only if it currently holds the given content.
+	 * @param row row (0 based)
+	 * @param column column (0 based)
+	 * @param value expected content
+	 * @return whether the cell was removed
+	 */
+	public boolean remove(int row, int column, T value) {
+		if (get(row, column) != value) {
+			return false;
+		}
+		remove(row, column);
+		return true;
+	}
+
+	/**
+	 * @return number of non-empty cells
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return whether there are no cells
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all cells.
+	 */
+	public void clear() {
+		if (size > 0 || keys.length > MIN_CAPACITY) {
+			allocate(MIN_CAPACITY);
+		}
+	}
+
+	/**
+	 * Calls the consumer for every non-empty cell, in no particular order.
+	 * @param consumer cell consumer
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(CellConsumer<T> consumer) {
+		long[] currentKeys = keys;
+		Object[] currentValues = values;
+		for (int i = 0; i < currentKeys.length; i++) {
+			if (currentKeys[i] != EMPTY) {
+				consumer.accept(unpackRow(currentKeys[i]), unpackColumn(currentKeys[i]),
+						(T) currentValues[i]);
+			}
+		}
+	}
+
+	/**
+	 * Callback for {@link #forEach(CellConsumer)}.
+	 * @param <T> cell content type
+	 */
+	public interface CellConsumer<T> {
+		/**
+		 * @param row row (0 based)
+		 * @param column column (0 based)
+		 * @param value cell content
+		 */
+		void accept(int row, int column, T value);
+	}
+
+	private void deleteSlot(int slot) {
+		// backward shift deletion keeps probe sequences intact without tombstones
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = hash(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				values[hole] = values[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = EMPTY;
+		values[hole] = null;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY) {
+				int slot = hash(oldKeys[i]) & mask;
+				while (keys[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				size++;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		for (int i = 0; i < capacity; i++) {
+			keys[i] = EMPTY;
+		}
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity * 3 / 4;
+		size = 0;
+	}
+
+	private static long pack(int row, int column) {
+		return ((long) row << 32) | (column & 0xFFFFFFFFL);
+	}
+
+	private static int unpackRow(long key) {
+		return (int) (key >>> 32);
+	}
+
+	private static int unpackColumn(long key) {
+		return (int) key;
+	}
+
+	private static int hash(long key) {
+		int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util;
+
+/**
+ * Writes decimal representations of doubles directly into a StringBuilder.
+ *
+ * <p>
+ * Rounding is done on the exact binary value of the number (the product with
+ * a power of ten is computed as an unevaluated sum of two doubles), so the
+ * output matches {@link NumberFormatAdapter} with round half up. Numbers whose
+ * scaled value does not fit into 52 bits are not handled, neither are exact
+ * ties for significant digits, where platform formatters disagree; in that
+ * case the methods return false and do not change the builder.
+ * </p>
+ */
+public final class DoubleFormatter {
+
+	// scaled values below this have exact integer and fractional parts
+	private static final double MAX_SCALED = 4503599627370496.0; // 2^52
+	// Veltkamp splitting constant 2^27 + 1
+	private static final double SPLITTER = 134217729.0;
+	private static final double[] POWERS = new double[23];
+	private static final long[] LONG_POWERS = new long[19];
+
+	static {
+		POWERS[0] = 1;
+		for (int i = 1; i < POWERS.length; i++) {
+			POWERS[i] = POWERS[i - 1] * 10;
+		}
+		LONG_POWERS[0] = 1;
+		for (int i = 1; i < LONG_POWERS.length; i++) {
+			LONG_POWERS[i] = LONG_POWERS[i - 1] * 10;
+		}
+	}
+
+	private DoubleFormatter() {
+		// utility class
+	}
+
+	/**
+	 * Appends the number rounded half up to given number of fractional
+	 * digits, without trailing zeros, e.g. 1.5 for 1.4999 and 2 digits.
+	 *
+	 * @param sb
+	 *            output
+	 * @param x
+	 *            number
+	 * @param fractionDigits
+	 *            maximal number of fractional digits
+	 * @return whether the number was appended
+	 */
+	public static boolean appendFixed(StringBuilder sb, double x,
+			int fractionDigits) {
+		if (Double.isNaN(x) || Double.isInfinite(x) || fractionDigits < 0
+				|| fractionDigits >= LONG_POWERS.length) {
+			return false;
+		}
+		long scaled = round(Math.abs(x), fractionDigits, true);
+		if (scaled < 0) {
+			return false;
+		}
+		// same as NumberFormat: -0.001 is "-0"
+		if (x < 0 || (x == 0 && 1 / x < 0)) {
+			sb.append('-');
+		}
+		long unit = LONG_POWERS[fractionDigits];
+		sb.append(scaled / unit);
+		long fraction = scaled % unit;
+		int length = fractionDigits;
+		while (length > 0 && fraction % 10 == 0) {
+			fraction /= 10;
+			length--;
+		}
+		if (length > 0) {
+			sb.append('.');
+			appendPadded(sb, fraction, length);
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the number rounded to given number of significant digits, like
+	 * {@link ScientificFormatAdapter} without E notation, e.g. 0.012300 for
+	 * 0.0123 and 5 digits. Numbers that would need E notation and exact ties
+	 * are not handled.
+	 *
+	 * @param sb
+	 *            output
+	 * @param x
+	 *            number
+	 * @param sigDigits
+	 *            number of significant digits
+	 * @param maxWidth
+	 *            maximal number of digits before the decimal point (and
+	 *            maximal number of leading zeros plus significant digits after
+	 *            it)
+	 * @return whether the number was appended
+	 */
+	public static boolean appendSignificant(StringBuilder sb, double x,
+			int sigDigits, int maxWidth) {
+		if (Double.isNaN(x) || Double.isInfinite(x) || sigDigits < 2
+				|| sigDigits >= LONG_POWERS.length) {
+			return false;
+		}
+		double abs = Math.abs(x);
+		long digits = 0;
+		int exponent = 1;
+		if (abs != 0) {
+			int power = (int) Math.floor(Math.log10(abs));
+			digits = round(abs, sigDigits - 1 - power, false);
+			// log10 may be off by one, rounding may carry to the next power
+			if (digits >= LONG_POWERS[sigDigits]) {
+				power++;
+				digits = round(abs, sigDigits - 1 - power, false);
+			} else if (digits >= 0 && digits < LONG_POWERS[sigDigits - 1]) {
+				power--;
+				digits = round(abs, sigDigits - 1 - power, false);
+			}
+			if (digits < LONG_POWERS[sigDigits - 1]
+					|| digits >= LONG_POWERS[sigDigits]) {
+				return false;
+			}
+			exponent = power + 1;
+		}
+		if (exponent > maxWidth || exponent < -maxWidth + sigDigits + 1) {
+			return false;
+		}
+		if (x < 0) {
+			sb.append('-');
+		}
+		if (exponent <= 0) {
+			sb.append("0.");
+			for (int i = exponent; i < 0; i++) {
+				sb.append('0');
+			}
+			appendPadded(sb, digits, sigDigits);
+		} else if (exponent >= sigDigits) {
+			appendPadded(sb, digits, sigDigits);
+			for (int i = sigDigits; i < exponent; i++) {
+				sb.append('0');
+			}
+		} else {
+			long unit = LONG_POWERS[sigDigits - exponent];
+			sb.append(digits / unit);
+			sb.append('.');
+			appendPadded(sb, digits % unit, sigDigits - exponent);
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the shortest decimal that parses back to the same double, in
+	 * the format of {@link Double#toString(double)} (at least one fractional
+	 * digit). Only numbers between 0.001 and 10^7 (in absolute value) are
+	 * handled, others would need E notation.
+	 *
+	 * @param sb
+	 *            output
+	 * @param x
+	 *            number
+	 * @return whether the number was appended
+	 */
+	public static boolean appendShortest(StringBuilder sb, double x) {
+		double abs = Math.abs(x);
+		if (!(abs >= 1E-3 && abs < 1E7)) {
+			return false;
+		}
+		for (int fractionDigits = 1; fractionDigits < POWERS.length
+				&& fractionDigits < LONG_POWERS.length; fractionDigits++) {
+			long scaled = round(abs, fractionDigits, true);
+			if (scaled < 0) {
+				return false;
+			}
+			// exact quotient is correctly rounded, same as parsing the digits
+			if (scaled / POWERS[fractionDigits] == abs) {
+				if (x < 0) {
+					sb.append('-');
+				}
+				long unit = LONG_POWERS[fractionDigits];
+				sb.append(scaled / unit);
+				sb.append('.');
+				long fraction = scaled % unit;
+				int length = fractionDigits;
+				while (length > 1 && fraction % 10 == 0) {
+					fraction /= 10;
+					length--;
+				}
+				appendPadded(sb, fraction, length);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Rounds x * 10^exponent to an integer.
+	 *
+	 * @param x
+	 *            non-negative finite number
+	 * @param exponent
+	 *            decimal exponent
+	 * @param tiesUp
+	 *            whether ties are rounded up (otherwise they are not handled)
+	 * @return rounded value or -1 if out of range
+	 */
+	static long round(double x, int exponent, boolean tiesUp) {
+		if (exponent >= POWERS.length || exponent <= -POWERS.length) {
+			return -1;
+		}
+		double hi;
+		// only the sign of lo matters: exact value is hi + (something with
+		// the sign of lo) and |lo| is less than half an ulp of hi
+		double lo;
+		if (exponent >= 0) {
+			double power = POWERS[exponent];
+			hi = x * power;
+			if (!(hi < MAX_SCALED)) {
+				return -1;
+			}
+			lo = productError(x, power, hi);
+		} else {
+			double power = POWERS[-exponent];
+			hi = x / power;
+			if (!(hi < MAX_SCALED)) {
+				return -1;
+			}
+			double product = hi * power;
+			// remainder x - hi * power, x - product is exact
+			lo = (x - product) - productError(hi, power, product);
+		}
+		double floor = Math.floor(hi);
+		double fraction = hi - floor - 0.5;
+		long ret = (long) floor;
+		if (fraction > 0) {
+			return ret + 1;
+		}
+		if (fraction < 0) {
+			return ret;
+		}
+		if (lo != 0) {
+			return lo > 0 ? ret + 1 : ret;
+		}
+		return tiesUp ? ret + 1 : -1;
+	}
+
+	/**
+	 * @return a * b - product, exactly (Dekker)
+	 */
+	private static double productError(double a, double b, double product) {
+		double c = SPLITTER * a;
+		double aHigh = c - (c - a);
+		double aLow = a - aHigh;
+		c = SPLITTER * b;
+		double bHigh = c - (c - b);
+		double bLow = b - bHigh;
+		return ((aHigh * bHigh - product) + aHigh * bLow + aLow * bHigh)
+				+ aLow * bLow;
+	}
+
+	private static void appendPadded(StringBuilder sb, long value,
+			int length) {
+		for (int i = length - 1; i > 0 && value < LONG_POWERS[i]; i--) {
+			sb.append('0');
+		}
+		sb.append(value);
+	}
+}
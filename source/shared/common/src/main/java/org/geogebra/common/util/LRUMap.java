@@ -22,6 +22,25 @@ import java.util.Map;
 public class LRUMap<K, V> extends LinkedHashMap<K, V> {
 
 	private static final int MAX_ENTRIES = 100;
+	private final int maxEntries;
+
+	/**
+	 * Map keeping the 100 most recently accessed entries.
+	 */
+	public LRUMap() {
+		this(MAX_ENTRIES);
+	}
+
+	/**
+	 * Map keeping the most recently accessed entries.
+	 *
+	 * @param maxEntries
+	 *            maximal number of entries
+	 */
+	public LRUMap(int maxEntries) {
+		super(16, 0.75f, true);
+		this.maxEntries = maxEntries;
+	}
 
 	/**
 	 * https://docs.oracle.com/javase/6/docs/api/java/util/LinkedHashMap.html#
@@ -33,7 +52,7 @@ public class LRUMap<K, V> extends LinkedHashMap<K, V> {
 	 */
 	@Override
 	protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-		return size() > MAX_ENTRIES;
+		return size() > maxEntries;
 	}
 
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.TreeSet;
 
+import org.geogebra.common.factories.UtilFactory;
 import org.geogebra.common.io.XMLStringBuilder;
 import org.geogebra.common.kernel.Construction;
 import org.geogebra.common.kernel.StringTemplate;
@@ -527,17 +528,20 @@ public abstract class Prover {
 
 		// Step 4: AUTO prover
 		Log.debug("Using " + engine);
-		Iterator<ProverEngine> it;
-		if (isReturnExtraNDGs()) {
-			it = proveDetailsAutoOrder.iterator();
-		} else {
-			it = proveAutoOrder.iterator();
-		}
+		Iterator<ProverEngine> it = getAutoEngines().iterator();
 		result = ProofResult.UNKNOWN;
 		while ((result == ProofResult.UNKNOWN
 				|| result == ProofResult.TRUE_NDG_UNREADABLE)
 				&& it.hasNext()) {
-			ProverEngine pe = it.next();
+			callEngine(it.next());
+		}
+		Log.debug("Prover statistics:\n" + ProverStatistics.get());
+	}
+
+	private List<ProverEngine> getAutoEngines() {
+		List<ProverEngine> engines = new ArrayList<>();
+		for (ProverEngine pe : isReturnExtraNDGs() ? proveDetailsAutoOrder
+				: proveAutoOrder) {
 			if (pe == ProverEngine.OPENGEOPROVER_WU
 					|| pe == ProverEngine.OPENGEOPROVER_AREA) {
 				/*
@@ -552,8 +556,9 @@ public abstract class Prover {
 					continue; /* try the next prover */
 				}
 			}
-			callEngine(pe);
+			engines.add(pe);
 		}
+		return engines;
 	}
 
 	/**
@@ -575,18 +580,29 @@ public abstract class Prover {
 	private void callEngine(ProverEngine currentEngine) {
 		Log.debug("Using " + currentEngine);
 		ndgConditions = new HashSet<>(); // reset
+		double startTime = UtilFactory.getPrototype().getMillisecondTime();
+		ProofResult pr = null;
 		if (currentEngine == ProverEngine.BOTANAS_PROVER) {
 			ProverBotanasMethod pbm = new ProverBotanasMethod();
-			result = override(pbm.prove(this));
+			pr = pbm.prove(this);
 		} else if (currentEngine == ProverEngine.RECIOS_PROVER) {
-			result = override(getReciosProver().prove(this));
+			pr = getReciosProver().prove(this);
 		} else if (currentEngine == ProverEngine.PURE_SYMBOLIC_PROVER) {
-			result = override(ProverPureSymbolicMethod.prove(this));
+			pr = ProverPureSymbolicMethod.prove(this);
 		} else if (currentEngine == ProverEngine.OPENGEOPROVER_WU
 				|| currentEngine == ProverEngine.OPENGEOPROVER_AREA) {
-			result = override(openGeoProver(currentEngine));
+			pr = openGeoProver(currentEngine);
+		} else {
+			return;
 		}
-
+		double time = UtilFactory.getPrototype().getMillisecondTime()
+				- startTime;
+		Log.debug(currentEngine + " returned " + pr + " in " + Math.round(time)
+				+ " ms");
+		if (pr != null) {
+			ProverStatistics.get().record(currentEngine, pr, time);
+		}
+		result = override(pr);
 	}
 
 	/**
@@ -0,0 +1,151 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util;
+
+import org.geogebra.common.move.ggtapi.models.json.JSONException;
+import org.geogebra.common.move.ggtapi.models.json.JSONObject;
+import org.geogebra.common.util.Prover.ProofResult;
+import org.geogebra.common.util.Prover.ProverEngine;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Collects how long each prover engine runs and how often it decides the
+ * statement, to help choosing the order of the engines in AUTO mode.
+ */
+public final class ProverStatistics {
+
+	private static final ProverStatistics INSTANCE = new ProverStatistics();
+
+	private final int[] runs = new int[ProverEngine.values().length];
+	private final int[] decisiveRuns = new int[runs.length];
+	private final double[] totalTime = new double[runs.length];
+
+	private ProverStatistics() {
+		// singleton constructor
+	}
+
+	/**
+	 * @return singleton instance
+	 */
+	public static ProverStatistics get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Records a finished engine run.
+	 * 
+	 * @param engine
+	 *            engine
+	 * @param result
+	 *            result of the engine
+	 * @param millis
+	 *            running time in milliseconds
+	 */
+	public synchronized void record(ProverEngine engine, ProofResult result,
+			double millis) {
+		int i = engine.ordinal();
+		runs[i]++;
+		totalTime[i] += millis;
+		if (isDecisive(result)) {
+			decisiveRuns[i]++;
+		}
+	}
+
+	// AUTO mode only tries the next engine after these results
+	private static boolean isDecisive(ProofResult result) {
+		return result != ProofResult.UNKNOWN
+				&& result != ProofResult.TRUE_NDG_UNREADABLE;
+	}
+
+	/**
+	 * @param engine
+	 *            engine
+	 * @return number of finished runs
+	 */
+	public synchronized int getRuns(ProverEngine engine) {
+		return runs[engine.ordinal()];
+	}
+
+	/**
+	 * @param engine
+	 *            engine
+	 * @return number of runs that decided the statement
+	 */
+	public synchronized int getDecisiveRuns(ProverEngine engine) {
+		return decisiveRuns[engine.ordinal()];
+	}
+
+	/**
+	 * @param engine
+	 *            engine
+	 * @return average running time in milliseconds, NaN if never run
+	 */
+	public synchronized double getAverageTime(ProverEngine engine) {
+		int i = engine.ordinal();
+		return runs[i] == 0 ? Double.NaN : totalTime[i] / runs[i];
+	}
+
+	/**
+	 * Forgets all recorded runs.
+	 */
+	public synchronized void reset() {
+		for (int i = 0; i < runs.length; i++) {
+			runs[i] = 0;
+			decisiveRuns[i] = 0;
+			totalTime[i] = 0;
+		}
+	}
+
+	/**
+	 * @return JSON object mapping engine names to number of runs, number of
+	 *         decisive runs and average time in milliseconds; engines that
+	 *         never ran are left out
+	 */
+	public synchronized String toJSON() {
+		JSONObject json = new JSONObject();
+		try {
+			for (ProverEngine engine : ProverEngine.values()) {
+				int i = engine.ordinal();
+				if (runs[i] > 0) {
+					JSONObject entry = new JSONObject();
+					entry.put("runs", runs[i]);
+					entry.put("decisive", decisiveRuns[i]);
+					entry.put("average", totalTime[i] / runs[i]);
+					json.put(engine.name(), entry);
+				}
+			}
+		} catch (JSONException e) {
+			Log.debug(e);
+		}
+		return json.toString();
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (ProverEngine engine : ProverEngine.values()) {
+			int i = engine.ordinal();
+			if (runs[i] > 0) {
+				sb.append(engine).append(": ").append(decisiveRuns[i])
+						.append('/').append(runs[i]).append(" decided, ")
+						.append(Math.round(totalTime[i] / runs[i]))
+						.append(" ms avg\n");
+			}
+		}
+		return sb.toString();
+	}
+}
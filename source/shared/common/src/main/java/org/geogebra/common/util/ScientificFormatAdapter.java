@@ -36,6 +36,16 @@ public interface ScientificFormatAdapter {
 	 */
 	void setMaxWidth(int mWidth);
 
+	/**
+	 * @return maximum width
+	 */
+	int getMaxWidth();
+
+	/**
+	 * @return whether E notation is used for all numbers
+	 */
+	boolean isScientificNotationStyle();
+
 	/**
 	 * @param d number
 	 * @return formatted number
@@ -0,0 +1,156 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util.profiler;
+
+import org.geogebra.common.move.ggtapi.models.json.JSONException;
+import org.geogebra.common.move.ggtapi.models.json.JSONObject;
+
+/**
+ * Distribution of durations in buckets with exponentially growing bounds
+ * (10 microseconds, 20 microseconds, ..., about 20 minutes), so that
+ * percentiles can be estimated with constant memory.
+ */
+public final class Histogram {
+
+	private static final double FIRST_BOUND = 0.01;
+	private static final int BUCKETS = 28;
+
+	private final long[] buckets = new long[BUCKETS + 1];
+	private long count;
+	private double sum;
+	private double min = Double.POSITIVE_INFINITY;
+	private double max;
+
+	/**
+	 * @param millis
+	 *            duration in milliseconds
+	 */
+	void record(double millis) {
+		double value = Math.max(millis, 0);
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		buckets[getBucket(value)]++;
+	}
+
+	private static int getBucket(double millis) {
+		if (millis <= FIRST_BOUND) {
+			return 0;
+		}
+		int bucket = (int) Math.ceil(Math.log(millis / FIRST_BOUND) / Math.log(2));
+		return Math.min(bucket, BUCKETS);
+	}
+
+	/**
+	 * @param bucket
+	 *            bucket index
+	 * @return upper bound of the bucket in milliseconds
+	 */
+	static double getBucketBound(int bucket) {
+		return bucket >= BUCKETS ? Double.POSITIVE_INFINITY
+				: FIRST_BOUND * Math.pow(2, bucket);
+	}
+
+	/**
+	 * @return number of recorded durations
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return total duration in milliseconds
+	 */
+	public double getSum() {
+		return sum;
+	}
+
+	/**
+	 * @return mean duration in milliseconds, 0 if empty
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : sum / count;
+	}
+
+	/**
+	 * @return shortest duration in milliseconds, 0 if empty
+	 */
+	public double getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * @return longest duration in milliseconds
+	 */
+	public double getMax() {
+		return max;
+	}
+
+	/**
+	 * Estimates a percentile by the upper bound of the bucket it falls in.
+	 *
+	 * @param percentile
+	 *            percentile between 0 and 100
+	 * @return estimated duration in milliseconds, 0 if empty
+	 */
+	public double getPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(count * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (seen >= rank && seen > 0) {
+				return Math.min(getBucketBound(i), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * @return copy of this histogram
+	 */
+	Histogram copy() {
+		Histogram copy = new Histogram();
+		System.arraycopy(buckets, 0, copy.buckets, 0, buckets.length);
+		copy.count = count;
+		copy.sum = sum;
+		copy.min = min;
+		copy.max = max;
+		return copy;
+	}
+
+	/**
+	 * @return count, sum, min, max, mean and percentiles as JSON
+	 * @throws JSONException
+	 *             if JSON can't be created
+	 */
+	JSONObject toJSON() throws JSONException {
+		JSONObject json = new JSONObject();
+		json.put("count", count);
+		json.put("sum", sum);
+		json.put("min", getMin());
+		json.put("max", max);
+		json.put("mean", getMean());
+		json.put("p50", getPercentile(50));
+		json.put("p90", getPercentile(90));
+		json.put("p99", getPercentile(99));
+		return json;
+	}
+}
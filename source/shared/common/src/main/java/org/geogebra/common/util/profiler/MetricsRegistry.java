@@ -0,0 +1,162 @@
+/*
+ * GeoGebra - Dynamic Mathematics for Everyone
+ * Copyright (c) GeoGebra GmbH, Altenbergerstr. 69, 4040 Linz, Austria
+ * https://www.geogebra.org
+ *
+ * This file is licensed by GeoGebra GmbH under the EUPL 1.2 licence and
+ * may be used under the EUPL 1.2 in compatible projects (see Article 5
+ * and the Appendix of EUPL 1.2 for details).
+ * You may obtain a copy of the licence at:
+ * https://interoperable-europe.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ *
+ * Note: The overall GeoGebra software package is free to use for
+ * non-commercial purposes only.
+ * See https://www.geogebra.org/license for full licensing details
+ */
+
+package org.geogebra.common.util.profiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.geogebra.common.factories.UtilFactory;
+import org.geogebra.common.move.ggtapi.models.json.JSONException;
+import org.geogebra.common.move.ggtapi.models.json.JSONObject;
+import org.geogebra.common.util.debug.Log;
+
+/**
+ * Named duration histograms of kernel and view operations. Recording is off
+ * by default; while disabled, {@link #now()} and {@link #recordSince} do not
+ * even read the clock.
+ *
+ * <p>
+ * Typical use:
+ * </p>
+ *
+ * <pre>
+ * double start = metrics.now();
+ * doWork();
+ * metrics.recordSince(MetricsRegistry.UPDATE_CASCADE, start);
+ * </pre>
+ */
+public class MetricsRegistry {
+
+	/** update of an element and all dependent elements */
+	public static final String UPDATE_CASCADE = "updateCascade";
+	/** prefix for compute time of algorithms, followed by command name */
+	public static final String COMPUTE = "compute.";
+	/** CAS evaluation */
+	public static final String CAS = "cas";
+	/** prefix for repaint time, followed by view ID */
+	public static final String REPAINT = "repaint.";
+	/** handling of a drag event */
+	public static final String DRAG = "drag";
+	/** algebra view update */
+	public static final String ALGEBRA_VIEW = "algebraView";
+	/** dispatching of a script event */
+	public static final String EVENT = "event";
+	/** prefix for phases of XML loading, followed by phase name */
+	public static final String XML_LOAD = "xmlLoad.";
+
+	private final TreeMap<String, Histogram> histograms = new TreeMap<>();
+	private boolean enabled;
+
+	/**
+	 * @return whether durations are recorded
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @param enabled
+	 *            whether to record durations
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return current time in milliseconds, 0 if disabled
+	 */
+	public double now() {
+		return enabled ? UtilFactory.getPrototype().getMillisecondTime() : 0;
+	}
+
+	/**
+	 * Records the time since start if enabled. Nothing is recorded if
+	 * recording was disabled when start was taken.
+	 *
+	 * @param name
+	 *            histogram name
+	 * @param start
+	 *            start time from {@link #now()}
+	 */
+	public void recordSince(String name, double start) {
+		if (enabled && start != 0) {
+			record(name, now() - start);
+		}
+	}
+
+	/**
+	 * Records a duration if enabled.
+	 *
+	 * @param name
+	 *            histogram name
+	 * @param millis
+	 *            duration in milliseconds
+	 */
+	public synchronized void record(String name, double millis) {
+		if (!enabled) {
+			return;
+		}
+		Histogram histogram = histograms.get(name);
+		if (histogram == null) {
+			histogram = new Histogram();
+			histograms.put(name, histogram);
+		}
+		histogram.record(millis);
+	}
+
+	/**
+	 * @param name
+	 *            histogram name
+	 * @return copy of the histogram, null if nothing was recorded
+	 */
+	public synchronized Histogram getHistogram(String name) {
+		Histogram histogram = histograms.get(name);
+		return histogram == null ? null : histogram.copy();
+	}
+
+	/**
+	 * @return names of histograms with recorded durations, sorted
+	 */
+	public synchronized List<String> getNames() {
+		return new ArrayList<>(histograms.keySet());
+	}
+
+	/**
+	 * Drops all recorded durations.
+	 */
+	public synchronized void reset() {
+		histograms.clear();
+	}
+
+	/**
+	 * @return JSON object mapping histogram names to count, sum, min, max,
+	 *         mean and percentiles (p50, p90, p99); durations in milliseconds
+	 */
+	public synchronized String toJSON() {
+		JSONObject json = new JSONObject();
+		try {
+			for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+				json.put(entry.getKey(), entry.getValue().toJSON());
+			}
+		} catch (JSONException e) {
+			Log.debug(e);
+		}
+		return json.toString();
+	}
+}
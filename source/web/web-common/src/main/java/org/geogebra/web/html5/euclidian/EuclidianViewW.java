@@ -51,8 +51,8 @@ import org.geogebra.common.main.App.ExportType;
 import org.geogebra.common.main.settings.AbstractSettings;
 import org.geogebra.common.main.settings.EuclidianSettings;
 import org.geogebra.common.util.DoubleUtil;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.ggbjdk.java.awt.DefaultBasicStroke;
 import org.geogebra.ggbjdk.java.awt.geom.Dimension;
 import org.geogebra.web.awt.GBufferedImageW;
@@ -275,6 +275,7 @@ public class EuclidianViewW extends EuclidianView implements
 	 */
 	public final void doRepaint2() {
 		long time = System.currentTimeMillis();
+		double start = app.getMetrics().now();
 
 		if (cacheGraphics != null && cacheGraphics) {
 			overlayGraphics.clearRect(0, 0, getWidth(), getHeight());
@@ -297,7 +298,8 @@ public class EuclidianViewW extends EuclidianView implements
 		// if we have pen tool in action
 		// repaint the preview line
 		lastRepaint = System.currentTimeMillis() - time;
-		GeoGebraProfiler.addRepaint(lastRepaint);
+		app.getMetrics().recordSince(MetricsRegistry.REPAINT + getViewID(),
+				start);
 		app.getFpsProfiler().notifyRepaint();
 	}
 
@@ -24,9 +24,8 @@ import org.geogebra.common.euclidian.controller.MouseTouchGestureController;
 import org.geogebra.common.euclidian.event.AbstractEvent;
 import org.geogebra.common.euclidian.event.PointerEventType;
 import org.geogebra.common.util.StringUtil;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
-import org.geogebra.web.html5.euclidian.profiler.FpsProfilerW;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.web.html5.euclidian.profiler.drawer.DrawingEmulator;
 import org.geogebra.web.html5.euclidian.profiler.drawer.DrawingRecorder;
 import org.geogebra.web.html5.event.HasOffsets;
@@ -152,10 +151,9 @@ public class MouseTouchGestureControllerW extends MouseTouchGestureController
 	}
 
 	private void wrapMouseDraggedWithProfiling(PointerEvent event, boolean startCapture) {
-		double dragStart = FpsProfilerW.getMillisecondTimeNative();
+		double dragStart = app.getMetrics().now();
 		ec.wrapMouseDragged(event, startCapture);
-		GeoGebraProfiler.addDrag(
-				(long) (FpsProfilerW.getMillisecondTimeNative() - dragStart));
+		app.getMetrics().recordSince(MetricsRegistry.DRAG, dragStart);
 	}
 
 	/**
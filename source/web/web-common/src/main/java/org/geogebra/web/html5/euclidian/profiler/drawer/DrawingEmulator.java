@@ -21,8 +21,8 @@ import java.util.List;
 import javax.annotation.CheckForNull;
 
 import org.geogebra.common.move.ggtapi.models.json.JSONException;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.web.html5.euclidian.MouseTouchGestureControllerW;
 import org.geogebra.web.html5.euclidian.profiler.coords.Coordinate;
 import org.geogebra.web.html5.euclidian.profiler.coords.CoordinatesParser;
@@ -73,8 +73,11 @@ public class DrawingEmulator {
 	}
 
 	private void drawWithFpsProfiling() {
+		MetricsRegistry metrics = mouseTouchGestureController.getApp().getMetrics();
+		boolean wasEnabled = metrics.isEnabled();
+		metrics.setEnabled(true);
 		doDraw();
-		endDrawing();
+		endDrawing(wasEnabled);
 	}
 
 	private void doDraw() {
@@ -100,12 +103,14 @@ public class DrawingEmulator {
 		}
 	}
 
-	private void endDrawing() {
+	private void endDrawing(boolean metricsWereEnabled) {
 		new Timer() {
 			@Override
 			public void run() {
 				sleepIntervalSum = 0;
-				GeoGebraProfiler.printDragMeasurementData();
+				MetricsRegistry metrics = mouseTouchGestureController.getApp().getMetrics();
+				Log.debug(metrics.toJSON());
+				metrics.setEnabled(metricsWereEnabled);
 			}
 		}.schedule(sleepIntervalSum);
 	}
@@ -21,7 +21,6 @@ import org.geogebra.common.util.GTimer;
 import org.geogebra.common.util.GTimerListener;
 import org.geogebra.common.util.HttpRequest;
 import org.geogebra.common.util.Prover;
-import org.geogebra.common.util.Reflection;
 import org.geogebra.common.util.URLEncoder;
 import org.geogebra.web.html5.euclidian.profiler.FpsProfilerW;
 import org.geogebra.web.html5.sound.GTimerW;
@@ -57,13 +56,6 @@ public class UtilFactoryW extends UtilFactory {
 		return FpsProfilerW.getMillisecondTimeNative();
 	}
 
-	@Override
-	public Reflection newReflection(Class clazz) {
-		// used by BatchedUpdateWrapper
-		// not needed currently
-		return null;
-	}
-
 	@Override
 	public GTimer newTimer(GTimerListener listener, int delay) {
 		return new GTimerW(listener, delay);
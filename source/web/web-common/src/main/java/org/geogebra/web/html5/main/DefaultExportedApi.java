@@ -929,6 +929,46 @@ public class DefaultExportedApi implements ExportedApi {
 		getGgbAPI().disableFpsMeasurement();
 	}
 
+	public void enableMetrics() {
+		getGgbAPI().enableMetrics();
+	}
+
+	public void disableMetrics() {
+		getGgbAPI().disableMetrics();
+	}
+
+	public String getMetrics() {
+		return getGgbAPI().getMetrics();
+	}
+
+	public void resetMetrics() {
+		getGgbAPI().resetMetrics();
+	}
+
+	public void enableAlgoProfiling() {
+		getGgbAPI().enableAlgoProfiling();
+	}
+
+	public void disableAlgoProfiling() {
+		getGgbAPI().disableAlgoProfiling();
+	}
+
+	public String getAlgoProfile(int limit) {
+		return getGgbAPI().getAlgoProfile(limit);
+	}
+
+	public String getAlgoProfileCollapsed() {
+		return getGgbAPI().getAlgoProfileCollapsed();
+	}
+
+	public String getProverStatistics() {
+		return getGgbAPI().getProverStatistics();
+	}
+
+	public void resetProverStatistics() {
+		getGgbAPI().resetProverStatistics();
+	}
+
 	public void testDraw() {
 		getGgbAPI().testDraw();
 	}
@@ -102,6 +102,16 @@ public class ScientificFormat implements ScientificFormatAdapter {
 		maxWidth = mWidth;
 	}
 
+	@Override
+	public int getMaxWidth() {
+		return maxWidth;
+	}
+
+	@Override
+	public boolean isScientificNotationStyle() {
+		return sciNote;
+	}
+
 	/**
 	 * Sets the format style used. There are two output styles: Pure and
 	 * Standard scientific notation. Pure formatted numbers have precisely the
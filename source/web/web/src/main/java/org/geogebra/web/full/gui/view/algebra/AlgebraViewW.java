@@ -51,8 +51,8 @@ import org.geogebra.common.main.settings.AlgebraStyle;
 import org.geogebra.common.main.settings.SettingListener;
 import org.geogebra.common.ownership.GlobalScope;
 import org.geogebra.common.plugin.EventType;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.editor.share.event.KeyEvent;
 import org.geogebra.editor.share.util.GWTKeycodes;
 import org.geogebra.web.full.gui.GuiManagerW;
@@ -416,7 +416,7 @@ public class AlgebraViewW extends Tree implements LayerView, AlgebraView,
 	 */
 	@Override
 	public void update(GeoElement geo) {
-		long start = System.currentTimeMillis();
+		double start = app.getMetrics().now();
 		RadioTreeItem item = nodeTable.get(geo);
 
 		if (item != null) {
@@ -426,7 +426,7 @@ public class AlgebraViewW extends Tree implements LayerView, AlgebraView,
 				updateItemFor(geo);
 			}
 		}
-		GeoGebraProfiler.addAlgebra(System.currentTimeMillis() - start);
+		app.getMetrics().recordSince(MetricsRegistry.ALGEBRA_VIEW, start);
 	}
 
 	private void repaint(RadioTreeItem item) {
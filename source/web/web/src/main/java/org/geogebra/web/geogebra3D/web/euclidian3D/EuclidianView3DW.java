@@ -35,8 +35,8 @@ import org.geogebra.common.kernel.commands.CommandNotLoadedError;
 import org.geogebra.common.main.App.ExportType;
 import org.geogebra.common.main.settings.EuclidianSettings;
 import org.geogebra.common.util.DoubleUtil;
-import org.geogebra.common.util.debug.GeoGebraProfiler;
 import org.geogebra.common.util.debug.Log;
+import org.geogebra.common.util.profiler.MetricsRegistry;
 import org.geogebra.gwtutil.NavigatorUtil;
 import org.geogebra.web.awt.GGraphics2DW;
 import org.geogebra.web.awt.GGraphics2DWI;
@@ -427,6 +427,7 @@ public class EuclidianView3DW extends EuclidianView3D implements
 			return;
 		}
 		long time = System.currentTimeMillis();
+		double start = app.getMetrics().now();
 		// ((DrawEquationWeb) this.app.getDrawEquation()).clearLaTeXes(this);
 		this.updateBackgroundIfNecessary();
 
@@ -436,7 +437,8 @@ public class EuclidianView3DW extends EuclidianView3D implements
 		}
 
 		lastRepaint = System.currentTimeMillis() - time;
-		GeoGebraProfiler.addRepaint(lastRepaint);
+		app.getMetrics().recordSince(MetricsRegistry.REPAINT + getViewID(),
+				start);
 
 		if (objectsWaitingForNewRepaint > 0) {
 			waitForRepaint = TimerSystemW.EUCLIDIAN_LOOPS;